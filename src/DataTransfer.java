@@ -0,0 +1,72 @@
+import gateway.BulkDataGateway;
+import gateway.DataFormat;
+import gateway.GatewaysObject;
+import gateway.TransferResult;
+import system.ManagerParameterObject;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This class is the entry point for importing and exporting the program's data in bulk, without using the console
+ * menus.
+ * <p></p>
+ * Usage: <code>java DataTransfer (import | export) (csv | json) directory</code>. Importing reads the files named
+ * <code>users</code>, <code>rooms</code>, <code>events</code>, <code>messages</code> and <code>requests</code> that
+ * exist in the directory, with the extension <code>.csv</code> or <code>.jsonl</code>, and saves the result.
+ * Exporting writes all of these files. Nothing is transferred if the saved data cannot be loaded, so that it is never
+ * replaced by an import into empty managers.
+ *
+ * @see BulkDataGateway
+ */
+public class DataTransfer {
+    private static final String USAGE = "Usage: java DataTransfer (import | export) (csv | json) directory";
+
+    /**
+     * Imports or exports the program's data as directed by the command-line arguments. The program exits with status
+     * 1 if the saved data cannot be loaded, a file cannot be read or written, or the imported data cannot be saved.
+     * Saved data is only written once an import has read every file.
+     *
+     * @param args the direction of the transfer, the format of the files, and the directory holding the files
+     */
+    public static void main(String[] args) {
+        if (args.length != 3 || !(args[0].equals("import") || args[0].equals("export"))
+                || !(args[1].equals("csv") || args[1].equals("json"))) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        DataFormat format = DataFormat.valueOf(args[1].toUpperCase(Locale.ROOT));
+        BulkDataGateway bulkGateway = new BulkDataGateway(Paths.get(args[2]), format);
+        GatewaysObject gateways = new GatewaysObject();
+        ManagerParameterObject managers = null;
+        try {
+            managers = gateways.loadManagers();
+        } catch (IOException e) {
+            fail("The saved data could not be loaded, so nothing was transferred: " + e.getMessage());
+        }
+        List<TransferResult> results = null;
+        try {
+            if (args[0].equals("import")) {
+                results = bulkGateway.importManagers(managers);
+            } else {
+                results = bulkGateway.exportManagers(managers);
+            }
+        } catch (IOException e) {
+            fail("The " + args[0] + " failed, so the saved data was not changed: " + e.getMessage());
+        }
+        if (args[0].equals("import") && !gateways.writeManagers(managers)) {
+            fail("The imported data could not be saved.");
+        }
+        for (TransferResult result : results) {
+            System.out.printf("%s: %d %sed, %d skipped%n", result.getKind(), result.getTransferred(), args[0],
+                    result.getSkipped());
+        }
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}
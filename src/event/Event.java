@@ -9,6 +9,7 @@ import java.util.List;
  * The <code>Event</code> class represents a event in the conference regulated by the program.
  */
 public class Event implements Serializable {
+    private static final long serialVersionUID = 4305706519998699787L;
 
     private final String title;
     private final LocalDateTime startTime;
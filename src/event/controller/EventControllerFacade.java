@@ -8,6 +8,7 @@ import system.console.ConsoleInputController;
 
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Predicate;
 
 /**
  * The <code>EventController</code> class is responsible for processing requests involving event data.
@@ -18,6 +19,7 @@ public class EventControllerFacade extends ConsoleInputController<EventPrompts>
 
     private final EventManipulationController eventManipulationController;
     private final EventInformationController eventInformationController;
+    private final RoomManager roomManager;
 
     /**
      * Constructs a controller to process the current user's requests involving events in the conference.
@@ -31,6 +33,7 @@ public class EventControllerFacade extends ConsoleInputController<EventPrompts>
         EventPresenter eventPresenter = new EventPresenter();
         eventManipulationController = new EventManipulationController(in, eventManager, roomManager, eventPresenter);
         eventInformationController = new EventInformationController(in, eventManager, eventPresenter);
+        this.roomManager = roomManager;
     }
 
     //<editor-fold desc="Manipulating Existing Events">
@@ -109,6 +112,16 @@ public class EventControllerFacade extends ConsoleInputController<EventPrompts>
         eventManipulationController.addNewEvent();
     }
 
+    /**
+     * Processes an organizer's request to add a batch of events whose start times and rooms are chosen by the
+     * program. The events are placed in any of the conference's rooms on the days that the user enters.
+     *
+     * @param isSpeaker a function that returns true iff its argument is the username of a speaker
+     */
+    public void scheduleNewEvents(Predicate<String> isSpeaker) {
+        eventManipulationController.scheduleNewEvents(roomManager.getRoomInformation(), isSpeaker);
+    }
+
     /**
      * Gets a title, start time and roomID for an event and deletes it from the conference if it exists
      */
@@ -157,6 +170,14 @@ public class EventControllerFacade extends ConsoleInputController<EventPrompts>
     public void viewReviews() {
         eventInformationController.viewReviews();
     }
+
+    /**
+     * Displays every room or speaker that is booked for two events at once, and every event that does not fit in
+     * its room.
+     */
+    public void auditSchedule() {
+        eventInformationController.auditSchedule(roomManager.getRoomInformation());
+    }
     //</editor-fold>
 
     //<editor-fold desc="Getting Information About Events">
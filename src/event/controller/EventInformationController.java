@@ -7,6 +7,7 @@ import system.console.ConsoleInputController;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
@@ -129,6 +130,23 @@ public class EventInformationController extends ConsoleInputController<EventProm
         return eventManager.getAttendees(eventTitle);
     }
 
+    /**
+     * Processes an organizer's request to audit the schedule. This method displays every pair of events that use
+     * the same room or speaker at overlapping times, and every event whose capacity is larger than its room's.
+     *
+     * @param roomCapacities a map of the room numbers of all rooms to their capacities
+     */
+    public void auditSchedule(Map<Integer, Integer> roomCapacities) {
+        eventPresenter.displayScheduleConflicts(eventManager.getScheduleConflicts());
+        List<String> overCapacity = eventManager.getEventsExceedingRoomCapacity(roomCapacities);
+        eventPresenter.displayOverCapacityHeading(overCapacity.isEmpty());
+        for (String title : overCapacity) {
+            int roomID = eventManager.getRoomID(title);
+            eventPresenter.displayEventOverCapacity(title, eventManager.getCapacity(title), roomID,
+                    roomCapacities.get(roomID));
+        }
+    }
+
     /**
      * Processes the user's request to display reviews for an event.
      * This method accepts input for an event title and displays its reviews if an event is found.
@@ -8,9 +8,13 @@ import event.presenter.EventPrompts;
 import room.RoomManager;
 import system.console.ConsoleInputController;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.function.Predicate;
 
 /**
  * The <code>EventManipulatorController</code> class is responsible for changing information about events in the
@@ -59,6 +63,38 @@ public class EventManipulationController extends ConsoleInputController<EventPro
         parameters.ifPresent(this::processEventAddition);
     }
 
+    /**
+     * Processes an organizer's request to add a batch of events whose start times and rooms are chosen by the
+     * program. This method reads the number of events, the days on which they can be held and a description of each
+     * event, then creates the events that can be placed and displays the titles of those that cannot.
+     *
+     * @param roomCapacities a map of the room numbers of the rooms that can be used to their capacities
+     * @param isSpeaker      a function that returns true iff its argument is the username of a speaker
+     */
+    public void scheduleNewEvents(Map<Integer, Integer> roomCapacities, Predicate<String> isSpeaker) {
+        int eventCount = promptInt(EventPrompts.SCHEDULE_EVENT_COUNT_PROMPT, EventPrompts.INVALID_COUNT_ERROR,
+                n -> n > 0);
+        LocalDate firstDay = promptDate(EventPrompts.SCHEDULE_FIRST_DAY_PROMPT, EventPrompts.INVALID_INPUT_DATE);
+        int dayCount = promptInt(EventPrompts.SCHEDULE_DAY_COUNT_PROMPT, EventPrompts.INVALID_COUNT_ERROR,
+                n -> n > 0);
+        List<LocalDate> days = new ArrayList<>();
+        for (int i = 0; i < dayCount; i++) {
+            days.add(firstDay.plusDays(i));
+        }
+        List<EventParameterObject> events = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            validator.validateUnscheduled(isSpeaker).ifPresent(events::add);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        List<String> unplacedTitles = new ArrayList<>();
+        for (EventParameterObject event : eventManager.scheduleEvents(events, roomCapacities, days)) {
+            unplacedTitles.add(event.getTitle());
+        }
+        eventPresenter.displayScheduledEvents(events.size() - unplacedTitles.size(), unplacedTitles);
+    }
+
     /**
      * Gets a title, start time and roomID for an event and deletes it from the conference if it exists
      */
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 /**
  * The <code>EventValidationController</code> is responsible for validating the input given by the user to create
@@ -19,6 +20,7 @@ import java.util.function.BooleanSupplier;
  */
 public class EventValidationController extends ConsoleInputController<EventPrompts> {
     private final List<BooleanSupplier> validators;
+    private final List<BooleanSupplier> unscheduledValidators;
     private final EventManagerFacade eventManager;
     private final RoomManager roomManager;
     private final EventPresenter eventPresenter;
@@ -26,6 +28,10 @@ public class EventValidationController extends ConsoleInputController<EventPromp
      * Stores the current parameters for the event being constructed.
      */
     private EventParameterObject parameters;
+    /**
+     * Returns true iff its argument is the username of a speaker, for the event being constructed.
+     */
+    private Predicate<String> isSpeaker;
 
     /**
      * Constructs a new <code>EventValidationController</code> object.
@@ -42,6 +48,7 @@ public class EventValidationController extends ConsoleInputController<EventPromp
         this.roomManager = roomManager;
         this.eventPresenter = eventPresenter;
         this.validators = initializeValidators();
+        this.unscheduledValidators = initializeUnscheduledValidators();
     }
 
     /**
@@ -61,6 +68,23 @@ public class EventValidationController extends ConsoleInputController<EventPromp
         );
     }
 
+    /**
+     * Returns a list of methods that can be called to validate the user's input for an event whose start time and
+     * room are chosen later.
+     *
+     * @return a list of validator methods
+     */
+    private List<BooleanSupplier> initializeUnscheduledValidators() {
+        return new ArrayList<>(
+                Arrays.asList(this::validateTitle,
+                        this::validateVip,
+                        this::validateSpeakerCapacity,
+                        this::validateEventCapacity,
+                        this::validateEventDuration,
+                        this::validateSpeakers)
+        );
+    }
+
     /**
      * Reads the user's input for creating a new event and returns a <code>EventParameterObject</code> containing
      * this information if it is valid.
@@ -69,6 +93,23 @@ public class EventValidationController extends ConsoleInputController<EventPromp
      * <code>Optional</code> if the user's input was not valid
      */
     protected Optional<EventParameterObject> validate() {
+        return validate(validators);
+    }
+
+    /**
+     * Reads the user's input for a new event whose start time and room are chosen later, including its speakers, and
+     * returns a <code>EventParameterObject</code> containing this information if it is valid.
+     *
+     * @param isSpeaker a function that returns true iff its argument is the username of a speaker
+     * @return a <code>EventParameterObject</code> containing the information provided by the user, or an empty
+     * <code>Optional</code> if the user's input was not valid
+     */
+    protected Optional<EventParameterObject> validateUnscheduled(Predicate<String> isSpeaker) {
+        this.isSpeaker = isSpeaker;
+        return validate(unscheduledValidators);
+    }
+
+    private Optional<EventParameterObject> validate(List<BooleanSupplier> validators) {
         parameters = new EventParameterObject();
         for (BooleanSupplier validator : validators) {
             if (!validator.getAsBoolean()) {
@@ -180,11 +221,24 @@ public class EventValidationController extends ConsoleInputController<EventPromp
      * Returns true if given room ID corresponds to a room that a new event cannot be scheduled in.
      * An event cannot be scheduled in a room if the room has an event scheduled in it at the given time or
      * the given number of attendees exceeds the room's maximum capacity.
+     * <p></p>
+     * Before the room is read, the smallest room that is free at the given time and can hold the event is suggested
+     * to the user, who can choose it by entering 0.
      *
      * @return <code>true</code> iff if the room corresponds to a valid room
      */
     private boolean validateRoomForEvent() {
-        int roomID = promptInt(EventPrompts.EVENT_ROOM_ID_PROMPT, EventPrompts.INPUT_NOT_INT_ERROR);
+        Optional<Integer> suggestedRoom = roomManager.findBestFitRoom(parameters.getEventCapacity(),
+                id -> !eventManager.roomIsBooked(id, parameters.getStartTime(), parameters.getDuration()));
+        if (!suggestedRoom.isPresent()) {
+            eventPresenter.display(EventPrompts.NO_FREE_ROOM_ERROR);
+            return false;
+        }
+        eventPresenter.displaySuggestedRoom(suggestedRoom.get());
+        int roomID = promptInt(EventPrompts.SUGGESTED_ROOM_ID_PROMPT, EventPrompts.INPUT_NOT_INT_ERROR);
+        if (roomID == 0) {
+            roomID = suggestedRoom.get();
+        }
         if (!roomManager.roomExists(roomID)) {
             eventPresenter.display(EventPrompts.ROOM_NOT_FOUND_ERROR);
             return false;
@@ -198,5 +252,33 @@ public class EventValidationController extends ConsoleInputController<EventPromp
         parameters.setRoomID(roomID);
         return true;
     }
+
+    /**
+     * Returns true if every username in the comma-separated list that the user enters is the username of a speaker,
+     * and there are no more of them than the speaker capacity. If the speakers were valid, sets them in
+     * <code>parameters</code>.
+     *
+     * @return <code>true</code> iff the given speakers are valid speakers for the event
+     */
+    private boolean validateSpeakers() {
+        List<String> speakers = new ArrayList<>();
+        for (String speaker : promptString(EventPrompts.EVENT_SPEAKERS_PROMPT).split(",")) {
+            speaker = speaker.trim();
+            if (speaker.isEmpty() || speakers.contains(speaker)) {
+                continue;
+            }
+            if (!isSpeaker.test(speaker)) {
+                eventPresenter.display(EventPrompts.NO_SUCH_SPEAKER_USERNAME);
+                return false;
+            }
+            speakers.add(speaker);
+        }
+        if (speakers.size() > parameters.getSpeakerCapacity()) {
+            eventPresenter.display(EventPrompts.SPEAKER_ADD_ERROR);
+            return false;
+        }
+        parameters.setSpeakers(speakers);
+        return true;
+    }
     //</editor-fold>
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package event.manager;
+
+import event.Event;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * This class keeps the events that each user is signed up for, ordered by start time, so that an event that overlaps
+ * a new one can be found without looking at the rest of the user's events.
+ * <p></p>
+ * An event that overlaps a new one must start before the new event ends, and no more than the length of the user's
+ * longest event before the new event starts. Only the user's events that start in this window are checked. Users
+ * cannot sign up for overlapping events, so this is usually one or two events. It still finds every clash for users
+ * who were signed up for overlapping events in data saved by earlier versions of the program.
+ */
+class AttendeeSchedules {
+    /**
+     * Maps each username to a map from each start time to the events starting at that time that the user is signed
+     * up for.
+     */
+    private final Map<String, NavigableMap<LocalDateTime, List<Event>>> schedules;
+    /**
+     * Maps each username to the duration, in minutes, of the longest event that the user has been signed up for.
+     */
+    private final Map<String, Integer> longestDurations;
+
+    /**
+     * Creates a new <code>AttendeeSchedules</code> in which no user is signed up for any event.
+     */
+    AttendeeSchedules() {
+        this.schedules = new HashMap<>();
+        this.longestDurations = new HashMap<>();
+    }
+
+    /**
+     * Records that a user is signed up for an event.
+     *
+     * @param username the username of the user
+     * @param event    the event
+     */
+    void add(String username, Event event) {
+        schedules.computeIfAbsent(username, k -> new TreeMap<>())
+                .computeIfAbsent(event.getStartTime(), k -> new ArrayList<>(1)).add(event);
+        longestDurations.merge(username, event.getDuration(), Math::max);
+    }
+
+    /**
+     * Records that a user is no longer signed up for an event.
+     *
+     * @param username the username of the user
+     * @param event    the event
+     */
+    void remove(String username, Event event) {
+        NavigableMap<LocalDateTime, List<Event>> schedule = schedules.get(username);
+        if (schedule == null) {
+            return;
+        }
+        List<Event> events = schedule.get(event.getStartTime());
+        if (events != null) {
+            events.remove(event);
+            if (events.isEmpty()) {
+                schedule.remove(event.getStartTime());
+            }
+        }
+        if (schedule.isEmpty()) {
+            schedules.remove(username);
+            longestDurations.remove(username);
+        }
+    }
+
+    /**
+     * Returns the titles of the events that a user is signed up for, in order of start time.
+     *
+     * @param username the username of the user
+     * @return the titles of the user's events
+     */
+    List<String> getEventTitles(String username) {
+        List<String> titles = new ArrayList<>();
+        for (List<Event> events : schedules.getOrDefault(username, Collections.emptyNavigableMap()).values()) {
+            for (Event event : events) {
+                titles.add(event.getTitle());
+            }
+        }
+        return titles;
+    }
+
+    /**
+     * Returns an event that a user is signed up for that overlaps the given period.
+     *
+     * @param username  the username of the user
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return the title of an overlapping event, or an empty <code>Optional</code> if there is none
+     */
+    Optional<String> findClash(String username, LocalDateTime startTime, int duration) {
+        NavigableMap<LocalDateTime, List<Event>> schedule = schedules.get(username);
+        if (schedule == null) {
+            return Optional.empty();
+        }
+        LocalDateTime earliestStart = startTime.minusMinutes(longestDurations.get(username));
+        for (List<Event> events : schedule.subMap(earliestStart, false, startTime.plusMinutes(duration), false)
+                .descendingMap().values()) {
+            for (Event event : events) {
+                if (event.getStartTime().plusMinutes(event.getDuration()).isAfter(startTime)) {
+                    return Optional.of(event.getTitle());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,17 @@
+package event.manager;
+
+/**
+ * This enum contains the reasons that an event in a batch of new events cannot be created.
+ */
+public enum EventCreationError {
+    DUPLICATE_TITLE,
+    INVALID_START_TIME,
+    INVALID_SPEAKER_CAPACITY,
+    TOO_MANY_SPEAKERS,
+    INVALID_EVENT_CAPACITY,
+    INVALID_DURATION,
+    ROOM_NOT_FOUND,
+    ROOM_TOO_SMALL,
+    ROOM_IS_BOOKED,
+    SPEAKER_IS_BOOKED
+}
@@ -16,6 +16,7 @@ import java.io.Serializable;
  * @see Event
  */
 class EventFactory implements Serializable {
+    private static final long serialVersionUID = -1875357088010953079L;
 
     /**
      * Returns a new <code>Event</code> object with the information given by <code>eventInfo</code>.
@@ -2,16 +2,18 @@ package event.manager;
 
 import event.Event;
 import event.EventType;
+import javafx.util.Pair;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * The <code>EventInformationManager</code> is responsible for getting information about events from the event entities.
  */
 public class EventInformationManager implements Serializable {
+    private static final long serialVersionUID = 6063672928170455720L;
+
     private final IEventRepository eventRepository;
 
     /**
@@ -36,6 +38,22 @@ public class EventInformationManager implements Serializable {
         return titles;
     }
 
+    /**
+     * Returns the time at which the last event of the conference ends, or <code>null</code> if there are no events.
+     *
+     * @return the time at which the last event ends, or <code>null</code> if there are no events
+     */
+    public LocalDateTime getConferenceEndTime() {
+        LocalDateTime conferenceEnd = null;
+        for (Event event : eventRepository.getEvents()) {
+            LocalDateTime eventEnd = event.getStartTime().plusMinutes(event.getDuration());
+            if (conferenceEnd == null || eventEnd.isAfter(conferenceEnd)) {
+                conferenceEnd = eventEnd;
+            }
+        }
+        return conferenceEnd;
+    }
+
     /**
      * Gets a list of usernames corresponding to attendees that are signed up for the event with the given title.
      *
@@ -46,6 +64,19 @@ public class EventInformationManager implements Serializable {
         return eventRepository.getEventWithTitle(eventTitle).getAttendees();
     }
 
+    /**
+     * Gets a list of the usernames of at most <code>limit</code> attendees that are signed up for the event with the
+     * given title, in the order that they signed up.
+     *
+     * @param eventTitle the title of the event whose list of attendees is being checked
+     * @param limit      the maximum number of usernames to return
+     * @return a list of at most <code>limit</code> usernames of attendees of the event
+     */
+    public List<String> getAttendees(String eventTitle, int limit) {
+        List<String> attendees = eventRepository.getEventWithTitle(eventTitle).getAttendees();
+        return new ArrayList<>(attendees.subList(0, Math.min(limit, attendees.size())));
+    }
+
     /**
      * Returns true if there exists an event with the given title.
      *
@@ -104,6 +135,28 @@ public class EventInformationManager implements Serializable {
         return eventRepository.getEventWithTitle(eventTitle).getCapacity();
     }
 
+    /**
+     * Returns the speaker capacity for the given event.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param eventTitle the title of the event
+     * @return the maximum number of speakers at the event
+     */
+    public int getSpeakerCapacity(String eventTitle) {
+        return eventRepository.getEventWithTitle(eventTitle).getSpeakerCapacity();
+    }
+
+    /**
+     * Returns the room number of the room the given event is held in.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param eventTitle the title of the event
+     * @return the room number of the event's room
+     */
+    public int getRoomID(String eventTitle) {
+        return eventRepository.getEventWithTitle(eventTitle).getRoomID();
+    }
+
 
     /**
      * Returns the usernames of the speakers for the given event.
@@ -191,16 +244,23 @@ public class EventInformationManager implements Serializable {
      * Returns a list of the events that the given user is signed up for.
      *
      * @param username the username of the user whose event schedule is being checked
-     * @return a list of the events that the given user is signed up for
+     * @return a list of the events that the given user is signed up for, in order of start time
      */
     public List<String> getSignedUpEvents(String username) {
-        List<String> eventsByUser = new ArrayList<>();
-        for (Event event : eventRepository.getEvents()) {
-            if (event.getAttendees().contains(username)) {
-                eventsByUser.add(event.getTitle());
-            }
-        }
-        return eventsByUser;
+        return eventRepository.getAttendedEvents(username);
+    }
+
+    /**
+     * Returns an event that the given user is signed up for that overlaps the event with the given title.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param username   the username of the user
+     * @param eventTitle the title of the event
+     * @return the title of an overlapping event, or an empty <code>Optional</code> if there is none
+     */
+    public Optional<String> getClashingEvent(String username, String eventTitle) {
+        Event event = eventRepository.getEventWithTitle(eventTitle);
+        return eventRepository.findAttendeeClash(username, event.getStartTime(), event.getDuration());
     }
 
     /**
@@ -236,19 +296,7 @@ public class EventInformationManager implements Serializable {
      * @return true if the room is booked at the given time
      */
     public boolean roomIsBooked(int roomID, LocalDateTime startTime, int duration) {
-        for (Event event : eventRepository.getEvents()) {
-            if (event.getRoomID() == roomID) {
-                LocalDateTime existingEventTime = event.getStartTime();
-                for (int minute = 0; minute <= duration; minute++) {
-                    // if any minute in startTime + duration is after an existing starttime and before a corresponding existing endtime, then speaker is booked
-                    if (startTime.plusMinutes(minute).isAfter(existingEventTime) &&
-                            startTime.plusMinutes(minute).isBefore(existingEventTime.plusMinutes(event.getDuration()))) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return !eventRepository.isRoomFree(roomID, startTime, duration);
     }
 
     /**
@@ -257,13 +305,114 @@ public class EventInformationManager implements Serializable {
      * @return true if an event is occurring in the given room
      */
     public boolean roomHasAnEvent(int roomID) {
+        return eventRepository.roomHasEvents(roomID);
+    }
+
+    /**
+     * Returns the rooms among <code>roomIDs</code> that have no event scheduled at any time during the given period.
+     *
+     * @param roomIDs   the room numbers of the rooms to check
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return the room numbers of the free rooms, in the order of <code>roomIDs</code>
+     */
+    public List<Integer> getFreeRooms(Collection<Integer> roomIDs, LocalDateTime startTime, int duration) {
+        List<Integer> freeRooms = new ArrayList<>();
+        for (Integer roomID : roomIDs) {
+            if (eventRepository.isRoomFree(roomID, startTime, duration)) {
+                freeRooms.add(roomID);
+            }
+        }
+        return freeRooms;
+    }
+
+    /**
+     * Returns the longest period between two times on the same day during which the given room has no event.
+     *
+     * @param roomID the room number of the room
+     * @param from   the start of the times to search
+     * @param to     the end of the times to search
+     * @return the start and length in minutes of the longest free period, with a length of 0 if the room is booked
+     * for the whole time
+     */
+    public Pair<LocalDateTime, Integer> getLongestFreePeriod(int roomID, LocalDateTime from, LocalDateTime to) {
+        return eventRepository.getLongestFreePeriod(roomID, from, to);
+    }
+
+    //<editor-fold desc="Auditing the Schedule">
+
+    /**
+     * Returns every pair of events that are held in the same room, or that share a speaker, at overlapping times.
+     * Conflicts in rooms are listed before conflicts between speakers. The conflicts are grouped by room, in order of
+     * room number, and then by speaker, in alphabetical order. Within each room or speaker, they are ordered by the
+     * start time of the later event in each pair, so the list as a whole is not ordered by time.
+     * <p></p>
+     * The events are sorted by start time once and split by room and by speaker. Each part is then swept in order,
+     * keeping the events that have started but not ended in a queue ordered by end time, so that every event is only
+     * compared with the events it overlaps. This takes O(n log n + k) time for n events and k conflicts.
+     *
+     * @return a list of the conflicting pairs of events
+     */
+    public List<ScheduleConflict> getScheduleConflicts() {
+        List<Event> events = new ArrayList<>(eventRepository.getEvents());
+        events.sort(Comparator.comparing(Event::getStartTime));
+        Map<Integer, List<Event>> eventsByRoom = new TreeMap<>();
+        Map<String, List<Event>> eventsBySpeaker = new TreeMap<>();
+        for (Event event : events) {
+            eventsByRoom.computeIfAbsent(event.getRoomID(), k -> new ArrayList<>()).add(event);
+            for (String speaker : new HashSet<>(event.getSpeakers())) {
+                eventsBySpeaker.computeIfAbsent(speaker, k -> new ArrayList<>()).add(event);
+            }
+        }
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        for (Map.Entry<Integer, List<Event>> room : eventsByRoom.entrySet()) {
+            findOverlaps("room " + room.getKey(), room.getValue(), conflicts);
+        }
+        for (Map.Entry<String, List<Event>> speaker : eventsBySpeaker.entrySet()) {
+            findOverlaps("speaker " + speaker.getKey(), speaker.getValue(), conflicts);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Adds a conflict to <code>conflicts</code> for every pair of overlapping events in <code>events</code>.
+     * Precondition: <code>events</code> is sorted by start time.
+     */
+    private void findOverlaps(String resource, List<Event> events, List<ScheduleConflict> conflicts) {
+        PriorityQueue<Event> ongoing = new PriorityQueue<>(Comparator.comparing(this::getEndTime));
+        for (Event event : events) {
+            while (!ongoing.isEmpty() && !getEndTime(ongoing.peek()).isAfter(event.getStartTime())) {
+                ongoing.poll();
+            }
+            for (Event earlier : ongoing) {
+                conflicts.add(new ScheduleConflict(resource, earlier.getTitle(), event.getTitle()));
+            }
+            ongoing.add(event);
+        }
+    }
+
+    private LocalDateTime getEndTime(Event event) {
+        return event.getStartTime().plusMinutes(event.getDuration());
+    }
+
+    /**
+     * Returns the titles of the events whose capacity is larger than the capacity of their room, or whose room does
+     * not exist.
+     *
+     * @param roomCapacities a map of the room numbers of all rooms to their capacities
+     * @return the titles of the events that do not fit in their rooms
+     */
+    public List<String> getEventsExceedingRoomCapacity(Map<Integer, Integer> roomCapacities) {
+        List<String> eventTitles = new ArrayList<>();
         for (Event event : eventRepository.getEvents()) {
-            if (event.getRoomID() == roomID) {
-                return true;
+            Integer roomCapacity = roomCapacities.get(event.getRoomID());
+            if (roomCapacity == null || event.getCapacity() > roomCapacity) {
+                eventTitles.add(event.getTitle());
             }
         }
-        return false;
+        return eventTitles;
     }
+    //</editor-fold>
 
     /**
      * Returns a list of events titles corresponding to events that are of the specified <code>EventType</code> .
@@ -1,16 +1,22 @@
 package event.manager;
 
 import event.EventType;
+import javafx.util.Pair;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * The <code>EventManager</code> class is responsible for storing event data during program execution. It modifies and
  * accesses information regarding both individual events and the complete list of events as directed.
  */
 public class EventManagerFacade implements Serializable {
+    private static final long serialVersionUID = -8447549439371556157L;
 
     private final EventInformationManager eventInformationManager;
     private final EventManipulationManager eventManipulationManager;
@@ -52,6 +58,15 @@ public class EventManagerFacade implements Serializable {
         return eventInformationManager.getStartTime(eventTitle);
     }
 
+    /**
+     * Returns the time at which the last event of the conference ends, or <code>null</code> if there are no events.
+     *
+     * @return the time at which the last event ends, or <code>null</code> if there are no events
+     */
+    public LocalDateTime getConferenceEndTime() {
+        return eventInformationManager.getConferenceEndTime();
+    }
+
     /**
      * Returns the capacity for the given event.
      * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
@@ -63,6 +78,28 @@ public class EventManagerFacade implements Serializable {
         return eventInformationManager.getCapacity(eventTitle);
     }
 
+    /**
+     * Returns the speaker capacity for the given event.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param eventTitle the title of the event
+     * @return the maximum number of speakers at the event
+     */
+    public int getSpeakerCapacity(String eventTitle) {
+        return eventInformationManager.getSpeakerCapacity(eventTitle);
+    }
+
+    /**
+     * Returns the room number of the room the given event is held in.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param eventTitle the title of the event
+     * @return the room number of the event's room
+     */
+    public int getRoomID(String eventTitle) {
+        return eventInformationManager.getRoomID(eventTitle);
+    }
+
     /**
      * Returns the usernames of the speakers for the given event.
      * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
@@ -104,6 +141,18 @@ public class EventManagerFacade implements Serializable {
         return eventInformationManager.getAttendees(eventTitle);
     }
 
+    /**
+     * Gets a list of the usernames of at most <code>limit</code> attendees that are signed up for the event with the
+     * given title, in the order that they signed up.
+     *
+     * @param eventTitle the title of the event whose list of attendees is being checked
+     * @param limit      the maximum number of usernames to return
+     * @return a list of at most <code>limit</code> usernames of attendees of the event
+     */
+    public List<String> getAttendees(String eventTitle, int limit) {
+        return eventInformationManager.getAttendees(eventTitle, limit);
+    }
+
     /**
      * Returns true if there exists an event with the given title.
      *
@@ -154,7 +203,7 @@ public class EventManagerFacade implements Serializable {
     }
 
     /**
-     * Returns a list of the events that the given user is signed up for.
+     * Returns a list of the events that the given user is signed up for, in order of start time.
      *
      * @param username the username of the user whose event schedule is being checked
      * @return a list of the events that the given user is signed up for
@@ -163,6 +212,18 @@ public class EventManagerFacade implements Serializable {
         return eventInformationManager.getSignedUpEvents(username);
     }
 
+    /**
+     * Returns an event that the given user is signed up for that overlaps the event with the given title.
+     * Precondition: an <code>Event</code> object with the title <code>eventTitle</code> already exists.
+     *
+     * @param username   the username of the user
+     * @param eventTitle the title of the event
+     * @return the title of an overlapping event, or an empty <code>Optional</code> if there is none
+     */
+    public Optional<String> getClashingEvent(String username, String eventTitle) {
+        return eventInformationManager.getClashingEvent(username, eventTitle);
+    }
+
     /**
      * Returns true if the given speaker is booked to speak at an event at the given time of interest.
      *
@@ -196,6 +257,52 @@ public class EventManagerFacade implements Serializable {
         return eventInformationManager.roomHasAnEvent(roomID);
     }
 
+    /**
+     * Returns the rooms among <code>roomIDs</code> that have no event scheduled at any time during the given period.
+     *
+     * @param roomIDs   the room numbers of the rooms to check
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return the room numbers of the free rooms, in the order of <code>roomIDs</code>
+     */
+    public List<Integer> getFreeRooms(Collection<Integer> roomIDs, LocalDateTime startTime, int duration) {
+        return eventInformationManager.getFreeRooms(roomIDs, startTime, duration);
+    }
+
+    /**
+     * Returns the longest period between two times on the same day during which the given room has no event.
+     *
+     * @param roomID the room number of the room
+     * @param from   the start of the times to search
+     * @param to     the end of the times to search
+     * @return the start and length in minutes of the longest free period, with a length of 0 if the room is booked
+     * for the whole time
+     */
+    public Pair<LocalDateTime, Integer> getLongestFreePeriod(int roomID, LocalDateTime from, LocalDateTime to) {
+        return eventInformationManager.getLongestFreePeriod(roomID, from, to);
+    }
+
+    /**
+     * Returns every pair of events that are held in the same room, or that share a speaker, at overlapping times.
+     *
+     * @return a list of the conflicting pairs of events, grouped by room and then by speaker, and ordered by start
+     * time within each room or speaker
+     */
+    public List<ScheduleConflict> getScheduleConflicts() {
+        return eventInformationManager.getScheduleConflicts();
+    }
+
+    /**
+     * Returns the titles of the events whose capacity is larger than the capacity of their room, or whose room does
+     * not exist.
+     *
+     * @param roomCapacities a map of the room numbers of all rooms to their capacities
+     * @return the titles of the events that do not fit in their rooms
+     */
+    public List<String> getEventsExceedingRoomCapacity(Map<Integer, Integer> roomCapacities) {
+        return eventInformationManager.getEventsExceedingRoomCapacity(roomCapacities);
+    }
+
     /**
      * Returns a list of events titles corresponding to events that are of the specified <code>EventType</code> .
      *
@@ -222,6 +329,36 @@ public class EventManagerFacade implements Serializable {
         eventManipulationManager.createEvent(eventParameterObject);
     }
 
+    /**
+     * Validates a batch of new events and, if every event in it is valid, creates all of them. The events are checked
+     * as they would be when created one at a time, against each other as well as the existing events. No event may
+     * name more speakers than its speaker capacity, and none of their speakers may be speaking at two events at once.
+     *
+     * @param events         the parameter objects of the new events
+     * @param roomCapacities a map of the room numbers of the rooms in the conference to their capacities
+     * @return a map from the position in <code>events</code> of each invalid event to the first reason it is invalid,
+     * which is empty iff the events were created
+     */
+    public Map<Integer, EventCreationError> createEvents(List<EventParameterObject> events,
+                                                         Map<Integer, Integer> roomCapacities) {
+        return eventManipulationManager.createEvents(events, roomCapacities);
+    }
+
+    /**
+     * Chooses a start time and room for each of a batch of new events and creates the events that could be placed,
+     * so that no room or speaker is used by two events at once.
+     *
+     * @param events         the parameter objects of the new events, whose start times and rooms are set for the
+     *                       events that are placed
+     * @param roomCapacities a map of the room numbers of the rooms that can be used to their capacities
+     * @param days           the days on which events can be placed
+     * @return the parameter objects of the events that could not be placed, in the order of <code>events</code>
+     */
+    public List<EventParameterObject> scheduleEvents(List<EventParameterObject> events,
+                                                     Map<Integer, Integer> roomCapacities, List<LocalDate> days) {
+        return eventManipulationManager.scheduleEvents(events, roomCapacities, days);
+    }
+
     /**
      * Returns true if there exists an event with the given title and removes that event from the list.
      *
@@ -276,6 +413,22 @@ public class EventManagerFacade implements Serializable {
         return eventManipulationManager.addAttendee(eventTitle, username, !isNotFull(eventTitle));
     }
 
+    /**
+     * Signs a user up for as many of the given events as possible in one pass, skipping events that are full or that
+     * overlap an event the user is signed up for. When two of the given events overlap, the one that starts first is
+     * kept.
+     * Precondition: events with the titles in <code>eventTitles</code> already exist, and the user is not signed up
+     * for any of them.
+     *
+     * @param eventTitles the titles of the events to sign up for
+     * @param username    the username of the attendee
+     * @return a map from each title in <code>eventTitles</code> to the outcome of signing up for it, in order of start
+     * time
+     */
+    public Map<String, SignUpStatus> addAttendeeToEvents(List<String> eventTitles, String username) {
+        return eventManipulationManager.addAttendeeToEvents(eventTitles, username);
+    }
+
     /**
      * Removes the user with the given username from the attendee list of the event with the given title if
      * the user is signed up for the event.
@@ -3,13 +3,16 @@ package event.manager;
 import event.Event;
 
 import java.io.Serializable;
-import java.util.List;
+import java.time.LocalDate;
+import java.util.*;
 
 /**
  * The <code>EventManipulationManager</code> is responsible for modifying event entities, including adding and deleting
  * events, and managing the participants of an existing event.
  */
 public class EventManipulationManager implements Serializable {
+    private static final long serialVersionUID = 6710124486633277694L;
+
     private final IEventRepository eventRepository;
     private final EventFactory eventFactory;
 
@@ -24,12 +27,174 @@ public class EventManipulationManager implements Serializable {
     }
 
     /**
-     * Creates a new event in the conference with the given information.
+     * Creates a new event in the conference with the given information, with the speakers it names.
+     * <p></p>
+     * Precondition: the event names no more speakers than its speaker capacity.
      *
      * @param eventParameterObject a parameter object containing all the information for the event to create
      */
     public void createEvent(EventParameterObject eventParameterObject) {
-        eventRepository.addEvent(eventFactory.getEvent(eventParameterObject));
+        eventRepository.addEvent(buildEvent(eventParameterObject));
+    }
+
+    /**
+     * Validates a batch of new events and, if every event in it is valid, creates all of them. If any event is
+     * invalid, no event is created.
+     * <p></p>
+     * An event is valid if it would pass the checks made when an organizer creates an event: its title is not used by
+     * another event, it starts between 9:00 and 17:59, its capacities and duration are in range, and its room exists,
+     * can hold it and is free for the whole event. In addition, it may not name more speakers than its speaker
+     * capacity, and none of them may be speaking at another event at the same time. Events earlier in the batch count
+     * as existing events for the checks of later ones, unless they are invalid themselves.
+     * <p></p>
+     * The batch is checked in one pass: titles against a set, rooms against the room bookings of the existing events
+     * and a bitmap of the batch's own bookings, and speakers against the schedules of just the speakers in the batch.
+     *
+     * @param events         the parameter objects of the new events
+     * @param roomCapacities a map of the room numbers of the rooms in the conference to their capacities
+     * @return a map from the position in <code>events</code> of each invalid event to the first reason it is invalid,
+     * in order of position, which is empty iff the events were created
+     */
+    public Map<Integer, EventCreationError> createEvents(List<EventParameterObject> events,
+                                                         Map<Integer, Integer> roomCapacities) {
+        Set<String> speakers = new HashSet<>();
+        for (EventParameterObject event : events) {
+            speakers.addAll(event.getSpeakers());
+        }
+        AttendeeSchedules speakerSchedules = new AttendeeSchedules();
+        for (Event event : eventRepository.getEvents()) {
+            for (String speaker : event.getSpeakers()) {
+                if (speakers.contains(speaker)) {
+                    speakerSchedules.add(speaker, event);
+                }
+            }
+        }
+        Set<String> titles = new HashSet<>();
+        RoomOccupancy batchOccupancy = new RoomOccupancy();
+        List<Event> newEvents = new ArrayList<>(events.size());
+        Map<Integer, EventCreationError> errors = new TreeMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            EventParameterObject parameters = events.get(i);
+            EventCreationError error = findCreationError(parameters, roomCapacities, titles, batchOccupancy);
+            if (error != null) {
+                errors.put(i, error);
+                continue;
+            }
+            Event event = buildEvent(parameters);
+            if (hasSpeakerClash(event, speakerSchedules)) {
+                errors.put(i, EventCreationError.SPEAKER_IS_BOOKED);
+                continue;
+            }
+            titles.add(event.getTitle());
+            batchOccupancy.book(event.getRoomID(), event.getStartTime(), event.getDuration());
+            for (String speaker : event.getSpeakers()) {
+                speakerSchedules.add(speaker, event);
+            }
+            newEvents.add(event);
+        }
+        if (errors.isEmpty()) {
+            for (Event event : newEvents) {
+                eventRepository.addEvent(event);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the first reason that an event in a batch cannot be created, apart from clashes between its speakers'
+     * events, or <code>null</code> if there is none.
+     */
+    private EventCreationError findCreationError(EventParameterObject event, Map<Integer, Integer> roomCapacities,
+                                                 Set<String> batchTitles, RoomOccupancy batchOccupancy) {
+        Integer roomCapacity = roomCapacities.get(event.getRoomID());
+        if (batchTitles.contains(event.getTitle()) || eventRepository.eventExists(event.getTitle())) {
+            return EventCreationError.DUPLICATE_TITLE;
+        } else if (event.getStartTime() == null || event.getStartTime().getHour() < 9
+                || event.getStartTime().getHour() > 17) {
+            return EventCreationError.INVALID_START_TIME;
+        } else if (event.getSpeakerCapacity() < 0) {
+            return EventCreationError.INVALID_SPEAKER_CAPACITY;
+        } else if (new HashSet<>(event.getSpeakers()).size() > event.getSpeakerCapacity()) {
+            return EventCreationError.TOO_MANY_SPEAKERS;
+        } else if (event.getEventCapacity() <= 0) {
+            return EventCreationError.INVALID_EVENT_CAPACITY;
+        } else if (event.getDuration() <= 0) {
+            return EventCreationError.INVALID_DURATION;
+        } else if (roomCapacity == null) {
+            return EventCreationError.ROOM_NOT_FOUND;
+        } else if (event.getEventCapacity() > roomCapacity) {
+            return EventCreationError.ROOM_TOO_SMALL;
+        } else if (!eventRepository.isRoomFree(event.getRoomID(), event.getStartTime(), event.getDuration())
+                || !batchOccupancy.isFree(event.getRoomID(), event.getStartTime(), event.getDuration())) {
+            return EventCreationError.ROOM_IS_BOOKED;
+        }
+        return null;
+    }
+
+    private boolean hasSpeakerClash(Event event, AttendeeSchedules speakerSchedules) {
+        for (String speaker : event.getSpeakers()) {
+            if (speakerSchedules.findClash(speaker, event.getStartTime(), event.getDuration()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new event with the given information and each speaker it names.
+     */
+    private Event buildEvent(EventParameterObject eventParameterObject) {
+        Event event = eventFactory.getEvent(eventParameterObject);
+        for (String speaker : eventParameterObject.getSpeakers()) {
+            if (!event.getSpeakers().contains(speaker)) {
+                event.addSpeaker(speaker);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Chooses a start time and room for each of a batch of new events and creates the events that could be placed.
+     * Events are placed so that no room or speaker is used by two events at once, counting the events that already
+     * exist, and each event starts between 9:00 and 17:59 in a room that can hold it.
+     * <p></p>
+     * An event cannot be placed if its title is used by an existing event or an earlier event in the batch.
+     *
+     * @param events         the parameter objects of the new events, whose start times and rooms are set for the
+     *                       events that are placed
+     * @param roomCapacities a map of the room numbers of the rooms that can be used to their capacities
+     * @param days           the days on which events can be placed
+     * @return the parameter objects of the events that could not be placed, in the order of <code>events</code>
+     * @see TimetableSolver
+     */
+    public List<EventParameterObject> scheduleEvents(List<EventParameterObject> events,
+                                                     Map<Integer, Integer> roomCapacities, List<LocalDate> days) {
+        Set<String> titles = new HashSet<>();
+        for (Event event : eventRepository.getEvents()) {
+            titles.add(event.getTitle());
+        }
+        List<EventParameterObject> newEvents = new ArrayList<>();
+        Set<EventParameterObject> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EventParameterObject event : events) {
+            if (titles.add(event.getTitle())) {
+                newEvents.add(event);
+            } else {
+                duplicates.add(event);
+            }
+        }
+        TimetableSolver solver = new TimetableSolver(roomCapacities, days, eventRepository.getEvents());
+        Set<EventParameterObject> unplaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        unplaced.addAll(solver.solve(newEvents));
+        unplaced.addAll(duplicates);
+        List<EventParameterObject> notScheduled = new ArrayList<>();
+        for (EventParameterObject event : events) {
+            if (unplaced.contains(event)) {
+                notScheduled.add(event);
+            } else {
+                createEvent(event);
+            }
+        }
+        return notScheduled;
     }
 
     /**
@@ -72,7 +237,7 @@ public class EventManipulationManager implements Serializable {
      */
     public void removeUserFromEvents(String username, List<String> signedUpEvents) {
         for (String event : signedUpEvents) {
-            eventRepository.getEventWithTitle(event).removeAttendee(username);
+            eventRepository.removeAttendee(event, username);
         }
     }
 
@@ -99,12 +264,46 @@ public class EventManipulationManager implements Serializable {
      */
     public boolean addAttendee(String eventTitle, String username, boolean isFull) {
         if (!isFull) {
-            eventRepository.getEventWithTitle(eventTitle).addAttendee(username);
+            eventRepository.addAttendee(eventTitle, username);
             return true;
         }
         return false;
     }
 
+    /**
+     * Signs a user up for as many of the given events as possible in one pass. The events are taken in order of start
+     * time, and each one is signed up for unless it is full or overlaps an event that the user is already signed up
+     * for, including the events signed up for earlier in the pass. When two of the given events overlap, the one that
+     * starts first is kept.
+     * Precondition: events with the titles in <code>eventTitles</code> already exist, and the user is not signed up
+     * for any of them.
+     *
+     * @param eventTitles the titles of the events to sign up for
+     * @param username    the username of the attendee
+     * @return a map from each title in <code>eventTitles</code> to the outcome of signing up for it, in order of start
+     * time
+     */
+    public Map<String, SignUpStatus> addAttendeeToEvents(List<String> eventTitles, String username) {
+        List<Event> events = new ArrayList<>();
+        for (String title : new LinkedHashSet<>(eventTitles)) {
+            events.add(eventRepository.getEventWithTitle(title));
+        }
+        events.sort(Comparator.comparing(Event::getStartTime));
+        Map<String, SignUpStatus> outcomes = new LinkedHashMap<>();
+        for (Event event : events) {
+            if (event.getAttendees().size() >= event.getCapacity()) {
+                outcomes.put(event.getTitle(), SignUpStatus.EVENT_FULL);
+            } else if (eventRepository.findAttendeeClash(username, event.getStartTime(), event.getDuration())
+                    .isPresent()) {
+                outcomes.put(event.getTitle(), SignUpStatus.TIME_CLASH);
+            } else {
+                eventRepository.addAttendee(event.getTitle(), username);
+                outcomes.put(event.getTitle(), SignUpStatus.SIGNED_UP);
+            }
+        }
+        return outcomes;
+    }
+
     /**
      * Removes the user with the given username from the attendee list of the event with the given title if
      * the user is signed up for the event.
@@ -117,7 +316,7 @@ public class EventManipulationManager implements Serializable {
     public boolean removeAttendee(String eventTitle, String username) {
         Event event = eventRepository.getEventWithTitle(eventTitle);
         if (event.getAttendees().contains(username)) {
-            event.removeAttendee(username);
+            eventRepository.removeAttendee(eventTitle, username);
             return true;
         }
         return false;
@@ -151,7 +350,7 @@ public class EventManipulationManager implements Serializable {
     public void removeUserFromVIPEvents(String username, List<String> signedUpEvents) {
         for (String event : signedUpEvents) {
             if (eventRepository.getEventWithTitle(event).getVip()) {
-                eventRepository.getEventWithTitle(event).removeAttendee(username);
+                eventRepository.removeAttendee(event, username);
             }
         }
     }
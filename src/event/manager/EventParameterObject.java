@@ -3,6 +3,8 @@ package event.manager;
 import event.Event;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The <code>EventParameterObject</code> class defines an object that stores all information needed for event creation.
@@ -21,12 +23,13 @@ public class EventParameterObject {
     private int speakerCapacity;
     private int eventCapacity;
     private int duration;
+    private List<String> speakers;
 
     /**
      * Constructs an empty EventParameterObject to store <code>Event</code> information.
      */
     public EventParameterObject() {
-
+        this.speakers = new ArrayList<>();
     }
 
     /**
@@ -150,4 +153,22 @@ public class EventParameterObject {
     public void setDuration(int duration) {
         this.duration = duration;
     }
+
+    /**
+     * Gets the usernames of the speakers who speak at this event.
+     *
+     * @return the usernames of the speakers of this event
+     */
+    public List<String> getSpeakers() {
+        return speakers;
+    }
+
+    /**
+     * Sets the usernames of the speakers who speak at this event.
+     *
+     * @param speakers the usernames of the speakers of this event
+     */
+    public void setSpeakers(List<String> speakers) {
+        this.speakers = speakers;
+    }
 }
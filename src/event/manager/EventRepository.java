@@ -2,9 +2,15 @@ package event.manager;
 
 import event.Event;
 
+import javafx.util.Pair;
+
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * The <code>EventRepository</code> class is responsible for storing Event entities during program execution,
@@ -12,7 +18,24 @@ import java.util.List;
  * list of events as directed.
  */
 public class EventRepository implements IEventRepository, Serializable {
+    private static final long serialVersionUID = 1830989848508546853L;
+
     private final List<Event> events;
+    /**
+     * Maps the title of each event in <code>events</code> to the event. It is rebuilt from the events after loading
+     * instead of being saved with them.
+     */
+    private transient Map<String, Event> eventsByTitle;
+    /**
+     * The minutes during which each room is booked by the events in <code>events</code>. It is rebuilt from the events
+     * after loading instead of being saved with them.
+     */
+    private transient RoomOccupancy occupancy;
+    /**
+     * The events that each user is signed up for, ordered by start time. Like <code>occupancy</code>, it is rebuilt
+     * from the events after loading.
+     */
+    private transient AttendeeSchedules attendeeSchedules;
 
     /**
      * Constructs a new <code>EventRepository</code> object with no events.
@@ -31,12 +54,11 @@ public class EventRepository implements IEventRepository, Serializable {
      */
     @Override
     public Event getEventWithTitle(String title) {
-        for (Event event : events) {
-            if (event.getTitle().equals(title)) {
-                return event;
-            }
+        Event event = getEventsByTitle().get(title);
+        if (event == null) {
+            throw new EventNotFoundException();
         }
-        throw new EventNotFoundException();
+        return event;
     }
 
     /**
@@ -57,6 +79,11 @@ public class EventRepository implements IEventRepository, Serializable {
     @Override
     public void addEvent(Event event) {
         events.add(event);
+        getEventsByTitle().put(event.getTitle(), event);
+        getOccupancy().book(event.getRoomID(), event.getStartTime(), event.getDuration());
+        for (String attendee : event.getAttendees()) {
+            getAttendeeSchedules().add(attendee, event);
+        }
     }
 
     /**
@@ -68,7 +95,13 @@ public class EventRepository implements IEventRepository, Serializable {
     @Override
     public void removeEvent(String eventTitle) {
         if (eventExists(eventTitle)) {
-            events.remove(getEventWithTitle(eventTitle));
+            Event event = getEventWithTitle(eventTitle);
+            events.remove(event);
+            getEventsByTitle().remove(eventTitle);
+            getOccupancy().release(event.getRoomID(), event.getStartTime(), event.getDuration());
+            for (String attendee : event.getAttendees()) {
+                getAttendeeSchedules().remove(attendee, event);
+            }
         }
     }
 
@@ -80,11 +113,134 @@ public class EventRepository implements IEventRepository, Serializable {
      */
     @Override
     public boolean eventExists(String eventTitle) {
-        for (Event event : events) {
-            if (event.getTitle().equals(eventTitle)) {
-                return true;
+        return getEventsByTitle().containsKey(eventTitle);
+    }
+
+    private Map<String, Event> getEventsByTitle() {
+        if (eventsByTitle == null) {
+            eventsByTitle = new HashMap<>();
+            for (Event event : events) {
+                eventsByTitle.put(event.getTitle(), event);
+            }
+        }
+        return eventsByTitle;
+    }
+
+    //<editor-fold desc="Attendees">
+
+    /**
+     * Adds a user to the attendees of the event with the given title.
+     * Precondition: an event with title <code>eventTitle</code> must already exist.
+     *
+     * @param eventTitle the title of the event
+     * @param username   the username of the user
+     */
+    @Override
+    public void addAttendee(String eventTitle, String username) {
+        Event event = getEventWithTitle(eventTitle);
+        event.addAttendee(username);
+        getAttendeeSchedules().add(username, event);
+    }
+
+    /**
+     * Removes a user from the attendees of the event with the given title.
+     * Precondition: an event with title <code>eventTitle</code> must already exist.
+     *
+     * @param eventTitle the title of the event
+     * @param username   the username of the user
+     */
+    @Override
+    public void removeAttendee(String eventTitle, String username) {
+        Event event = getEventWithTitle(eventTitle);
+        event.removeAttendee(username);
+        getAttendeeSchedules().remove(username, event);
+    }
+
+    /**
+     * Returns the titles of the events that a user is signed up for, in order of start time.
+     *
+     * @param username the username of the user
+     * @return the titles of the events the user is signed up for
+     */
+    @Override
+    public List<String> getAttendedEvents(String username) {
+        return getAttendeeSchedules().getEventTitles(username);
+    }
+
+    /**
+     * Returns an event that a user is signed up for that overlaps the given period.
+     *
+     * @param username  the username of the user
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return the title of an overlapping event, or an empty <code>Optional</code> if there is none
+     */
+    @Override
+    public Optional<String> findAttendeeClash(String username, LocalDateTime startTime, int duration) {
+        return getAttendeeSchedules().findClash(username, startTime, duration);
+    }
+
+    private AttendeeSchedules getAttendeeSchedules() {
+        if (attendeeSchedules == null) {
+            attendeeSchedules = new AttendeeSchedules();
+            for (Event event : events) {
+                for (String attendee : event.getAttendees()) {
+                    attendeeSchedules.add(attendee, event);
+                }
+            }
+        }
+        return attendeeSchedules;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Room Occupancy">
+
+    /**
+     * Returns whether the room with the given ID has no event scheduled at any time during the given period.
+     *
+     * @param roomID    the ID of the room
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return true iff no event in the room overlaps the period
+     */
+    @Override
+    public boolean isRoomFree(int roomID, LocalDateTime startTime, int duration) {
+        return getOccupancy().isFree(roomID, startTime, duration);
+    }
+
+    /**
+     * Returns whether the room with the given ID has any event scheduled in it.
+     *
+     * @param roomID the ID of the room
+     * @return true iff an event is scheduled in the room
+     */
+    @Override
+    public boolean roomHasEvents(int roomID) {
+        return getOccupancy().hasBookings(roomID);
+    }
+
+    /**
+     * Returns the longest period between two times on the same day during which the room with the given ID has no
+     * event scheduled in it.
+     *
+     * @param roomID the ID of the room
+     * @param from   the start of the times to search
+     * @param to     the end of the times to search
+     * @return the start and length in minutes of the longest free period
+     */
+    @Override
+    public Pair<LocalDateTime, Integer> getLongestFreePeriod(int roomID, LocalDateTime from, LocalDateTime to) {
+        return getOccupancy().longestFreePeriod(roomID, from, to);
+    }
+
+    private RoomOccupancy getOccupancy() {
+        if (occupancy == null) {
+            occupancy = new RoomOccupancy();
+            for (Event event : events) {
+                occupancy.book(event.getRoomID(), event.getStartTime(), event.getDuration());
             }
         }
-        return false;
+        return occupancy;
     }
+    //</editor-fold>
 }
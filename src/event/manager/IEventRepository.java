@@ -1,8 +1,11 @@
 package event.manager;
 
 import event.Event;
+import javafx.util.Pair;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The <code>IEventRepository</code> specifies methods that any class serving as a repository of Event entities must
@@ -48,4 +51,69 @@ public interface IEventRepository {
      * @return true iff the event with title <code>eventTitle</code> exists
      */
     boolean eventExists(String eventTitle);
+
+    /**
+     * Adds a user to the attendees of the event with the given title.
+     * Precondition: an event with title <code>eventTitle</code> must already exist.
+     *
+     * @param eventTitle the title of the event
+     * @param username   the username of the user
+     */
+    void addAttendee(String eventTitle, String username);
+
+    /**
+     * Removes a user from the attendees of the event with the given title.
+     * Precondition: an event with title <code>eventTitle</code> must already exist.
+     *
+     * @param eventTitle the title of the event
+     * @param username   the username of the user
+     */
+    void removeAttendee(String eventTitle, String username);
+
+    /**
+     * Returns the titles of the events that a user is signed up for, in order of start time.
+     *
+     * @param username the username of the user
+     * @return the titles of the events the user is signed up for
+     */
+    List<String> getAttendedEvents(String username);
+
+    /**
+     * Returns an event that a user is signed up for that overlaps the given period.
+     *
+     * @param username  the username of the user
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return the title of an overlapping event, or an empty <code>Optional</code> if there is none
+     */
+    Optional<String> findAttendeeClash(String username, LocalDateTime startTime, int duration);
+
+    /**
+     * Returns whether the room with the given ID has no event scheduled at any time during the given period.
+     *
+     * @param roomID    the ID of the room
+     * @param startTime the start of the period
+     * @param duration  the length of the period, in minutes
+     * @return true iff no event in the room overlaps the period
+     */
+    boolean isRoomFree(int roomID, LocalDateTime startTime, int duration);
+
+    /**
+     * Returns whether the room with the given ID has any event scheduled in it.
+     *
+     * @param roomID the ID of the room
+     * @return true iff an event is scheduled in the room
+     */
+    boolean roomHasEvents(int roomID);
+
+    /**
+     * Returns the longest period between two times on the same day during which the room with the given ID has no
+     * event scheduled in it.
+     *
+     * @param roomID the ID of the room
+     * @param from   the start of the times to search
+     * @param to     the end of the times to search
+     * @return the start and length in minutes of the longest free period
+     */
+    Pair<LocalDateTime, Integer> getLongestFreePeriod(int roomID, LocalDateTime from, LocalDateTime to);
 }
@@ -0,0 +1,204 @@
+package event.manager;
+
+import javafx.util.Pair;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * This class records the minutes during which each room is booked by an event.
+ * <p></p>
+ * Each room keeps one bitmap per day on which it has an event, with one bit for each minute of the day, so a day takes
+ * 23 words. Checking whether a room is free for a period only visits the words that cover the period, and finding the
+ * free periods of a day skips over runs of booked or free minutes a word at a time. Rooms and days without events
+ * have no bitmap, and are free.
+ * <p></p>
+ * Each day also keeps the part of every booking that falls on it, so that releasing a booking can rebuild the day's
+ * bitmap from the bookings that remain. Minutes shared by overlapping bookings stay booked until every booking that
+ * covers them has been released.
+ */
+class RoomOccupancy {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Maps each room number to a map from each day to the bookings of the room on that day.
+     */
+    private final Map<Integer, Map<LocalDate, BookedDay>> bookedMinutes;
+
+    /**
+     * Creates a new <code>RoomOccupancy</code> in which every room is free.
+     */
+    RoomOccupancy() {
+        this.bookedMinutes = new HashMap<>();
+    }
+
+    /**
+     * Marks a room as booked from <code>startTime</code> for <code>duration</code> minutes.
+     *
+     * @param roomID    the room number of the room
+     * @param startTime the first minute of the booking
+     * @param duration  the length of the booking, in minutes
+     */
+    void book(int roomID, LocalDateTime startTime, int duration) {
+        Map<LocalDate, BookedDay> days = bookedMinutes.computeIfAbsent(roomID, k -> new HashMap<>());
+        forEachDay(startTime, duration, (day, from, to) ->
+                days.computeIfAbsent(day, k -> new BookedDay()).add(from, to));
+    }
+
+    /**
+     * Removes a booking of a room from <code>startTime</code> for <code>duration</code> minutes. Minutes that are also
+     * covered by another booking of the room stay booked.
+     *
+     * @param roomID    the room number of the room
+     * @param startTime the first minute of the booking
+     * @param duration  the length of the booking, in minutes
+     */
+    void release(int roomID, LocalDateTime startTime, int duration) {
+        Map<LocalDate, BookedDay> days = bookedMinutes.get(roomID);
+        if (days == null) {
+            return;
+        }
+        forEachDay(startTime, duration, (day, from, to) -> {
+            BookedDay bookings = days.get(day);
+            if (bookings != null && bookings.remove(from, to) && bookings.isEmpty()) {
+                days.remove(day);
+            }
+        });
+        if (days.isEmpty()) {
+            bookedMinutes.remove(roomID);
+        }
+    }
+
+    /**
+     * Returns whether a room is free for every minute from <code>startTime</code> for <code>duration</code> minutes.
+     *
+     * @param roomID    the room number of the room
+     * @param startTime the first minute of the period
+     * @param duration  the length of the period, in minutes
+     * @return <code>true</code> iff the room has no booking that overlaps the period
+     */
+    boolean isFree(int roomID, LocalDateTime startTime, int duration) {
+        Map<LocalDate, BookedDay> days = bookedMinutes.getOrDefault(roomID, Collections.emptyMap());
+        boolean[] free = {true};
+        forEachDay(startTime, duration, (day, from, to) -> {
+            BookedDay bookings = days.get(day);
+            if (bookings != null) {
+                int booked = bookings.minutes.nextSetBit(from);
+                if (booked != -1 && booked < to) {
+                    free[0] = false;
+                }
+            }
+        });
+        return free[0];
+    }
+
+    /**
+     * Returns whether a room has any booking.
+     *
+     * @param roomID the room number of the room
+     * @return <code>true</code> iff the room is booked for at least one minute
+     */
+    boolean hasBookings(int roomID) {
+        return bookedMinutes.containsKey(roomID);
+    }
+
+    /**
+     * Returns the longest period during which a room is free between two times on the same day. Among periods of the
+     * same length, the earliest is returned.
+     *
+     * @param roomID the room number of the room
+     * @param from   the start of the times to search
+     * @param to     the end of the times to search, on the same day as <code>from</code>
+     * @return the start and length in minutes of the longest free period, or a length of 0 if the room is booked for
+     * the whole time
+     */
+    Pair<LocalDateTime, Integer> longestFreePeriod(int roomID, LocalDateTime from, LocalDateTime to) {
+        LocalDate day = from.toLocalDate();
+        int first = minuteOfDay(from);
+        int last = to.toLocalDate().isAfter(day) ? MINUTES_PER_DAY : minuteOfDay(to);
+        BookedDay bookings = bookedMinutes.getOrDefault(roomID, Collections.emptyMap()).get(day);
+        BitSet minutes = bookings == null ? new BitSet() : bookings.minutes;
+        int bestStart = first;
+        int bestLength = 0;
+        int start = minutes.nextClearBit(first);
+        while (start < last) {
+            int end = minutes.nextSetBit(start);
+            if (end == -1 || end > last) {
+                end = last;
+            }
+            if (end - start > bestLength) {
+                bestStart = start;
+                bestLength = end - start;
+            }
+            start = end == last ? last : minutes.nextClearBit(end);
+        }
+        return new Pair<>(day.atStartOfDay().plusMinutes(bestStart), bestLength);
+    }
+
+    private static int minuteOfDay(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Splits the period starting at <code>startTime</code> and lasting <code>duration</code> minutes into the parts
+     * that fall on each day, and calls <code>action</code> with the first minute and the minute after the last of
+     * each part.
+     */
+    private void forEachDay(LocalDateTime startTime, int duration, DayAction action) {
+        LocalDate day = startTime.toLocalDate();
+        int from = minuteOfDay(startTime);
+        long remaining = duration;
+        while (remaining > 0) {
+            int to = (int) Math.min(MINUTES_PER_DAY, from + remaining);
+            action.apply(day, from, to);
+            remaining -= to - from;
+            day = day.plusDays(1);
+            from = 0;
+        }
+    }
+
+    private interface DayAction {
+        void apply(LocalDate day, int from, int to);
+    }
+
+    /**
+     * The bookings of a room on one day, and the minutes of the day that they cover.
+     */
+    private static class BookedDay {
+        private final BitSet minutes = new BitSet(MINUTES_PER_DAY);
+
+        /**
+         * The first minute and the minute after the last of the part of each booking that falls on this day.
+         */
+        private final List<int[]> bookings = new ArrayList<>();
+
+        void add(int from, int to) {
+            bookings.add(new int[]{from, to});
+            minutes.set(from, to);
+        }
+
+        /**
+         * Removes one booking from <code>from</code> to <code>to</code> and rebuilds the booked minutes from the
+         * remaining bookings. Returns whether such a booking was found.
+         */
+        boolean remove(int from, int to) {
+            for (Iterator<int[]> iterator = bookings.iterator(); iterator.hasNext(); ) {
+                int[] booking = iterator.next();
+                if (booking[0] == from && booking[1] == to) {
+                    iterator.remove();
+                    minutes.clear();
+                    for (int[] remaining : bookings) {
+                        minutes.set(remaining[0], remaining[1]);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return bookings.isEmpty();
+        }
+    }
+}
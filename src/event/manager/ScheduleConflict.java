@@ -0,0 +1,50 @@
+package event.manager;
+
+/**
+ * This class represents two events that use the same room or speaker at overlapping times.
+ */
+public class ScheduleConflict {
+    private final String resource;
+    private final String firstEvent;
+    private final String secondEvent;
+
+    /**
+     * Creates a new <code>ScheduleConflict</code> between two events.
+     *
+     * @param resource    a description of the room or speaker that both events use
+     * @param firstEvent  the title of the event that starts first
+     * @param secondEvent the title of the event that starts second
+     */
+    public ScheduleConflict(String resource, String firstEvent, String secondEvent) {
+        this.resource = resource;
+        this.firstEvent = firstEvent;
+        this.secondEvent = secondEvent;
+    }
+
+    /**
+     * Gets a description of the room or speaker that both events use, such as <code>"room 12"</code>.
+     *
+     * @return a description of the room or speaker that both events use
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the title of the event that starts first.
+     *
+     * @return the title of the event that starts first
+     */
+    public String getFirstEvent() {
+        return firstEvent;
+    }
+
+    /**
+     * Gets the title of the event that starts second.
+     *
+     * @return the title of the event that starts second
+     */
+    public String getSecondEvent() {
+        return secondEvent;
+    }
+}
@@ -0,0 +1,10 @@
+package event.manager;
+
+/**
+ * This enum contains the possible outcomes of signing a user up for one of several events at once.
+ */
+public enum SignUpStatus {
+    SIGNED_UP,
+    EVENT_FULL,
+    TIME_CLASH
+}
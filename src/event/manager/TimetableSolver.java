@@ -0,0 +1,386 @@
+package event.manager;
+
+import event.Event;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * This class chooses a day, start time and room for each of a batch of events, so that no two events share a room or
+ * a speaker at the same time, either with each other or with the events that are already scheduled.
+ * <p></p>
+ * Like events entered by hand, every event starts between 9:00 and 17:59 in a room that can hold its attendees.
+ * Every event also ends on the day it starts, which keeps the days independent of each other. The events are solved
+ * in three steps:
+ * <ol>
+ *     <li>Each event is given a day, hardest events first, choosing the day with the fewest minutes booked so far in
+ *     which its speakers still have time.</li>
+ *     <li>The days are solved in parallel. Each day places its events greedily, hardest first, in the smallest room
+ *     that can hold them at the earliest time at which the room and all of the speakers are free. Then, for each
+ *     event that could not be placed, it tries moving one event that is in its way to another room or time.</li>
+ *     <li>Events that still could not be placed are tried on each of the other days.</li>
+ * </ol>
+ * The minutes during which each room and speaker is busy are kept as one bitmap per day, so that the earliest free
+ * time for an event is found by skipping over runs of busy and free minutes a word at a time.
+ */
+class TimetableSolver {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int FIRST_START = 9 * 60;
+    private static final int LAST_START = 17 * 60 + 59;
+    /**
+     * The number of events that each unplaced event may try to move out of its way.
+     */
+    private static final int MAX_MOVES_PER_EVENT = 200;
+
+    /**
+     * The room numbers of all rooms, ordered from the smallest to the largest capacity and then by room number.
+     */
+    private final List<Integer> roomsBySize;
+    private final Map<Integer, Integer> roomCapacities;
+    private final List<LocalDate> days;
+    private final List<Event> existingEvents;
+
+    /**
+     * Creates a new <code>TimetableSolver</code> that places events in the given rooms on the given days.
+     *
+     * @param roomCapacities a map of the room numbers of the rooms that can be used to their capacities
+     * @param days           the days on which events can be placed
+     * @param existingEvents the events that are already scheduled, which are not moved
+     */
+    TimetableSolver(Map<Integer, Integer> roomCapacities, List<LocalDate> days, List<Event> existingEvents) {
+        this.roomCapacities = new HashMap<>(roomCapacities);
+        this.roomsBySize = new ArrayList<>(roomCapacities.keySet());
+        this.roomsBySize.sort(Comparator.comparing((Integer room) -> roomCapacities.get(room))
+                .thenComparing(room -> room));
+        this.days = new ArrayList<>(days);
+        this.existingEvents = existingEvents;
+    }
+
+    /**
+     * Chooses a start time and room for as many of <code>events</code> as possible, and sets them in the parameter
+     * objects of the events that were placed.
+     *
+     * @param events the parameter objects of the events to place, whose start times and rooms are ignored
+     * @return the parameter objects of the events that could not be placed, in the order of <code>events</code>
+     */
+    List<EventParameterObject> solve(List<EventParameterObject> events) {
+        List<Session> sessions = new ArrayList<>();
+        List<EventParameterObject> unplaced = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            EventParameterObject event = events.get(i);
+            if (isPlaceable(event)) {
+                sessions.add(new Session(i, event));
+            }
+        }
+        sessions.sort(Session.HARDEST_FIRST);
+
+        List<DaySchedule> schedules = new ArrayList<>();
+        for (LocalDate day : days) {
+            schedules.add(new DaySchedule(day));
+        }
+        if (!schedules.isEmpty()) {
+            assignDays(sessions, schedules);
+            schedules.parallelStream().forEach(DaySchedule::solve);
+            placeOnOtherDays(schedules);
+        }
+
+        Set<Integer> placedIndices = new HashSet<>();
+        for (DaySchedule schedule : schedules) {
+            for (Placement placement : schedule.placements.values()) {
+                placement.session.event.setStartTime(schedule.day.atStartOfDay().plusMinutes(placement.start));
+                placement.session.event.setRoomID(placement.room);
+                placedIndices.add(placement.session.index);
+            }
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (!placedIndices.contains(i)) {
+                unplaced.add(events.get(i));
+            }
+        }
+        return unplaced;
+    }
+
+    /**
+     * Returns whether <code>event</code> could be placed in an empty conference: its duration lets it start in the
+     * start window and end on the same day, some room can hold it, and it has no more speakers than it allows.
+     */
+    private boolean isPlaceable(EventParameterObject event) {
+        return event.getDuration() > 0 && FIRST_START + event.getDuration() <= MINUTES_PER_DAY
+                && event.getEventCapacity() > 0 && !roomsBySize.isEmpty()
+                && roomCapacities.get(roomsBySize.get(roomsBySize.size() - 1)) >= event.getEventCapacity()
+                && new HashSet<>(event.getSpeakers()).size() == event.getSpeakers().size()
+                && event.getSpeakers().size() <= event.getSpeakerCapacity();
+    }
+
+    /**
+     * Gives each session a day, in order, choosing the day with the fewest booked minutes among the days on which all
+     * of its speakers have enough time left in the start window.
+     */
+    private void assignDays(List<Session> sessions, List<DaySchedule> schedules) {
+        for (Session session : sessions) {
+            DaySchedule best = null;
+            for (DaySchedule schedule : schedules) {
+                if (schedule.speakersHaveTime(session) && (best == null || schedule.load < best.load)) {
+                    best = schedule;
+                }
+            }
+            (best == null ? schedules.get(0) : best).assign(session);
+        }
+    }
+
+    /**
+     * Tries to place each session that could not be placed on its own day on each of the other days, starting with
+     * the least booked.
+     */
+    private void placeOnOtherDays(List<DaySchedule> schedules) {
+        List<Session> leftOver = new ArrayList<>();
+        for (DaySchedule schedule : schedules) {
+            leftOver.addAll(schedule.unplaced);
+            schedule.unplaced.clear();
+        }
+        leftOver.sort(Session.HARDEST_FIRST);
+        List<DaySchedule> byLoad = new ArrayList<>(schedules);
+        for (Session session : leftOver) {
+            byLoad.sort(Comparator.comparingLong(schedule -> schedule.load));
+            for (DaySchedule schedule : byLoad) {
+                if (schedule.place(session)) {
+                    schedule.load += session.duration();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * An event to be placed, together with its position in the batch.
+     */
+    private static class Session {
+        /**
+         * Orders sessions from the hardest to place to the easiest: those needing larger rooms first, then longer
+         * ones, then those with more speakers.
+         */
+        static final Comparator<Session> HARDEST_FIRST = Comparator
+                .comparingInt((Session session) -> -session.event.getEventCapacity())
+                .thenComparingInt(session -> -session.event.getDuration())
+                .thenComparingInt(session -> -session.event.getSpeakers().size())
+                .thenComparingInt(session -> session.index);
+
+        final int index;
+        final EventParameterObject event;
+
+        Session(int index, EventParameterObject event) {
+            this.index = index;
+            this.event = event;
+        }
+
+        int duration() {
+            return event.getDuration();
+        }
+    }
+
+    /**
+     * The room and the minute of the day at which a session starts.
+     */
+    private static class Placement {
+        final Session session;
+        final int room;
+        final int start;
+
+        Placement(Session session, int room, int start) {
+            this.session = session;
+            this.room = room;
+            this.start = start;
+        }
+    }
+
+    /**
+     * The sessions given to one day, and the minutes of that day during which each room and speaker is busy.
+     */
+    private class DaySchedule {
+        final LocalDate day;
+        final Map<Integer, BitSet> roomBusy;
+        final Map<String, BitSet> speakerBusy;
+        /**
+         * Maps each speaker to the number of minutes in this day's start window that are taken by existing events and
+         * by the sessions given to this day, which is used to decide which day each session is given to.
+         */
+        final Map<String, Integer> speakerMinutes;
+        final List<Session> assigned;
+        final Map<Session, Placement> placements;
+        final List<Session> unplaced;
+        /**
+         * The number of minutes booked on this day, by existing events and by the sessions given to this day.
+         */
+        long load;
+
+        DaySchedule(LocalDate day) {
+            this.day = day;
+            this.roomBusy = new HashMap<>();
+            this.speakerBusy = new HashMap<>();
+            this.speakerMinutes = new HashMap<>();
+            this.assigned = new ArrayList<>();
+            this.placements = new LinkedHashMap<>();
+            this.unplaced = new ArrayList<>();
+            for (Event event : existingEvents) {
+                addExistingEvent(event);
+            }
+        }
+
+        /**
+         * Marks the minutes of this day during which an existing event is held as busy for its room and speakers.
+         */
+        private void addExistingEvent(Event event) {
+            long start = Duration.between(day.atStartOfDay(), event.getStartTime()).toMinutes();
+            long end = start + event.getDuration();
+            if (end <= 0 || start >= MINUTES_PER_DAY) {
+                return;
+            }
+            int from = (int) Math.max(0, start);
+            int to = (int) Math.min(MINUTES_PER_DAY, end);
+            busyMinutes(roomBusy, event.getRoomID()).set(from, to);
+            for (String speaker : event.getSpeakers()) {
+                busyMinutes(speakerBusy, speaker).set(from, to);
+                speakerMinutes.merge(speaker, Math.max(0, to - Math.max(from, FIRST_START)), Integer::sum);
+            }
+            load += to - from;
+        }
+
+        private <K> BitSet busyMinutes(Map<K, BitSet> busy, K key) {
+            return busy.computeIfAbsent(key, k -> new BitSet(MINUTES_PER_DAY));
+        }
+
+        /**
+         * Returns whether each speaker of <code>session</code> has at least its duration left in this day's start
+         * window, counting the sessions already given to this day.
+         */
+        boolean speakersHaveTime(Session session) {
+            for (String speaker : session.event.getSpeakers()) {
+                if (speakerMinutes.getOrDefault(speaker, 0) + session.duration() > MINUTES_PER_DAY - FIRST_START) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gives <code>session</code> to this day, to be placed when the day is solved.
+         */
+        void assign(Session session) {
+            assigned.add(session);
+            load += session.duration();
+            for (String speaker : session.event.getSpeakers()) {
+                speakerMinutes.merge(speaker, session.duration(), Integer::sum);
+            }
+        }
+
+        /**
+         * Places every session given to this day that fits, then tries to make room for the rest.
+         */
+        void solve() {
+            for (Session session : assigned) {
+                if (!place(session)) {
+                    unplaced.add(session);
+                }
+            }
+            unplaced.removeIf(this::makeRoomFor);
+        }
+
+        /**
+         * Places <code>session</code> in the smallest room that can hold it and is free, at the earliest time at
+         * which the room and all of its speakers are free.
+         *
+         * @return true iff the session was placed
+         */
+        boolean place(Session session) {
+            BitSet speakersBusy = new BitSet(MINUTES_PER_DAY);
+            for (String speaker : session.event.getSpeakers()) {
+                BitSet busy = speakerBusy.get(speaker);
+                if (busy != null) {
+                    speakersBusy.or(busy);
+                }
+            }
+            for (Integer room : roomsBySize) {
+                if (roomCapacities.get(room) < session.event.getEventCapacity()) {
+                    continue;
+                }
+                BitSet busy = (BitSet) speakersBusy.clone();
+                BitSet booked = roomBusy.get(room);
+                if (booked != null) {
+                    busy.or(booked);
+                }
+                int start = earliestStart(busy, session.duration());
+                if (start >= 0) {
+                    book(new Placement(session, room, start));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the earliest minute in the start window from which no minute in <code>busy</code> is set for
+         * <code>duration</code> minutes, ending on this day, or -1 if there is none.
+         */
+        private int earliestStart(BitSet busy, int duration) {
+            int start = busy.nextClearBit(FIRST_START);
+            while (start <= LAST_START && start + duration <= MINUTES_PER_DAY) {
+                int next = busy.nextSetBit(start);
+                if (next == -1 || next >= start + duration) {
+                    return start;
+                }
+                start = busy.nextClearBit(next);
+            }
+            return -1;
+        }
+
+        private void book(Placement placement) {
+            int end = placement.start + placement.session.duration();
+            busyMinutes(roomBusy, placement.room).set(placement.start, end);
+            for (String speaker : placement.session.event.getSpeakers()) {
+                busyMinutes(speakerBusy, speaker).set(placement.start, end);
+            }
+            placements.put(placement.session, placement);
+        }
+
+        private void unbook(Placement placement) {
+            int end = placement.start + placement.session.duration();
+            roomBusy.get(placement.room).clear(placement.start, end);
+            for (String speaker : placement.session.event.getSpeakers()) {
+                speakerBusy.get(speaker).clear(placement.start, end);
+            }
+            placements.remove(placement.session);
+        }
+
+        /**
+         * Tries to place <code>session</code> by moving one placed session that uses a room large enough for it or
+         * shares a speaker with it. The move is kept only if both sessions can then be placed.
+         *
+         * @return true iff the session was placed
+         */
+        boolean makeRoomFor(Session session) {
+            List<Placement> candidates = new ArrayList<>();
+            for (Placement placement : placements.values()) {
+                if (roomCapacities.get(placement.room) >= session.event.getEventCapacity()
+                        || !Collections.disjoint(placement.session.event.getSpeakers(),
+                        session.event.getSpeakers())) {
+                    candidates.add(placement);
+                }
+                if (candidates.size() == MAX_MOVES_PER_EVENT) {
+                    break;
+                }
+            }
+            for (Placement moved : candidates) {
+                unbook(moved);
+                if (place(session)) {
+                    if (place(moved.session)) {
+                        return true;
+                    }
+                    unbook(placements.get(session));
+                }
+                book(moved);
+            }
+            return false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package event.presenter;
 
+import event.manager.ScheduleConflict;
 import system.console.ConsolePresenter;
 
 import java.util.EnumMap;
@@ -30,11 +31,20 @@ public class EventPresenter extends ConsolePresenter<EventPrompts> {
     private void initializePrompts(EnumMap<EventPrompts, String> m) {
         m.put(EventPrompts.EVENT_TITLE_PROMPT, "Please enter the title of the event:");
         m.put(EventPrompts.EVENT_SPEAKER_PROMPT, "Please enter the username of the speaker:");
+        m.put(EventPrompts.EVENT_SPEAKERS_PROMPT, "Please enter the usernames of the speakers of the event, " +
+                "separated by commas:");
+        m.put(EventPrompts.SCHEDULE_EVENT_COUNT_PROMPT, "Please enter the number of events to schedule:");
+        m.put(EventPrompts.SCHEDULE_FIRST_DAY_PROMPT, "Please enter the first day on which the events can be held " +
+                "in the format of YYYY-MM-DD (e.g. January 1st, 2020 would be: 2020-01-01):");
+        m.put(EventPrompts.SCHEDULE_DAY_COUNT_PROMPT, "Please enter the number of days over which the events can " +
+                "be held:");
         m.put(EventPrompts.EVENT_DATE_PROMPT, "Please enter the date of the event " +
                 "in the format of YYYY-MM-DD (e.g. January 1st, 2020 would be: 2020-01-01):");
         m.put(EventPrompts.EVENT_START_TIME_PROMPT, "Please enter the start time of the event in 24-hour clock " +
                 "format (HH:MM):");
         m.put(EventPrompts.EVENT_ROOM_ID_PROMPT, "Please enter the room number of the event room:");
+        m.put(EventPrompts.SUGGESTED_ROOM_ID_PROMPT, "Please enter the room number of the event room, " +
+                "or 0 to use the suggested room:");
         m.put(EventPrompts.EVENT_CAPACITY_PROMPT, "Please enter the maximum number of people " +
                 "able to sign up for the event:");
         m.put(EventPrompts.EVENT_VIP_PROMPT, "Please enter whether this is a VIP exclusive event (yes/no/y/n):");
@@ -64,10 +74,15 @@ public class EventPresenter extends ConsolePresenter<EventPrompts> {
         m.put(EventPrompts.INVALID_ATTENDEE_CAPACITY_ERROR, "Sorry, the attendee capacity must be greater than 0.");
         m.put(EventPrompts.INVALID_SPEAKER_CAPACITY_ERROR, "Sorry, the speaker capacity greater than or equal to 0.");
         m.put(EventPrompts.INVALID_DURATION_ERROR, "Sorry, the duration of an event must be greater than 0 minutes.");
+        m.put(EventPrompts.INVALID_COUNT_ERROR, "Sorry, please enter a whole number greater than 0:");
         m.put(EventPrompts.INPUT_NOT_INT_ERROR, "Sorry, the value you entered is not an integer.");
         m.put(EventPrompts.EVENT_CAPACITY_TOO_LARGE_ERROR,
                 "Sorry, the requested room cannot support that many occupants.");
         m.put(EventPrompts.ROOM_IS_BOOKED, "Sorry, this room is already booked at the given time.");
+        m.put(EventPrompts.NO_SCHEDULE_CONFLICTS, "No room or speaker is booked for two events at once.");
+        m.put(EventPrompts.NO_EVENTS_OVER_CAPACITY, "Every event fits in its room.");
+        m.put(EventPrompts.NO_FREE_ROOM_ERROR, "Sorry, there are no rooms large enough for this event that are " +
+                "free at the given time.");
         m.put(EventPrompts.INVALID_INPUT_DATE, "Sorry, the date you entered is not valid. " +
                 "Please enter a valid date in the format YYYY-MM-DD (e.g. January 1st, 2020 would be: 2020-01-01).");
         m.put(EventPrompts.INVALID_INPUT_TIME, "Sorry, the time you entered is not valid. " +
@@ -97,6 +112,29 @@ public class EventPresenter extends ConsolePresenter<EventPrompts> {
         m.put(EventPrompts.EVENT_VIP_SCHEDULE_DISPLAYED, "This is the schedule of VIP events.");
     }
 
+    /**
+     * Prints the smallest free room that can hold an event, which is suggested to the user as the event room.
+     *
+     * @param roomID the room number of the suggested room
+     */
+    public void displaySuggestedRoom(int roomID) {
+        System.out.println("The smallest free room that can hold this event is room " + roomID + ".");
+    }
+
+    /**
+     * Prints how many events of a batch were scheduled, and the titles of the events that could not be placed.
+     *
+     * @param scheduled      the number of events that were scheduled
+     * @param unplacedTitles the titles of the events that could not be placed
+     */
+    public void displayScheduledEvents(int scheduled, List<String> unplacedTitles) {
+        System.out.println(scheduled + " event(s) were scheduled.");
+        if (!unplacedTitles.isEmpty()) {
+            System.out.println("These events could not be placed in a free room on the given days:");
+            displayContents(unplacedTitles);
+        }
+    }
+
     /**
      * Prints the list of all events to the user.
      *
@@ -120,6 +158,51 @@ public class EventPresenter extends ConsolePresenter<EventPrompts> {
         }
     }
 
+    /**
+     * Prints each pair of events that use the same room or speaker at overlapping times.
+     *
+     * @param conflicts the pairs of events that use the same room or speaker at overlapping times
+     */
+    public void displayScheduleConflicts(List<ScheduleConflict> conflicts) {
+        System.out.println("===== SCHEDULE CONFLICTS =====");
+        if (conflicts.isEmpty()) {
+            display(EventPrompts.NO_SCHEDULE_CONFLICTS);
+        }
+        for (ScheduleConflict conflict : conflicts) {
+            System.out.println("Both " + conflict.getFirstEvent() + " and " + conflict.getSecondEvent() +
+                    " use " + conflict.getResource() + " at the same time.");
+        }
+    }
+
+    /**
+     * Prints the heading for the events that do not fit in their rooms.
+     *
+     * @param isEmpty <code>true</code> if every event fits in its room
+     */
+    public void displayOverCapacityHeading(boolean isEmpty) {
+        System.out.println("===== EVENTS TOO LARGE FOR THEIR ROOMS =====");
+        if (isEmpty) {
+            display(EventPrompts.NO_EVENTS_OVER_CAPACITY);
+        }
+    }
+
+    /**
+     * Prints an event that does not fit in its room.
+     *
+     * @param title        the title of the event
+     * @param capacity     the capacity of the event
+     * @param roomID       the room number of the event's room
+     * @param roomCapacity the capacity of the event's room, or <code>null</code> if the room does not exist
+     */
+    public void displayEventOverCapacity(String title, int capacity, int roomID, Integer roomCapacity) {
+        if (roomCapacity == null) {
+            System.out.println(title + " is held in room " + roomID + ", which does not exist.");
+        } else {
+            System.out.println(title + " has a capacity of " + capacity + ", but room " + roomID + " only holds " +
+                    roomCapacity + ".");
+        }
+    }
+
     /**
      * Prints a list of reviews for a given event to the user.
      *
@@ -8,6 +8,11 @@ public enum EventPrompts {
 
     EVENT_TITLE_PROMPT,
     EVENT_SPEAKER_PROMPT,
+    EVENT_SPEAKERS_PROMPT,
+    SCHEDULE_EVENT_COUNT_PROMPT,
+    SCHEDULE_FIRST_DAY_PROMPT,
+    SCHEDULE_DAY_COUNT_PROMPT,
+    INVALID_COUNT_ERROR,
     EVENT_HAS_SPEAKER,
     SPEAKER_ALREADY_BOOKED,
     SPEAKER_SUCCESSFULLY_ASSIGNED,
@@ -16,6 +21,7 @@ public enum EventPrompts {
     EVENT_DATE_PROMPT,
     EVENT_START_TIME_PROMPT,
     EVENT_ROOM_ID_PROMPT,
+    SUGGESTED_ROOM_ID_PROMPT,
     EVENT_CAPACITY_PROMPT,
     EVENT_DURATION_PROMPT,
     EVENT_NOT_FOUND,
@@ -36,6 +42,9 @@ public enum EventPrompts {
     INPUT_NOT_INT_ERROR,
     EVENT_CAPACITY_TOO_LARGE_ERROR,
     ROOM_IS_BOOKED,
+    NO_FREE_ROOM_ERROR,
+    NO_SCHEDULE_CONFLICTS,
+    NO_EVENTS_OVER_CAPACITY,
     SPEAKER_SCHEDULE_DISPLAYED,
     SPEAKER_NOT_SCHEDULED,
     INVALID_INPUT_TIME,
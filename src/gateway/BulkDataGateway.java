@@ -0,0 +1,515 @@
+package gateway;
+
+import event.manager.EventCreationError;
+import event.manager.EventManagerFacade;
+import event.manager.EventParameterObject;
+import messaging.MessageIdGenerator;
+import messaging.manager.MessageManager;
+import requests.Request;
+import requests.RequestManager;
+import room.RoomManager;
+import system.ManagerParameterObject;
+import user.UserType;
+import user.manager.UserManagerFacade;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * This class imports and exports the users, rooms, events, messages and requests of the program in bulk, as one file
+ * for each kind of record in a directory, such as <code>users.csv</code> or <code>events.jsonl</code>.
+ * <p></p>
+ * Files are read and written one record at a time, so only the records being processed are held in memory besides
+ * the managers themselves. Events are imported in batches through <code>EventManagerFacade.createEvents</code>, and
+ * the other kinds of records are added one at a time, which takes constant time for users and rooms.
+ * <p></p>
+ * Importing adds to the data that the managers already hold. A record that is invalid or that conflicts with
+ * existing data is skipped and counted, and the rest of its file is still imported. Files are imported in the order
+ * users, rooms, events, messages and requests, so that events can refer to the users and rooms imported before them.
+ */
+public class BulkDataGateway {
+    private static final int EVENT_BATCH_SIZE = 1000;
+    private static final int GENERATED_PASSWORD_LENGTH = 12;
+    private static final String[] PASSWORD_CHARACTER_CLASSES = {"ABCDEFGHJKLMNPQRSTUVWXYZ", "abcdefghijkmnpqrstuvwxyz",
+            "23456789", "!#$%&*+-/=?@"};
+
+    private static final List<String> USER_COLUMNS = Arrays.asList("username", "type", "friends");
+    private static final List<String> PASSWORD_COLUMNS = Arrays.asList("username", "password");
+    private static final List<String> ROOM_COLUMNS = Arrays.asList("id", "capacity");
+    private static final List<String> EVENT_COLUMNS = Arrays.asList("title", "vip", "startTime", "duration",
+            "roomID", "capacity", "speakerCapacity", "speakers", "attendees");
+    private static final List<String> MESSAGE_COLUMNS = Arrays.asList("id", "timeSent", "author", "recipients",
+            "audience", "replyTo", "deleted", "text");
+    private static final List<String> REQUEST_COLUMNS = Arrays.asList("id", "timeSent", "author", "text",
+            "eventTitle", "category", "priority", "needs", "addressed", "reply", "replyAuthor");
+
+    private final Path directory;
+    private final DataFormat format;
+    private final SecureRandom random;
+
+    /**
+     * Creates a new <code>BulkDataGateway</code> that reads and writes files in a directory.
+     *
+     * @param directory the directory that holds the files
+     * @param format    the format of the files
+     */
+    public BulkDataGateway(Path directory, DataFormat format) {
+        this.directory = directory;
+        this.format = format;
+        this.random = new SecureRandom();
+    }
+
+    private Path getFile(String kind) {
+        return directory.resolve(kind + "." + format.getExtension());
+    }
+
+    //<editor-fold desc="Importing">
+
+    /**
+     * Imports the records in each file of the directory into the managers in <code>managers</code>. A kind of
+     * record whose file does not exist is not imported.
+     * <p></p>
+     * A user record without a password, such as an exported user, is given a randomly generated password that meets
+     * the rules for new accounts. The generated passwords are written to a <code>passwords</code> file in the
+     * directory, so that they can be given to their users. Requests are given new IDs and are classified again, and
+     * attendees are only added to events that they could sign up for.
+     *
+     * @param managers the managers to import the records into
+     * @return the number of records of each kind that were imported and skipped
+     * @throws IOException if a file cannot be read or is not in the expected format
+     */
+    public List<TransferResult> importManagers(ManagerParameterObject managers) throws IOException {
+        List<TransferResult> results = new ArrayList<>();
+        if (Files.exists(getFile("users"))) {
+            results.add(importUsers(getFile("users"), managers.getUserManager()));
+        }
+        if (Files.exists(getFile("rooms"))) {
+            results.add(importRooms(getFile("rooms"), managers.getRoomManager()));
+        }
+        if (Files.exists(getFile("events"))) {
+            results.add(importEvents(getFile("events"), managers.getEventManager(), managers.getUserManager(),
+                    managers.getRoomManager()));
+        }
+        if (Files.exists(getFile("messages"))) {
+            results.add(importMessages(getFile("messages"), managers.getMessageManager()));
+        }
+        if (Files.exists(getFile("requests"))) {
+            results.add(importRequests(getFile("requests"), managers.getRequestManager()));
+        }
+        return results;
+    }
+
+    private TransferResult importUsers(Path file, UserManagerFacade userManager) throws IOException {
+        int imported = 0;
+        int skipped = 0;
+        RecordWriter generatedPasswords = null;
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                try {
+                    String username = record.getRequiredString("username");
+                    String password = record.getString("password");
+                    UserType type = UserType.valueOf(record.getRequiredString("type").toUpperCase(Locale.ROOT));
+                    if (userManager.userExists(username) || userManager.bannedUserExists(username)) {
+                        skipped++;
+                        continue;
+                    }
+                    if (password == null) {
+                        password = generatePassword();
+                        if (generatedPasswords == null) {
+                            generatedPasswords = format.openWriter(getFile("passwords"), PASSWORD_COLUMNS);
+                        }
+                        generatedPasswords.write(new DataRecord().put("username", username).put("password", password));
+                    }
+                    userManager.addUser(username, password, type);
+                    imported++;
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                }
+            }
+        } finally {
+            if (generatedPasswords != null) {
+                generatedPasswords.close();
+            }
+        }
+        // A user's friends may come later in the file, so friendships are added in a second pass.
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                String username = record.getString("username");
+                if (username == null || !userManager.userExists(username)) {
+                    continue;
+                }
+                for (String friend : record.getList("friends")) {
+                    if (!friend.equals(username) && userManager.userExists(friend)
+                            && !userManager.areFriends(username, friend)) {
+                        userManager.addFriend(username, friend);
+                    }
+                }
+            }
+        }
+        return new TransferResult("users", imported, skipped);
+    }
+
+    /**
+     * Returns a random password with at least one character of each kind that new accounts require: an uppercase
+     * letter, a lowercase letter, a digit and a special character. Characters that are easily confused, such as
+     * <code>O</code> and <code>0</code>, are left out.
+     */
+    private String generatePassword() {
+        List<Character> characters = new ArrayList<>();
+        StringBuilder allCharacters = new StringBuilder();
+        for (String characterClass : PASSWORD_CHARACTER_CLASSES) {
+            characters.add(characterClass.charAt(random.nextInt(characterClass.length())));
+            allCharacters.append(characterClass);
+        }
+        while (characters.size() < GENERATED_PASSWORD_LENGTH) {
+            characters.add(allCharacters.charAt(random.nextInt(allCharacters.length())));
+        }
+        Collections.shuffle(characters, random);
+        StringBuilder password = new StringBuilder();
+        for (char character : characters) {
+            password.append(character);
+        }
+        return password.toString();
+    }
+
+    private TransferResult importRooms(Path file, RoomManager roomManager) throws IOException {
+        int imported = 0;
+        int skipped = 0;
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                try {
+                    int roomID = record.getInt("id");
+                    int capacity = record.getInt("capacity");
+                    if (roomManager.roomExists(roomID) || capacity <= 0) {
+                        skipped++;
+                    } else {
+                        roomManager.createNewRoom(roomID, capacity);
+                        imported++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                }
+            }
+        }
+        return new TransferResult("rooms", imported, skipped);
+    }
+
+    private TransferResult importEvents(Path file, EventManagerFacade eventManager, UserManagerFacade userManager,
+                                        RoomManager roomManager) throws IOException {
+        Map<Integer, Integer> roomCapacities = roomManager.getRoomInformation();
+        List<EventParameterObject> batch = new ArrayList<>();
+        List<List<String>> attendees = new ArrayList<>();
+        int imported = 0;
+        int skipped = 0;
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                try {
+                    batch.add(readEvent(record, userManager));
+                    attendees.add(record.getList("attendees"));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    skipped++;
+                }
+                if (batch.size() == EVENT_BATCH_SIZE) {
+                    int batchSkipped = createEvents(batch, attendees, eventManager, userManager, roomCapacities);
+                    imported += batch.size() - batchSkipped;
+                    skipped += batchSkipped;
+                    batch.clear();
+                    attendees.clear();
+                }
+            }
+        }
+        int batchSkipped = createEvents(batch, attendees, eventManager, userManager, roomCapacities);
+        imported += batch.size() - batchSkipped;
+        skipped += batchSkipped;
+        return new TransferResult("events", imported, skipped);
+    }
+
+    /**
+     * Returns the parameters of the event in <code>record</code>, keeping only the speakers that are existing
+     * speaker accounts.
+     */
+    private EventParameterObject readEvent(DataRecord record, UserManagerFacade userManager) {
+        EventParameterObject event = new EventParameterObject();
+        event.setTitle(record.getRequiredString("title"));
+        event.setVip(record.getBoolean("vip"));
+        event.setStartTime(record.getTime("startTime"));
+        event.setDuration(record.getInt("duration"));
+        event.setRoomID(record.getInt("roomID"));
+        event.setEventCapacity(record.getInt("capacity"));
+        event.setSpeakerCapacity(record.getInt("speakerCapacity"));
+        for (String speaker : record.getList("speakers")) {
+            if (userManager.userExists(speaker) && userManager.getUserType(speaker) == UserType.SPEAKER) {
+                event.getSpeakers().add(speaker);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Creates the valid events of a batch and signs up their attendees, and returns the number of invalid events.
+     * <p></p>
+     * Since <code>createEvents</code> creates no event of a batch with an invalid event, the valid events are
+     * submitted again on their own. An attendee is only signed up if they are an existing user of the right type for
+     * the event, is not one of its speakers, the event has room, and it does not overlap another event they are
+     * signed up for.
+     */
+    private int createEvents(List<EventParameterObject> batch, List<List<String>> attendees,
+                             EventManagerFacade eventManager, UserManagerFacade userManager,
+                             Map<Integer, Integer> roomCapacities) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, EventCreationError> errors = eventManager.createEvents(batch, roomCapacities);
+        if (!errors.isEmpty()) {
+            List<EventParameterObject> valid = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (!errors.containsKey(i)) {
+                    valid.add(batch.get(i));
+                }
+            }
+            eventManager.createEvents(valid, roomCapacities);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            EventParameterObject event = batch.get(i);
+            for (String attendee : attendees.get(i)) {
+                if (userManager.userExists(attendee)
+                        && (userManager.getUserType(attendee) == UserType.VIP) == event.isVip()
+                        && !event.getSpeakers().contains(attendee)
+                        && !eventManager.getClashingEvent(attendee, event.getTitle()).isPresent()) {
+                    eventManager.addAttendee(event.getTitle(), attendee);
+                }
+            }
+        }
+        return errors.size();
+    }
+
+    private TransferResult importMessages(Path file, MessageManager messageManager) throws IOException {
+        int imported = 0;
+        int skipped = 0;
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                try {
+                    if (importMessage(record, messageManager)) {
+                        imported++;
+                    } else {
+                        skipped++;
+                    }
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    skipped++;
+                }
+            }
+        }
+        return new TransferResult("messages", imported, skipped);
+    }
+
+    /**
+     * Imports the message in <code>record</code> and returns whether it was added. A message that was saved with a
+     * UUID is given an ID according to the time it was sent.
+     */
+    private boolean importMessage(DataRecord record, MessageManager messageManager) {
+        LocalDateTime timeSent = record.getTime("timeSent");
+        long messageId = readId(record, timeSent);
+        String author = record.getRequiredString("author");
+        String text = record.getString("text") == null ? "" : record.getString("text");
+        String audience = record.getString("audience");
+        boolean added;
+        if (audience != null) {
+            added = messageManager.importBroadcast(messageId, timeSent, text, author, audience);
+        } else {
+            List<String> recipients = record.getList("recipients");
+            String replyTo = record.getString("replyTo");
+            added = !recipients.isEmpty() && messageManager.importMessage(messageId, timeSent, text, author,
+                    recipients, replyTo == null ? null : Long.valueOf(replyTo));
+        }
+        if (added && record.getBoolean("deleted")) {
+            messageManager.markAsDeleted(messageId);
+        }
+        return added;
+    }
+
+    private TransferResult importRequests(Path file, RequestManager requestManager) throws IOException {
+        int imported = 0;
+        int skipped = 0;
+        try (RecordReader reader = format.openReader(file)) {
+            DataRecord record;
+            while ((record = reader.read()) != null) {
+                try {
+                    if (importRequest(record, requestManager)) {
+                        imported++;
+                    } else {
+                        skipped++;
+                    }
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    skipped++;
+                }
+            }
+        }
+        return new TransferResult("requests", imported, skipped);
+    }
+
+    /**
+     * Imports the request in <code>record</code> and returns whether it was added. The request keeps its ID and the
+     * time it was made, so a request that already exists is skipped. A request without an ID is given a new one.
+     */
+    private boolean importRequest(DataRecord record, RequestManager requestManager) {
+        String text = record.getRequiredString("text");
+        String author = record.getRequiredString("author");
+        String eventTitle = record.getString("eventTitle");
+        Long requestId;
+        if (record.getString("id") == null) {
+            requestId = requestManager.addRequest(text, author, eventTitle);
+        } else {
+            LocalDateTime timeSent = record.getTime("timeSent");
+            requestId = readId(record, timeSent);
+            if (!requestManager.importRequest(requestId, timeSent, text, author, eventTitle)) {
+                return false;
+            }
+        }
+        String reply = record.getString("reply");
+        if (reply != null) {
+            requestManager.addReply(reply, requestId, record.getString("replyAuthor"));
+        }
+        if (record.getBoolean("addressed")) {
+            requestManager.updateStatus(requestId);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the ID in the <code>id</code> column of <code>record</code>. An ID that was saved as a UUID is converted
+     * according to <code>timeSent</code>.
+     */
+    private long readId(DataRecord record, LocalDateTime timeSent) {
+        String id = record.getRequiredString("id");
+        return id.indexOf('-', 1) != -1 ?
+                MessageIdGenerator.fromLegacyId(UUID.fromString(id), timeSent) : Long.parseLong(id);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Exporting">
+
+    /**
+     * Exports the records held by the managers in <code>managers</code> to one file for each kind of record in the
+     * directory, which is created if it does not exist. Existing files are replaced.
+     * <p></p>
+     * Passwords are not exported, and deleted messages that are kept because they have replies are exported without
+     * their text.
+     *
+     * @param managers the managers whose records are exported
+     * @return the number of records of each kind that were exported
+     * @throws IOException if a file cannot be written
+     */
+    public List<TransferResult> exportManagers(ManagerParameterObject managers) throws IOException {
+        Files.createDirectories(directory);
+        List<TransferResult> results = new ArrayList<>();
+        results.add(exportUsers(managers.getUserManager()));
+        results.add(exportRooms(managers.getRoomManager()));
+        results.add(exportEvents(managers.getEventManager()));
+        results.add(exportMessages(managers.getMessageManager()));
+        results.add(exportRequests(managers.getRequestManager()));
+        return results;
+    }
+
+    private TransferResult exportUsers(UserManagerFacade userManager) throws IOException {
+        int exported = 0;
+        try (RecordWriter writer = format.openWriter(getFile("users"), USER_COLUMNS)) {
+            for (UserType type : UserType.values()) {
+                for (String username : userManager.getAllUsernamesOfType(type)) {
+                    writer.write(new DataRecord()
+                            .put("username", username)
+                            .put("type", type.name())
+                            .put("friends", userManager.getFriendsList(username)));
+                    exported++;
+                }
+            }
+        }
+        return new TransferResult("users", exported, 0);
+    }
+
+    private TransferResult exportRooms(RoomManager roomManager) throws IOException {
+        int exported = 0;
+        try (RecordWriter writer = format.openWriter(getFile("rooms"), ROOM_COLUMNS)) {
+            for (Map.Entry<Integer, Integer> room : roomManager.getRoomInformation().entrySet()) {
+                writer.write(new DataRecord().put("id", room.getKey()).put("capacity", room.getValue()));
+                exported++;
+            }
+        }
+        return new TransferResult("rooms", exported, 0);
+    }
+
+    private TransferResult exportEvents(EventManagerFacade eventManager) throws IOException {
+        int exported = 0;
+        try (RecordWriter writer = format.openWriter(getFile("events"), EVENT_COLUMNS)) {
+            for (String title : eventManager.getEventList()) {
+                writer.write(new DataRecord()
+                        .put("title", title)
+                        .put("vip", eventManager.isVIP(title))
+                        .put("startTime", eventManager.getStartTime(title).toString())
+                        .put("duration", eventManager.getDuration(title))
+                        .put("roomID", eventManager.getRoomID(title))
+                        .put("capacity", eventManager.getCapacity(title))
+                        .put("speakerCapacity", eventManager.getSpeakerCapacity(title))
+                        .put("speakers", eventManager.getSpeakers(title))
+                        .put("attendees", eventManager.getAttendees(title)));
+                exported++;
+            }
+        }
+        return new TransferResult("events", exported, 0);
+    }
+
+    private TransferResult exportMessages(MessageManager messageManager) throws IOException {
+        int exported = 0;
+        try (RecordWriter writer = format.openWriter(getFile("messages"), MESSAGE_COLUMNS)) {
+            for (Long messageId : messageManager.getMessageIds()) {
+                writer.write(new DataRecord()
+                        .put("id", messageId)
+                        .put("timeSent", messageManager.getTimeSent(messageId).toString())
+                        .put("author", messageManager.getAuthor(messageId))
+                        .put("recipients", messageManager.getRecipients(messageId))
+                        .put("audience", messageManager.getAudience(messageId))
+                        .put("replyTo", messageManager.getParentId(messageId))
+                        .put("deleted", messageManager.isDeleted(messageId))
+                        .put("text", messageManager.getText(messageId)));
+                exported++;
+            }
+        }
+        return new TransferResult("messages", exported, 0);
+    }
+
+    private TransferResult exportRequests(RequestManager requestManager) throws IOException {
+        int exported = 0;
+        try (RecordWriter writer = format.openWriter(getFile("requests"), REQUEST_COLUMNS)) {
+            for (Long requestId : requestManager.getRequestsIds()) {
+                Request request = requestManager.getRequestWithId(requestId);
+                writer.write(new DataRecord()
+                        .put("id", requestId)
+                        .put("timeSent", request.getTimeSent().toString())
+                        .put("author", request.getAuthor())
+                        .put("text", request.getText())
+                        .put("eventTitle", request.getEventTitle())
+                        .put("category", request.getCategory().name())
+                        .put("priority", request.getPriority().name())
+                        .put("needs", new ArrayList<>(request.getNeeds()))
+                        .put("addressed", request.getStatus())
+                        .put("reply", request.getReply())
+                        .put("replyAuthor", request.getReplyAuthor()));
+                exported++;
+            }
+        }
+        return new TransferResult("requests", exported, 0);
+    }
+    //</editor-fold>
+}
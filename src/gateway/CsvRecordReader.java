@@ -0,0 +1,168 @@
+package gateway;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class reads records from a CSV file, as described in RFC 4180, whose first line names the columns. Quoted
+ * fields may contain commas, quotes and line breaks, and blank lines are skipped.
+ * <p></p>
+ * The file is read through a buffer of fixed size, so only the current record is held in memory.
+ */
+class CsvRecordReader implements RecordReader {
+    private final Reader in;
+    private final char[] buffer;
+    private int bufferLength;
+    private int bufferPosition;
+    private List<String> columns;
+    private int line;
+    /**
+     * The character read ahead of the current position, or -2 if none was read ahead.
+     */
+    private int pushedBack;
+
+    /**
+     * Creates a new <code>CsvRecordReader</code>.
+     *
+     * @param in the source of the file
+     */
+    CsvRecordReader(Reader in) {
+        this.in = in;
+        this.buffer = new char[8192];
+        this.line = 1;
+        this.pushedBack = -2;
+    }
+
+    @Override
+    public DataRecord read() throws IOException {
+        if (columns == null) {
+            columns = readLine();
+            if (columns == null) {
+                return null;
+            }
+        }
+        List<String> values = readLine();
+        if (values == null) {
+            return null;
+        }
+        if (values.size() > columns.size()) {
+            throw new IOException(String.format("Line %d has more fields than the header.", line - 1));
+        }
+        DataRecord record = new DataRecord();
+        for (int i = 0; i < values.size(); i++) {
+            record.put(columns.get(i), values.get(i));
+        }
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the fields of the next line that is not blank, or returns <code>null</code> at the end of the file.
+     */
+    private List<String> readLine() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean lineIsEmpty = true;
+        int c;
+        while ((c = next()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = following;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                lineIsEmpty = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                lineIsEmpty = false;
+            } else if (c == '\r') {
+                int following = next();
+                if (following != '\n') {
+                    pushedBack = following;
+                }
+                line++;
+                if (!lineIsEmpty || field.length() > 0) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+            } else if (c == '\n') {
+                line++;
+                if (!lineIsEmpty || field.length() > 0) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+            } else {
+                field.append((char) c);
+                lineIsEmpty = false;
+            }
+        }
+        if (quoted) {
+            throw new IOException(String.format("Line %d ends inside a quoted field.", line));
+        }
+        if (lineIsEmpty && field.length() == 0) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int next() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        if (bufferPosition == bufferLength) {
+            bufferLength = in.read(buffer);
+            bufferPosition = 0;
+            if (bufferLength <= 0) {
+                bufferLength = 0;
+                return -1;
+            }
+        }
+        return buffer[bufferPosition++];
+    }
+
+    /**
+     * Splits a field that holds a list, as written by <code>CsvRecordWriter</code>, into its elements.
+     *
+     * @param field the field, which is not empty
+     * @return the elements of the list
+     */
+    static List<String> splitList(String field) {
+        List<String> elements = new ArrayList<>();
+        StringBuilder element = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                element.append(field.charAt(++i));
+            } else if (c == ';') {
+                elements.add(element.toString());
+                element.setLength(0);
+            } else {
+                element.append(c);
+            }
+        }
+        elements.add(element.toString());
+        return elements;
+    }
+}
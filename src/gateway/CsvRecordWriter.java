@@ -0,0 +1,84 @@
+package gateway;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * This class writes records to a CSV file, as described in RFC 4180, with a header line naming the columns.
+ * <p></p>
+ * A field that holds a list is written as its elements separated by semicolons, with a backslash before each
+ * semicolon or backslash within an element.
+ */
+class CsvRecordWriter implements RecordWriter {
+    private final Writer out;
+    private final List<String> columns;
+
+    /**
+     * Creates a new <code>CsvRecordWriter</code> and writes the header line.
+     *
+     * @param out     the destination of the file
+     * @param columns the names of the fields that are written, in order
+     * @throws IOException if the header line cannot be written
+     */
+    CsvRecordWriter(Writer out, List<String> columns) throws IOException {
+        this.out = out;
+        this.columns = columns;
+        writeLine(columns.toArray());
+    }
+
+    @Override
+    public void write(DataRecord record) throws IOException {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = record.get(columns.get(i));
+        }
+        writeLine(values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(values[i]);
+        }
+        out.write('\n');
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String field = value instanceof List ? joinList((List<String>) value) : value.toString();
+        if (field.indexOf(',') == -1 && field.indexOf('"') == -1 && field.indexOf('\n') == -1
+                && field.indexOf('\r') == -1) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Returns the elements of <code>list</code> separated by semicolons, with a backslash before each semicolon or
+     * backslash within an element.
+     */
+    private static String joinList(List<String> list) {
+        StringBuilder joined = new StringBuilder();
+        for (String element : list) {
+            if (joined.length() > 0) {
+                joined.append(';');
+            }
+            joined.append(element.replace("\\", "\\\\").replace(";", "\\;"));
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package gateway;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * This enum contains the file formats in which data can be imported and exported in bulk.
+ */
+public enum DataFormat {
+    /**
+     * Comma-separated values with a header line, one record per line.
+     */
+    CSV("csv"),
+    /**
+     * JSON Lines, one JSON object per line.
+     */
+    JSON("jsonl");
+
+    private final String extension;
+
+    DataFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the extension of the names of files in this format.
+     *
+     * @return the file extension, without a leading dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Opens a file in this format for reading.
+     *
+     * @param file the path to the file
+     * @return a reader of the records in the file
+     * @throws IOException if the file cannot be opened
+     */
+    RecordReader openReader(Path file) throws IOException {
+        if (this == CSV) {
+            return new CsvRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+        return new JsonRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates or replaces a file in this format for writing.
+     *
+     * @param file    the path to the file
+     * @param columns the names of the fields of each record, in the order in which they are written
+     * @return a writer of records to the file
+     * @throws IOException if the file cannot be created
+     */
+    RecordWriter openWriter(Path file, List<String> columns) throws IOException {
+        if (this == CSV) {
+            return new CsvRecordWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), columns);
+        }
+        return new JsonRecordWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package gateway;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents one record of a bulk import or export file, such as a single user or event, as a set of
+ * named fields.
+ * <p></p>
+ * Each field holds a string, a number, a boolean, a list of strings, or <code>null</code>. Readers may give numbers,
+ * booleans and lists as strings, so the getters convert their fields from strings as needed.
+ */
+class DataRecord {
+    private final Map<String, Object> fields;
+
+    /**
+     * Creates a new <code>DataRecord</code> with no fields.
+     */
+    DataRecord() {
+        this.fields = new LinkedHashMap<>();
+    }
+
+    /**
+     * Sets the value of a field.
+     *
+     * @param field the name of the field
+     * @param value a string, number, boolean or list of strings, or <code>null</code>
+     * @return this record
+     */
+    DataRecord put(String field, Object value) {
+        fields.put(field, value);
+        return this;
+    }
+
+    /**
+     * Returns the value of a field, as it was put or read.
+     *
+     * @param field the name of the field
+     * @return the value of the field, or <code>null</code> if it has no value
+     */
+    Object get(String field) {
+        return fields.get(field);
+    }
+
+    /**
+     * Returns the names of the fields of this record, in the order in which they were put or read.
+     *
+     * @return the names of the fields of this record
+     */
+    Iterable<String> getFields() {
+        return fields.keySet();
+    }
+
+    /**
+     * Returns the value of a field as a string, or <code>null</code> if the field is missing or empty.
+     *
+     * @param field the name of the field
+     * @return the value of the field, or <code>null</code> if it is missing or empty
+     */
+    String getString(String field) {
+        Object value = fields.get(field);
+        if (value == null || value instanceof List) {
+            return null;
+        }
+        String string = value.toString();
+        return string.isEmpty() ? null : string;
+    }
+
+    /**
+     * Returns the value of a field as an <code>int</code>.
+     *
+     * @param field the name of the field
+     * @return the value of the field
+     * @throws IllegalArgumentException if the field is missing or is not an integer
+     */
+    int getInt(String field) {
+        return Integer.parseInt(getRequiredString(field).trim());
+    }
+
+    /**
+     * Returns the value of a field as a <code>boolean</code>, which is <code>false</code> if the field is missing.
+     *
+     * @param field the name of the field
+     * @return <code>true</code> iff the field holds <code>true</code>, ignoring case
+     */
+    boolean getBoolean(String field) {
+        return Boolean.parseBoolean(getString(field));
+    }
+
+    /**
+     * Returns the value of a field as a time in ISO-8601 format, such as <code>2020-11-16T09:00</code>.
+     *
+     * @param field the name of the field
+     * @return the time held by the field
+     * @throws IllegalArgumentException if the field is missing or is not a time
+     */
+    LocalDateTime getTime(String field) {
+        return LocalDateTime.parse(getRequiredString(field).trim());
+    }
+
+    /**
+     * Returns the value of a field as a list of strings, which is empty if the field is missing. A string value is
+     * split as written by <code>CsvRecordWriter</code>.
+     *
+     * @param field the name of the field
+     * @return the strings held by the field
+     */
+    @SuppressWarnings("unchecked")
+    List<String> getList(String field) {
+        Object value = fields.get(field);
+        if (value == null) {
+            return new ArrayList<>();
+        } else if (value instanceof List) {
+            return new ArrayList<>((List<String>) value);
+        }
+        String string = value.toString();
+        return string.isEmpty() ? new ArrayList<>() : CsvRecordReader.splitList(string);
+    }
+
+    /**
+     * Returns the value of a field as a string.
+     *
+     * @param field the name of the field
+     * @return the value of the field
+     * @throws IllegalArgumentException if the field is missing or empty
+     */
+    String getRequiredString(String field) {
+        String value = getString(field);
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("The field %s is missing.", field));
+        }
+        return value;
+    }
+}
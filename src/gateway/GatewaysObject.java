@@ -7,6 +7,8 @@ import room.RoomManager;
 import system.ManagerParameterObject;
 import user.manager.UserManagerFacade;
 
+import java.io.IOException;
+
 /**
  * A class which encapsulates the various gateways used in the program, and consolidates the saving and loading of
  * manager objects into one class.
@@ -33,60 +35,71 @@ public class GatewaysObject {
      * Saves <code>userManager</code> to a .ser file.
      *
      * @param userManager the instance of <code>UserManager</code> to be saved
+     * @return <code>true</code> if and only if it was saved
      */
-    private void writeUsers(UserManagerFacade userManager) {
-        userGate.saveManager(userManager);
+    private boolean writeUsers(UserManagerFacade userManager) {
+        return userGate.saveManager(userManager);
     }
 
     /**
      * Saves <code>messageManager</code> to a .ser file.
      *
      * @param messageManager the instance of <code>MessageManager</code> to be saved
+     * @return <code>true</code> if and only if it was saved
      */
-    private void writeMessages(MessageManager messageManager) {
-        messageGate.saveManager(messageManager);
+    private boolean writeMessages(MessageManager messageManager) {
+        return messageGate.saveManager(messageManager);
     }
 
     /**
      * Saves <code>eventManager</code> to a .ser file.
      *
      * @param eventManager the instance of <code>EventManager</code> to be saved
+     * @return <code>true</code> if and only if it was saved
      */
-    private void writeEvents(EventManagerFacade eventManager) {
-        eventGate.saveManager(eventManager);
+    private boolean writeEvents(EventManagerFacade eventManager) {
+        return eventGate.saveManager(eventManager);
     }
 
     /**
      * Saves <code>roomManager</code> to a .ser file.
      *
      * @param roomManager the instance of <code>RoomManager</code> to be saved
+     * @return <code>true</code> if and only if it was saved
      */
-    private void writeRooms(RoomManager roomManager) {
-        roomGate.saveManager(roomManager);
+    private boolean writeRooms(RoomManager roomManager) {
+        return roomGate.saveManager(roomManager);
     }
 
     /**
      * Saves <code>requestManager</code> to a .ser file.
      *
      * @param requestManager the instance of <code>RequestManager</code> to be saved
+     * @return <code>true</code> if and only if it was saved
      */
-    private void writeRequests(RequestManager requestManager) {
-        requestGate.saveManager(requestManager);
+    private boolean writeRequests(RequestManager requestManager) {
+        return requestGate.saveManager(requestManager);
     }
 
     /**
      * Saves all managers in <code>managers</code> to .ser files.
      * <p></p>
-     * The saved managers consist of a UserManager, MessageManager, EventManager, and a RoomManager.
+     * The saved managers consist of a UserManager, MessageManager, EventManager, and a RoomManager. Once every manager
+     * has been saved, the message text files that the saved MessageManager no longer refers to are deleted.
      *
      * @param managers the <code>ManagerParameterObject</code> whose stored managers are saved
+     * @return <code>true</code> if and only if every manager was saved
      */
-    public void writeManagers(ManagerParameterObject managers) {
-        writeUsers(managers.getUserManager());
-        writeMessages(managers.getMessageManager());
-        writeEvents(managers.getEventManager());
-        writeRooms(managers.getRoomManager());
-        writeRequests(managers.getRequestManager());
+    public boolean writeManagers(ManagerParameterObject managers) {
+        boolean saved = writeUsers(managers.getUserManager());
+        saved &= writeMessages(managers.getMessageManager());
+        saved &= writeEvents(managers.getEventManager());
+        saved &= writeRooms(managers.getRoomManager());
+        saved &= writeRequests(managers.getRequestManager());
+        if (saved) {
+            managers.getMessageManager().deleteCompactedText();
+        }
+        return saved;
     }
 
     /**
@@ -104,4 +117,21 @@ public class GatewaysObject {
         RequestManager requestManager = requestGate.getSavedManager();
         return new ManagerParameterObject(userManager, messageManager, roomManager, eventManager, requestManager);
     }
+
+    /**
+     * Gets a <code>ManagerParameterObject</code> consisting of managers loaded from .ser files, failing instead of
+     * replacing a file that cannot be read with an empty manager. This keeps saved data from being overwritten by a
+     * program that could not read it.
+     *
+     * @return an object consisting of managers loaded from .ser files
+     * @throws IOException if any of the .ser files cannot be read
+     */
+    public ManagerParameterObject loadManagers() throws IOException {
+        UserManagerFacade userManager = userGate.loadManager();
+        MessageManager messageManager = messageGate.loadManager();
+        EventManagerFacade eventManager = eventGate.loadManager();
+        RoomManager roomManager = roomGate.loadManager();
+        RequestManager requestManager = requestGate.loadManager();
+        return new ManagerParameterObject(userManager, messageManager, roomManager, eventManager, requestManager);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package gateway;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This class reads records from a JSON Lines file, in which each line that is not blank is a JSON object holding one
+ * record.
+ * <p></p>
+ * The value of each member must be a string, number, boolean, <code>null</code>, or an array of strings and numbers.
+ * Numbers and booleans are read as strings, and arrays as lists of strings. Only the current line is held in memory.
+ */
+class JsonRecordReader implements RecordReader {
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    private final BufferedReader in;
+    private int lineNumber;
+    private String line;
+    private int position;
+
+    /**
+     * Creates a new <code>JsonRecordReader</code>.
+     *
+     * @param in the source of the file
+     */
+    JsonRecordReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public DataRecord read() throws IOException {
+        do {
+            line = in.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.trim().isEmpty());
+        position = 0;
+        DataRecord record = new DataRecord();
+        expect('{');
+        if (peek() == '}') {
+            position++;
+        } else {
+            do {
+                String field = readString();
+                expect(':');
+                record.put(field, readValue());
+            } while (accept(','));
+            expect('}');
+        }
+        if (peek() != -1) {
+            throw error("Unexpected text after the end of the object");
+        }
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object readValue() throws IOException {
+        int c = peek();
+        if (c == '"') {
+            return readString();
+        } else if (c == '[') {
+            position++;
+            List<String> list = new ArrayList<>();
+            if (peek() == ']') {
+                position++;
+                return list;
+            }
+            do {
+                Object element = readValue();
+                if (!(element instanceof String)) {
+                    throw error("Arrays may only hold strings and numbers");
+                }
+                list.add((String) element);
+            } while (accept(','));
+            expect(']');
+            return list;
+        }
+        int start = position;
+        while (position < line.length() && ",}] \t".indexOf(line.charAt(position)) == -1) {
+            position++;
+        }
+        String literal = line.substring(start, position);
+        if (literal.equals("null")) {
+            return null;
+        } else if (literal.equals("true") || literal.equals("false") || NUMBER.matcher(literal).matches()) {
+            return literal;
+        }
+        throw error("Unexpected value " + literal);
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder string = new StringBuilder();
+        while (position < line.length()) {
+            char c = line.charAt(position++);
+            if (c == '"') {
+                return string.toString();
+            } else if (c != '\\') {
+                string.append(c);
+            } else if (position < line.length()) {
+                char escaped = line.charAt(position++);
+                switch (escaped) {
+                    case 'n':
+                        string.append('\n');
+                        break;
+                    case 'r':
+                        string.append('\r');
+                        break;
+                    case 't':
+                        string.append('\t');
+                        break;
+                    case 'b':
+                        string.append('\b');
+                        break;
+                    case 'f':
+                        string.append('\f');
+                        break;
+                    case 'u':
+                        if (position + 4 > line.length()) {
+                            throw error("Incomplete escape sequence");
+                        }
+                        string.append(readHexCharacter());
+                        break;
+                    default:
+                        string.append(escaped);
+                }
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    /**
+     * Reads the four hexadecimal digits of a Unicode escape sequence and returns the character they encode.
+     */
+    private char readHexCharacter() throws IOException {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(line.charAt(position++), 16);
+            if (digit == -1) {
+                throw error("Invalid escape sequence");
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    /**
+     * Returns the next character that is not white space without consuming it, or -1 at the end of the line.
+     */
+    private int peek() {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position < line.length() ? line.charAt(position) : -1;
+    }
+
+    private boolean accept(char c) {
+        if (peek() == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) throws IOException {
+        if (!accept(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException(String.format("%s at line %d, column %d.", message, lineNumber, position + 1));
+    }
+}
@@ -0,0 +1,92 @@
+package gateway;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * This class writes records to a JSON Lines file, in which each line is a JSON object holding one record. Numbers and
+ * booleans are written as JSON numbers and booleans, and lists as arrays of strings.
+ */
+class JsonRecordWriter implements RecordWriter {
+    private final Writer out;
+
+    /**
+     * Creates a new <code>JsonRecordWriter</code>.
+     *
+     * @param out the destination of the file
+     */
+    JsonRecordWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(DataRecord record) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (String field : record.getFields()) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            writeString(field);
+            out.write(':');
+            Object value = record.get(field);
+            if (value == null) {
+                out.write("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                out.write(value.toString());
+            } else if (value instanceof List) {
+                out.write('[');
+                List<String> list = (List<String>) value;
+                for (int i = 0; i < list.size(); i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    writeString(list.get(i));
+                }
+                out.write(']');
+            } else {
+                writeString(value.toString());
+            }
+        }
+        out.write("}\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeString(String string) throws IOException {
+        out.write('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,19 @@
+package gateway;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A source of the records in a bulk import file, which reads one record at a time so that files of any size can be
+ * imported.
+ */
+interface RecordReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record, or <code>null</code> if every record has been read
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    DataRecord read() throws IOException;
+}
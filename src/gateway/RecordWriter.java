@@ -0,0 +1,18 @@
+package gateway;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A destination for the records of a bulk export file, which writes one record at a time.
+ */
+interface RecordWriter extends Closeable {
+
+    /**
+     * Writes a record.
+     *
+     * @param record the record to write
+     * @throws IOException if the file cannot be written
+     */
+    void write(DataRecord record) throws IOException;
+}
@@ -1,6 +1,10 @@
 package gateway;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,11 +65,18 @@ abstract class SerializedManagerGateway<T extends Serializable> {
      */
     abstract protected String getReadingErrorMessage();
 
+    /**
+     * Writes <code>obj</code> to a temporary file that then replaces <code>fileName</code>, so that the previously saved
+     * manager stays intact if writing fails part way through.
+     */
     private void saveToFile(String fileName, T obj) throws IOException {
-        OutputStream file = new FileOutputStream(fileName);
+        Path target = Paths.get(fileName);
+        Path temporary = Paths.get(fileName + ".tmp");
+        OutputStream file = new FileOutputStream(temporary.toFile());
         ObjectOutput out = new ObjectOutputStream(file);
         out.writeObject(obj);
         out.close();
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     private T readFromFile(String fileName) throws IOException, ClassNotFoundException {
@@ -83,29 +94,47 @@ abstract class SerializedManagerGateway<T extends Serializable> {
      * Saves an instance of a manager class to a .ser file.
      *
      * @param manager the manager instance to be saved
+     * @return <code>true</code> if and only if the manager was saved
      */
-    public void saveManager(T manager) {
+    public boolean saveManager(T manager) {
         try {
             saveToFile(getFilePath(), manager);
+            return true;
         } catch (IOException e) {
             e.printStackTrace();
             Logger.getGlobal().log(Level.SEVERE, getSavingErrorMessage(), e);
+            return false;
         }
     }
 
     /**
-     * Returns the manager instance that is saved in a .ser file.
+     * Returns the manager instance that is saved in a .ser file, or a manager containing none of its respective entity
+     * if the file cannot be read.
      *
      * @return the saved manager instance
      */
     public T getSavedManager() {
         try {
-            return readFromFile(getFilePath());
-        } catch (IOException | ClassNotFoundException e) {
+            return loadManager();
+        } catch (IOException e) {
             e.printStackTrace();
             Logger.getGlobal().log(Level.SEVERE, getReadingErrorMessage(), e);
             return createEmptyManager();
         }
     }
 
+    /**
+     * Returns the manager instance that is saved in a .ser file.
+     *
+     * @return the saved manager instance
+     * @throws IOException if the file cannot be read
+     */
+    public T loadManager() throws IOException {
+        try {
+            return readFromFile(getFilePath());
+        } catch (ClassNotFoundException e) {
+            throw new IOException(getReadingErrorMessage(), e);
+        }
+    }
+
 }
@@ -0,0 +1,50 @@
+package gateway;
+
+/**
+ * This class records how many records of one kind were imported or exported in bulk, and how many were skipped.
+ */
+public class TransferResult {
+    private final String kind;
+    private final int transferred;
+    private final int skipped;
+
+    /**
+     * Creates a new <code>TransferResult</code>.
+     *
+     * @param kind        the kind of the records, such as <code>"users"</code>
+     * @param transferred the number of records that were imported or exported
+     * @param skipped     the number of records that were skipped because they were invalid
+     */
+    public TransferResult(String kind, int transferred, int skipped) {
+        this.kind = kind;
+        this.transferred = transferred;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Gets the kind of the records, such as <code>"users"</code>.
+     *
+     * @return the kind of the records
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the number of records that were imported or exported.
+     *
+     * @return the number of records that were imported or exported
+     */
+    public int getTransferred() {
+        return transferred;
+    }
+
+    /**
+     * Gets the number of records that were skipped because they were invalid.
+     *
+     * @return the number of records that were skipped
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+}
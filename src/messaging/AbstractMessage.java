@@ -10,14 +10,25 @@ import java.util.UUID;
  * This includes messages sent between users of all types as well as requests sent by users to Organizers.
  */
 public abstract class AbstractMessage implements Serializable {
+    private static final long serialVersionUID = 3808062251759981813L;
+
+    /**
+     * The generator of the IDs of all messages and requests created while the program is running.
+     */
+    private static final MessageIdGenerator ID_GENERATOR = new MessageIdGenerator(0);
 
     /**
      * An Abstract class that provides methods for messages that can be sent between users.
      */
-    protected final UUID Id;
+    protected final long id;
     protected final String author;
     protected final LocalDateTime timeSent;
     protected String text;
+    /**
+     * The ID of this message in versions of the program that identified messages by UUID, or null if this message was
+     * created since. Such messages are given a new ID by the manager that loads them.
+     */
+    private UUID Id;
 
     /**
      * Creates a new message object using the given information.
@@ -26,18 +37,44 @@ public abstract class AbstractMessage implements Serializable {
      * @param author the author of the message
      */
     public AbstractMessage(String text, String author) {
-        this.Id = UUID.randomUUID();
+        this.id = ID_GENERATOR.nextId();
         this.text = text;
         this.author = author;
         this.timeSent = LocalDateTime.now();
     }
 
     /**
-     * Gets the unique ID for this message, which is used to refer to this message.
+     * Creates a message object with an ID and time that were assigned when the message was first sent, such as a
+     * message that is being imported.
+     *
+     * @param id       the ID of the message
+     * @param timeSent the time at which the message was sent
+     * @param text     the text to be included in the message
+     * @param author   the author of the message
+     */
+    protected AbstractMessage(long id, LocalDateTime timeSent, String text, String author) {
+        this.id = id;
+        this.text = text;
+        this.author = author;
+        this.timeSent = timeSent;
+    }
+
+    /**
+     * Gets the unique ID for this message, which is used to refer to this message. Messages that were sent later have
+     * greater IDs.
      *
      * @return the ID for this message
      */
-    public UUID getId() {
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the UUID that identified this message in versions of the program that identified messages by UUID.
+     *
+     * @return the UUID of this message, or null if it was created since messages were given numeric IDs
+     */
+    public UUID getLegacyId() {
         return Id;
     }
 
@@ -50,6 +87,24 @@ public abstract class AbstractMessage implements Serializable {
         return author;
     }
 
+    /**
+     * Gets the time at which this message was sent.
+     *
+     * @return the time at which this message was sent
+     */
+    public LocalDateTime getTimeSent() {
+        return timeSent;
+    }
+
+    /**
+     * Gets the text of this message, or <code>null</code> if the text is not held by this object.
+     *
+     * @return the text of this message, or <code>null</code> if it is stored elsewhere
+     */
+    public String getText() {
+        return text;
+    }
+
     /**
      * Returns a string representation of this message. The string representation consists of the time
      * the message was sent, author of this message, and the text of this message.
@@ -58,9 +113,20 @@ public abstract class AbstractMessage implements Serializable {
      */
     @Override
     public String toString() {
+        return toString(text);
+    }
+
+    /**
+     * Returns a string representation of this message in which <code>body</code> is shown as its text. This is used
+     * for messages whose text is not held by this object.
+     *
+     * @param body the text of this message
+     * @return a string representation of this message
+     */
+    public String toString(String body) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM HH:mm");
         String formattedTime = timeSent.format(formatter);
-        return String.format("%s\n%s said:\n> %s\n", formattedTime, author, text);
+        return String.format("%s\n%s said:\n> %s\n", formattedTime, author, body);
     }
 
 }
@@ -0,0 +1,68 @@
+package messaging;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This class represents a message sent to every member of a group of users, such as all attendees of the conference
+ * or all attendees of an event.
+ * <p></p>
+ * Rather than listing its recipients, a broadcast message refers to its group by an audience key (see
+ * {@link messaging.manager.MessageAudience}). Whether a user is a recipient is decided when the message is read, using
+ * the audiences that the user belongs to at that time.
+ */
+public class BroadcastMessage extends Message {
+    private static final long serialVersionUID = 7561473573077550323L;
+
+    private final String audience;
+
+    /**
+     * Creates a new broadcast message using the given information. Broadcast messages are never replies, so their
+     * nesting level is 0.
+     *
+     * @param text     the text to be included in the message
+     * @param author   the author of the message
+     * @param audience the key of the audience that this message is sent to
+     */
+    public BroadcastMessage(String text, String author, String audience) {
+        super(text, author, Collections.emptyList(), 0);
+        this.audience = audience;
+    }
+
+    /**
+     * Creates a broadcast message object with an ID and time that were assigned when the message was first sent.
+     *
+     * @param id       the ID of the message
+     * @param timeSent the time at which the message was sent
+     * @param text     the text to be included in the message
+     * @param author   the author of the message
+     * @param audience the key of the audience that this message is sent to
+     */
+    public BroadcastMessage(long id, LocalDateTime timeSent, String text, String author, String audience) {
+        super(id, timeSent, text, author, Collections.emptyList(), 0);
+        this.audience = audience;
+    }
+
+    /**
+     * Gets the key of the audience that this message is sent to.
+     *
+     * @return the key of the audience that this message is sent to
+     */
+    public String getAudience() {
+        return audience;
+    }
+
+    /**
+     * Returns whether or not the user corresponding to username is a recipient of this message, given the audiences
+     * that the user belongs to.
+     *
+     * @param username  the username to check for being a recipient of this message
+     * @param audiences the keys of the audiences that <code>username</code> belongs to
+     * @return <code>true</code> if and only if this message's audience is among <code>audiences</code>
+     */
+    @Override
+    public boolean isAddressedTo(String username, Collection<String> audiences) {
+        return audiences.contains(audience);
+    }
+}
@@ -1,6 +1,8 @@
 package messaging;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,9 +10,16 @@ import java.util.UUID;
  * This class represents a message between users of the program.
  */
 public class Message extends AbstractMessage {
+    private static final long serialVersionUID = -6298013224407059323L;
+
     private final List<String> recipients;
-    private final List<UUID> replies;
+    private final List<Long> replyIds;
     private final int nesting;
+    /**
+     * The UUIDs of the replies to this message, saved by versions of the program that identified messages by UUID, or
+     * null if this message was created since.
+     */
+    private List<UUID> replies;
 
     /**
      * Creates a new message object using the given information.
@@ -26,7 +35,26 @@ public class Message extends AbstractMessage {
     public Message(String text, String author, List<String> recipients, int nesting) {
         super(text, author);
         this.recipients = recipients;
-        this.replies = new ArrayList<>();
+        this.replyIds = new ArrayList<>();
+        this.nesting = nesting;
+    }
+
+    /**
+     * Creates a message object with an ID and time that were assigned when the message was first sent.
+     * Precondition: <code>recipients</code> must be nonempty.
+     *
+     * @param id         the ID of the message
+     * @param timeSent   the time at which the message was sent
+     * @param text       the text to be included in the message
+     * @param author     the author of the message
+     * @param recipients a nonempty list of usernames representing the recipients of this message
+     * @param nesting    an integer that indicates how deeply nested this message is in the reply hierarchy
+     */
+    public Message(long id, LocalDateTime timeSent, String text, String author, List<String> recipients,
+                   int nesting) {
+        super(id, timeSent, text, author);
+        this.recipients = recipients;
+        this.replyIds = new ArrayList<>();
         this.nesting = nesting;
     }
 
@@ -60,12 +88,34 @@ public class Message extends AbstractMessage {
         return recipients.contains(username);
     }
 
+    /**
+     * Returns whether or not the user corresponding to username is a recipient of this message, given the audiences
+     * that the user belongs to. A message with an explicit list of recipients ignores <code>audiences</code>.
+     *
+     * @param username  the username to check for being a recipient of this message
+     * @param audiences the keys of the audiences that <code>username</code> belongs to
+     * @return <code>true</code> if and only if this message is addressed to <code>username</code>
+     */
+    public boolean isAddressedTo(String username, Collection<String> audiences) {
+        return hasRecipient(username);
+    }
+
     /**
      * Gets the list of IDs corresponding to message that are replies to this message.
      *
      * @return the list of IDs corresponding to message that are replies to this message.
      */
-    public List<UUID> getReplies() {
+    public List<Long> getReplies() {
+        return replyIds;
+    }
+
+    /**
+     * Gets the UUIDs of the replies to this message that were saved by a version of the program that identified
+     * messages by UUID.
+     *
+     * @return the UUIDs of the replies to this message, or null if it was created since messages were given numeric IDs
+     */
+    public List<UUID> getLegacyReplies() {
         return replies;
     }
 
@@ -74,8 +124,25 @@ public class Message extends AbstractMessage {
      *
      * @param replyId the unique ID corresponding to a message to be added as a reply to this message
      */
-    public void addReply(UUID replyId) {
-        replies.add(replyId);
+    public void addReply(Long replyId) {
+        replyIds.add(replyId);
+    }
+
+    /**
+     * Removes the ID of a message from the list of replies to this message.
+     *
+     * @param replyId the unique ID corresponding to a reply to this message
+     */
+    public void removeReply(Long replyId) {
+        replyIds.remove(replyId);
+    }
+
+    /**
+     * Releases the text of this message once it has been stored elsewhere, so that this object only holds the
+     * message's header.
+     */
+    public void detachText() {
+        text = null;
     }
 
     /**
@@ -0,0 +1,98 @@
+package messaging;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class generates the unique IDs of messages and requests.
+ * <p></p>
+ * Each ID is a 64-bit number made of, from the most significant bit down, 41 bits holding the number of milliseconds
+ * since 2020-01-01 UTC, 10 bits identifying the node that generated the ID, and 12 bits holding a sequence number that
+ * distinguishes IDs generated in the same millisecond. IDs from one generator therefore increase strictly over time,
+ * so sorting IDs also sorts messages by when they were sent.
+ * <p></p>
+ * Generating an ID never blocks. If more than 4096 IDs are requested within a single millisecond, the generator
+ * continues with the next millisecond's IDs instead of waiting.
+ */
+public class MessageIdGenerator {
+    private static final long EPOCH = 1577836800000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long node;
+    private final AtomicLong lastId;
+
+    /**
+     * Creates a new <code>MessageIdGenerator</code> that tags the IDs it generates with the given node number.
+     *
+     * @param node a number between 0 and 1023 that is unique to each generator that creates IDs concurrently
+     */
+    public MessageIdGenerator(long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException(String.format("Node %d is not between 0 and %d.", node, MAX_NODE));
+        }
+        this.node = node;
+        this.lastId = new AtomicLong();
+    }
+
+    /**
+     * Returns a new ID that is greater than every ID previously returned by this generator.
+     *
+     * @return a new unique ID
+     */
+    public long nextId() {
+        while (true) {
+            long previous = lastId.get();
+            long candidate = idAt(System.currentTimeMillis(), node, 0);
+            if (candidate <= previous) {
+                candidate = (previous & SEQUENCE_MASK) == SEQUENCE_MASK ?
+                        idAt(timestampOf(previous) + 1, node, 0) : previous + 1;
+            }
+            if (lastId.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest ID that any generator could assign to a message sent at or after <code>time</code>.
+     * This can be used to find all IDs of messages sent since a given time.
+     *
+     * @param time the time of interest, in the system's default time zone
+     * @return the smallest ID that could be assigned at or after <code>time</code>
+     */
+    public static long lowestIdAt(LocalDateTime time) {
+        return idAt(toEpochMilli(time), 0, 0);
+    }
+
+    /**
+     * Returns an ID for a message that was saved with a UUID before IDs were generated by this class. The returned
+     * ID is positioned according to the time the message was sent. Its node and sequence bits are taken from the
+     * UUID, so converting the same message twice gives the same ID.
+     *
+     * @param legacyId the UUID that the message was saved with
+     * @param timeSent the time at which the message was sent
+     * @return an ID for the message that is ordered by <code>timeSent</code>
+     */
+    public static long fromLegacyId(UUID legacyId, LocalDateTime timeSent) {
+        long lowBits = legacyId.getLeastSignificantBits() & ((1L << TIMESTAMP_SHIFT) - 1);
+        return (toEpochMilli(timeSent) - EPOCH) << TIMESTAMP_SHIFT | lowBits;
+    }
+
+    private static long idAt(long epochMilli, long node, long sequence) {
+        return (epochMilli - EPOCH) << TIMESTAMP_SHIFT | node << SEQUENCE_BITS | sequence;
+    }
+
+    private static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,11 @@
+package messaging.controller;
+
+/**
+ * This enum represents the possible options for navigating a page of a user's inbox or archives.
+ */
+public enum InboxOption {
+    RETURN,
+    INTERACT,
+    NEXT_PAGE,
+    PREVIOUS_PAGE
+}
@@ -0,0 +1,48 @@
+package messaging.controller;
+
+import event.manager.EventManagerFacade;
+import messaging.manager.MessageAudience;
+import user.manager.UserManagerFacade;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class determines which broadcast audiences a user currently belongs to, so that broadcast messages can be
+ * delivered when a user reads their messages.
+ */
+class MessageAudienceResolver {
+    private final UserManagerFacade userManager;
+    private final EventManagerFacade eventManager;
+
+    /**
+     * Creates a new <code>MessageAudienceResolver</code> object.
+     *
+     * @param userManager  the manager responsible for user data during program execution
+     * @param eventManager the manager responsible for event data during program execution
+     */
+    MessageAudienceResolver(UserManagerFacade userManager, EventManagerFacade eventManager) {
+        this.userManager = userManager;
+        this.eventManager = eventManager;
+    }
+
+    /**
+     * Returns the keys of the audiences that the user <code>username</code> currently belongs to. These are the
+     * audience of the user's type, the audiences of the events the user is signed up for, and the audiences of the
+     * speakers at those events.
+     *
+     * @param username the name of an existing user
+     * @return the keys of the audiences that <code>username</code> belongs to
+     */
+    Set<String> getAudiences(String username) {
+        Set<String> audiences = new LinkedHashSet<>();
+        audiences.add(MessageAudience.ofUserType(userManager.getUserType(username)));
+        for (String event : eventManager.getSignedUpEvents(username)) {
+            audiences.add(MessageAudience.ofEventAttendees(event));
+            for (String speaker : eventManager.getSpeakers(event)) {
+                audiences.add(MessageAudience.ofSpeakerAudience(speaker));
+            }
+        }
+        return audiences;
+    }
+}
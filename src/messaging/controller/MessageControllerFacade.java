@@ -1,10 +1,14 @@
 package messaging.controller;
 
+import event.manager.EventManagerFacade;
 import messaging.manager.MessageManager;
+import messaging.manager.MessageRetentionPolicy;
 import messaging.presenter.MessagePresenter;
 import messaging.presenter.MessagePrompts;
 import system.console.ConsoleInputController;
+import user.manager.UserManagerFacade;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Scanner;
 
@@ -15,31 +19,61 @@ public class MessageControllerFacade extends ConsoleInputController<MessagePromp
     private final MessageSendingController senderController;
     private final MessageInteractionController interactionController;
     private final MessageViewingController viewerController;
+    private final MessageSearchController searchController;
+    private final MessageManager manager;
+    private final EventManagerFacade eventManager;
+    private final MessagePresenter presenter;
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
 
 
     /**
      * Creates a new <code>MessageController</code> object.
      *
-     * @param in      a scanner used by this controller to get user input
-     * @param manager a <code>MessageManager</code> used by this controller to interact with messages
+     * @param in           a scanner used by this controller to get user input
+     * @param manager      a <code>MessageManager</code> used by this controller to interact with messages
+     * @param userManager  the manager responsible for user data, used to deliver broadcast messages
+     * @param eventManager the manager responsible for event data, used to deliver broadcast messages
+     */
+    public MessageControllerFacade(Scanner in, MessageManager manager, UserManagerFacade userManager,
+                                   EventManagerFacade eventManager) {
+        this(in, manager, userManager, eventManager, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new <code>MessageController</code> object that shows <code>pageSize</code> conversations or archived
+     * messages on each page.
+     *
+     * @param in           a scanner used by this controller to get user input
+     * @param manager      a <code>MessageManager</code> used by this controller to interact with messages
+     * @param userManager  the manager responsible for user data, used to deliver broadcast messages
+     * @param eventManager the manager responsible for event data, used to deliver broadcast messages
+     * @param pageSize     the number of conversations or archived messages shown on each page
      */
-    public MessageControllerFacade(Scanner in, MessageManager manager) {
+    public MessageControllerFacade(Scanner in, MessageManager manager, UserManagerFacade userManager,
+                                   EventManagerFacade eventManager, int pageSize) {
         super(in, new MessagePresenter());
         MessagePresenter presenter = new MessagePresenter();
+        MessageAudienceResolver audienceResolver = new MessageAudienceResolver(userManager, eventManager);
         this.senderController = new MessageSendingController(in, manager, presenter);
-        this.interactionController = new MessageInteractionController(in, manager, presenter);
-        this.viewerController = new MessageViewingController(manager, presenter);
+        this.interactionController = new MessageInteractionController(in, manager, presenter, audienceResolver);
+        this.viewerController = new MessageViewingController(manager, presenter, audienceResolver, pageSize);
+        this.searchController = new MessageSearchController(in, manager, presenter, audienceResolver);
+        this.manager = manager;
+        this.eventManager = eventManager;
+        this.presenter = presenter;
     }
 
     //<editor-fold desc="Displaying Messages">
 
     /**
-     * Displays the inbox for the user <code>username</code>.
+     * Displays the first page of the inbox for the user <code>username</code>.
      * <p></p>
      * This inbox consists of all messages sent to or by
      * the user <code>username</code> (or replies to such messages), where the user's conversations
      * (threads of parent messages and all arbitrarily-nested replies) are ordered by the time when the parent messages
-     * were added to the system, from oldest to newest. If the user has no conversations, an appropriate message is displayed.
+     * were added to the system, from newest to oldest. If the user has no conversations, an appropriate message is
+     * displayed.
      *
      * @param username the name of the user whose inbox is displayed
      */
@@ -48,16 +82,33 @@ public class MessageControllerFacade extends ConsoleInputController<MessagePromp
     }
 
     /**
-     * Displays the archives for the user <code>username</code>.
+     * Displays the archives for the user <code>username</code>, one page at a time, and lets the user move between
+     * pages until they return to the main menu.
      * <p></p>
      * This archives consist of all messages selected by
      * the user <code>username</code>, either messages sent by that user
-     * or messages they received in their inbox. Displays in order of when it was archived.
+     * or messages they received in their inbox. Displays from the most to the least recently archived.
      *
      * @param username the name of the user whose archives are displayed
      */
     public void viewArchives(String username) {
         viewerController.viewArchives(username);
+        InboxOption option = interactionController.readPageNavigation(viewerController.hasNextPage(),
+                viewerController.hasPreviousPage());
+        while (option != InboxOption.RETURN) {
+            changePage(username, option);
+            option = interactionController.readPageNavigation(viewerController.hasNextPage(),
+                    viewerController.hasPreviousPage());
+        }
+    }
+
+    /**
+     * Displays the number of messages that the user <code>username</code> has marked as unread, if there are any.
+     *
+     * @param username the name of the user whose unread messages are counted
+     */
+    public void displayUnreadCount(String username) {
+        viewerController.displayUnreadCount(username);
     }
 
     //</editor-fold>
@@ -68,12 +119,41 @@ public class MessageControllerFacade extends ConsoleInputController<MessagePromp
      * Prompts the user to enter a request to interact with a message after viewing the inbox, if the user has any
      * messages in their inbox. Processes the user's request.
      * <p></p>
-     * The user can choose to either exit to the main menu or select and interact with a message in their inbox.
+     * The user can choose to either exit to the main menu, select and interact with a message on the displayed page,
+     * or move to another page of their inbox, after which they are prompted again.
      *
      * @param curUser the user whose inbox messages are available for interaction
      */
     public void processInboxRequest(String curUser) {
-        interactionController.processInboxRequest(curUser, viewerController.getInboxMessages(curUser));
+        InboxOption option = readInboxRequest(curUser);
+        while (option == InboxOption.NEXT_PAGE || option == InboxOption.PREVIOUS_PAGE) {
+            changePage(curUser, option);
+            option = readInboxRequest(curUser);
+        }
+    }
+
+    /**
+     * Prompts the user <code>username</code> for a search of their inbox and displays the matching messages, from most
+     * to least relevant. The user can then select and interact with one of the displayed messages.
+     *
+     * @param username the user whose messages are searched
+     */
+    public void searchMessages(String username) {
+        List<Long> results = searchController.searchMessages(username);
+        interactionController.processInboxRequest(username, results, false, false);
+    }
+
+    private InboxOption readInboxRequest(String curUser) {
+        return interactionController.processInboxRequest(curUser, viewerController.getDisplayedMessages(),
+                viewerController.hasNextPage(), viewerController.hasPreviousPage());
+    }
+
+    private void changePage(String username, InboxOption option) {
+        if (option == InboxOption.NEXT_PAGE) {
+            viewerController.viewNextPage(username);
+        } else {
+            viewerController.viewPreviousPage(username);
+        }
     }
 
     //</editor-fold>
@@ -91,6 +171,19 @@ public class MessageControllerFacade extends ConsoleInputController<MessagePromp
         senderController.sendMessage(author, recipients);
     }
 
+    /**
+     * Prompts the user to enter text for a broadcast message authored by <code>author</code> and sends it to the
+     * audience with key <code>audience</code>, if the audience has any members. Otherwise an error message is
+     * displayed. Members of the audience are determined each time they view their inbox.
+     *
+     * @param author     the author of the message
+     * @param audience   the key of the audience to which the message will be sent
+     * @param hasMembers whether or not the audience currently has any members
+     */
+    public void sendBroadcast(String author, String audience, boolean hasMembers) {
+        senderController.sendBroadcast(author, audience, hasMembers);
+    }
+
     /**
      * Prompts the user to enter a comma-separated list of recipients for a message, and returns a list of the
      * recipient usernames entered. These usernames need not represent existing users in the system.
@@ -110,4 +203,25 @@ public class MessageControllerFacade extends ConsoleInputController<MessagePromp
         return promptString(MessagePrompts.SINGLE_RECIPIENT_INPUT_PROMPT);
     }
     //</editor-fold>
+
+    /**
+     * Prompts the user for a number of days and, once they confirm, permanently removes every conversation in which no
+     * message has been sent in that many days. Nothing is removed before the conference has ended.
+     */
+    public void purgeInactiveConversations() {
+        LocalDateTime conferenceEnd = eventManager.getConferenceEndTime();
+        LocalDateTime now = LocalDateTime.now();
+        if (conferenceEnd == null || !now.isAfter(conferenceEnd)) {
+            presenter.display(MessagePrompts.CONFERENCE_NOT_OVER_ERROR);
+            return;
+        }
+        int retentionDays = promptInt(MessagePrompts.RETENTION_DAYS_PROMPT, MessagePrompts.INVALID_RETENTION_DAYS_ERROR,
+                days -> days >= 0);
+        if (!promptYesNo(MessagePrompts.PURGE_CONFIRMATION_PROMPT, MessagePrompts.PURGE_CONFIRMATION_PROMPT)) {
+            presenter.display(MessagePrompts.PURGE_CANCELLED);
+            return;
+        }
+        int removed = new MessageRetentionPolicy(retentionDays).apply(manager, conferenceEnd, now);
+        presenter.displayPurgedCount(removed);
+    }
 }
@@ -17,16 +17,16 @@ public class MessageInteractionController extends ConsoleInputController<Message
      * <ul>
      *     <li><code>curUser</code> is either empty or the name of an existing user in the system whose message
      *     interaction is to be processed.</li>
-     *     <li><code>curMessage</code> is either empty or the UUID of an existing message in <code>curUser</code>'s
+     *     <li><code>curMessage</code> is either empty or the ID of an existing message in <code>curUser</code>'s
      *     inbox who the user is interacting with.</li>
      * </ul>
      */
     private final MessageManager messageManager;
     private final MessagePresenter messagePresenter;
-    private final Scanner in;
     private final Map<MessageOption, Runnable> commands;
+    private final MessageAudienceResolver audienceResolver;
     private String curUser;
-    private UUID curMessage;
+    private Long curMessage;
 
     /**
      * Constructs a new <code>MessageInteractionController</code> object.
@@ -34,12 +34,15 @@ public class MessageInteractionController extends ConsoleInputController<Message
      * @param in               a scanner used by this controller to get user input
      * @param messageManager   a <code>MessageManager</code> used by this controller to interact with messages
      * @param messagePresenter a <code>MessagePresenter</code> used by this controller to display information to the user
+     * @param audienceResolver a <code>MessageAudienceResolver</code> used to find the broadcast audiences a user
+     *                         belongs to
      */
-    public MessageInteractionController(Scanner in, MessageManager messageManager, MessagePresenter messagePresenter) {
+    MessageInteractionController(Scanner in, MessageManager messageManager, MessagePresenter messagePresenter,
+                                 MessageAudienceResolver audienceResolver) {
         super(in, messagePresenter);
+        this.audienceResolver = audienceResolver;
         this.messageManager = messageManager;
         this.messagePresenter = messagePresenter;
-        this.in = in;
         this.commands = initializeCommands();
     }
 
@@ -63,33 +66,70 @@ public class MessageInteractionController extends ConsoleInputController<Message
     }
 
     /**
-     * Prompts the user to enter a request to interact with a message after viewing the inbox, if the user has any
-     * messages in their inbox. Processes the user's request.
+     * Prompts the user to enter a request to interact with a message after viewing a page of the inbox, if the page
+     * has any messages. Processes the user's request.
      * <p></p>
-     * The user can choose to either exit to the main menu or select and interact with a message in their inbox.
+     * The user can choose to exit to the main menu, select and interact with a message on the page, or move to the
+     * next or previous page if there is one. Page changes are returned to the caller to carry out.
      *
-     * @param curUser the user whose inbox messages are available for interaction
+     * @param curUser         the user whose inbox messages are available for interaction
+     * @param page            the IDs of the messages on the displayed page, in the order in which they are numbered
+     * @param hasNextPage     whether or not there is a page of older messages
+     * @param hasPreviousPage whether or not there is a page of newer messages
+     * @return the option that the user selected
      */
-    public void processInboxRequest(String curUser, List<UUID> inbox) {
+    public InboxOption processInboxRequest(String curUser, List<Long> page, boolean hasNextPage,
+                                           boolean hasPreviousPage) {
         this.curUser = curUser;
-        if (!inbox.isEmpty()) {
-            messagePresenter.displayInboxMenu();
-            String input = in.nextLine();
-            if (input.equals("2")) {
-                processMessageInteraction(inbox);
-            } else if (!input.equals("1")) {
-                messagePresenter.display(MessagePrompts.INVALID_COMMAND_ERROR);
-                processInboxRequest(curUser, inbox);
-            }
+        if (page.isEmpty()) {
+            return InboxOption.RETURN;
         }
+        InboxOption selectedOption = readInboxOption(true, hasNextPage, hasPreviousPage);
+        if (selectedOption == InboxOption.INTERACT) {
+            processMessageInteraction(page);
+        }
+        return selectedOption;
+    }
+
+    /**
+     * Prompts the user to choose whether to return to the main menu or move to the next or previous page, if there
+     * is one. If there is neither, the user is not prompted.
+     *
+     * @param hasNextPage     whether or not there is a page of older messages
+     * @param hasPreviousPage whether or not there is a page of newer messages
+     * @return the option that the user selected
+     */
+    public InboxOption readPageNavigation(boolean hasNextPage, boolean hasPreviousPage) {
+        if (!hasNextPage && !hasPreviousPage) {
+            return InboxOption.RETURN;
+        }
+        return readInboxOption(false, hasNextPage, hasPreviousPage);
+    }
+
+    private InboxOption readInboxOption(boolean canInteract, boolean hasNextPage, boolean hasPreviousPage) {
+        List<InboxOption> inboxOptions = new ArrayList<>();
+        inboxOptions.add(InboxOption.RETURN);
+        if (canInteract) {
+            inboxOptions.add(InboxOption.INTERACT);
+        }
+        if (hasNextPage) {
+            inboxOptions.add(InboxOption.NEXT_PAGE);
+        }
+        if (hasPreviousPage) {
+            inboxOptions.add(InboxOption.PREVIOUS_PAGE);
+        }
+        messagePresenter.displayInboxMenu(inboxOptions);
+        Predicate<Integer> isValid = n -> (n >= 1 && n <= inboxOptions.size());
+        int optionSelection = readInt(MessagePrompts.INVALID_COMMAND_ERROR, isValid);
+        return inboxOptions.get(optionSelection - 1);
     }
 
     /**
      * Processes the user's interaction with a message.
      *
-     * @param inbox the list IDs of the messages in the user's inbox
+     * @param inbox the list IDs of the messages on the displayed page of the user's inbox
      */
-    private void processMessageInteraction(List<UUID> inbox) {
+    private void processMessageInteraction(List<Long> inbox) {
         updateCurrentMessage(inbox);
         MessageOption selectedOption = readMessageInteractionInput();
         commands.get(selectedOption).run();
@@ -102,7 +142,7 @@ public class MessageInteractionController extends ConsoleInputController<Message
      */
     private List<MessageOption> determineMessageOptions() {
         List<MessageOption> messageOptions = new ArrayList<>();
-        if (messageManager.isRecipient(curUser, curMessage)) {
+        if (messageManager.isRecipient(curUser, audienceResolver.getAudiences(curUser), curMessage)) {
             messageOptions.add(MessageOption.REPLY);
         }
         if (messageManager.isAuthor(curUser, curMessage) && !messageManager.isDeleted(curMessage)) {
@@ -137,7 +177,7 @@ public class MessageInteractionController extends ConsoleInputController<Message
      *
      * @param inbox the list of IDs of messages in the current user's inbox
      */
-    private void updateCurrentMessage(List<UUID> inbox) {
+    private void updateCurrentMessage(List<Long> inbox) {
         Predicate<Integer> isValid = n -> (n >= 1 && n <= inbox.size());
         int selection = promptInt(MessagePrompts.MESSAGE_SELECTION_PROMPT,
                 MessagePrompts.INVALID_MESSAGE_SELECTION_ERROR, isValid);
@@ -0,0 +1,94 @@
+package messaging.controller;
+
+import messaging.manager.MessageManager;
+import messaging.presenter.MessagePresenter;
+import messaging.presenter.MessagePrompts;
+import system.console.ConsoleInputController;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * The <code>MessageSearchController</code> class is responsible for processing requests to search for messages in a
+ * user's inbox by their text, author and date.
+ */
+class MessageSearchController extends ConsoleInputController<MessagePrompts> {
+    private static final int MAX_RESULTS = 20;
+    private static final String DATE_FORMAT = "\\s*\\d{4}-\\d{2}-\\d{2}\\s*";
+
+    private final MessageManager messageManager;
+    private final MessagePresenter messagePresenter;
+    private final MessageAudienceResolver audienceResolver;
+
+    /**
+     * Creates a new <code>MessageSearchController</code> object so users can search their messages.
+     *
+     * @param in               a scanner used by this controller to get user input
+     * @param messageManager   a <code>MessageManager</code> used by this controller to search messages
+     * @param messagePresenter a <code>MessagePresenter</code> used by this controller to display search results
+     * @param audienceResolver a <code>MessageAudienceResolver</code> used to find the broadcast audiences a user
+     *                         belongs to
+     */
+    MessageSearchController(Scanner in, MessageManager messageManager, MessagePresenter messagePresenter,
+                            MessageAudienceResolver audienceResolver) {
+        super(in, messagePresenter);
+        this.messageManager = messageManager;
+        this.messagePresenter = messagePresenter;
+        this.audienceResolver = audienceResolver;
+    }
+
+    /**
+     * Prompts the user <code>username</code> for the words to search for and, optionally, an author and a range of
+     * dates, then displays the matching messages in their inbox from most to least relevant. If there are no matching
+     * messages, an appropriate message is displayed.
+     *
+     * @param username the name of the user whose messages are searched
+     * @return a list of IDs of the displayed messages, in the order in which they are numbered
+     */
+    List<Long> searchMessages(String username) {
+        String query = promptString(MessagePrompts.SEARCH_QUERY_PROMPT, MessagePrompts.EMPTY_SEARCH_QUERY_ERROR,
+                s -> !s.trim().isEmpty());
+        String author = promptString(MessagePrompts.SEARCH_AUTHOR_PROMPT).trim();
+        LocalDate from = readOptionalDate(MessagePrompts.SEARCH_FROM_DATE_PROMPT);
+        LocalDate to = readOptionalDate(MessagePrompts.SEARCH_TO_DATE_PROMPT);
+        List<Long> results = messageManager.searchMessages(username, audienceResolver.getAudiences(username), query,
+                author.isEmpty() ? null : author, from, to, MAX_RESULTS);
+        if (results.isEmpty()) {
+            messagePresenter.display(MessagePrompts.NO_SEARCH_RESULTS_ERROR);
+            return new ArrayList<>();
+        }
+        messagePresenter.display(MessagePrompts.SEARCH_RESULTS_TITLE);
+        int curNum = 1;
+        for (Long messageId : results) {
+            String messageString = messageManager.getMessageAsString(messageId);
+            boolean unread = messageManager.didUserMarkUnread(username, messageId);
+            messagePresenter.displayMessage(messageString, 0, curNum, unread);
+            curNum++;
+        }
+        messagePresenter.display(MessagePrompts.END_OF_SEARCH_RESULTS);
+        return results;
+    }
+
+    /**
+     * Prompts the user for a date in the format YYYY-MM-DD, which they may leave blank.
+     *
+     * @param inputPrompt the enum key of the presenter prompt asking for the date
+     * @return the date entered by the user, or <code>null</code> if they left it blank
+     */
+    private LocalDate readOptionalDate(MessagePrompts inputPrompt) {
+        String input = promptString(inputPrompt, MessagePrompts.INVALID_DATE_ERROR,
+                s -> s.trim().isEmpty() || (s.matches(DATE_FORMAT) && isDate(s.trim())));
+        return input.trim().isEmpty() ? null : LocalDate.parse(input.trim());
+    }
+
+    private boolean isDate(String input) {
+        try {
+            LocalDate.parse(input);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
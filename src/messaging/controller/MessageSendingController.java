@@ -49,6 +49,25 @@ public class MessageSendingController extends ConsoleInputController<MessageProm
         }
     }
 
+    /**
+     * Prompts the user to enter text for a broadcast message authored by <code>author</code> and sends it to the
+     * audience with key <code>audience</code>, if the audience has any members. Otherwise an error message is
+     * displayed.
+     *
+     * @param author     the author of the message
+     * @param audience   the key of the audience to which the message will be sent
+     * @param hasMembers whether or not the audience currently has any members
+     */
+    public void sendBroadcast(String author, String audience, boolean hasMembers) {
+        if (!hasMembers) {
+            messagePresenter.display(MessagePrompts.NO_RECIPIENTS_ERROR);
+        } else {
+            String text = promptString(MessagePrompts.TEXT_INPUT_PROMPT);
+            messageManager.addBroadcast(text, author, audience);
+            messagePresenter.display(MessagePrompts.BROADCAST_CONFIRMATION);
+        }
+    }
+
     /**
      * Prompts the user to enter a comma-separated list of recipients for a message, and returns a list of the
      * recipient usernames entered. These usernames need not represent existing users in the system.
@@ -1,12 +1,14 @@
 package messaging.controller;
 
 import messaging.manager.MessageManager;
+import messaging.manager.MessagePage;
 import messaging.presenter.MessagePresenter;
 import messaging.presenter.MessagePrompts;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * The <code>MessageViewingController</code> class is responsible for processing requests to view messages.
@@ -15,135 +17,183 @@ import java.util.UUID;
 public class MessageViewingController {
     private final MessagePresenter messagePresenter;
     private final MessageManager messageManager;
+    private final MessageAudienceResolver audienceResolver;
+    private final int pageSize;
+    /**
+     * The cursors of the pages before the displayed page, with the cursor of the page directly before it on top.
+     * The first page, which has no cursor, is represented by <code>FIRST_PAGE</code>.
+     */
+    private final Deque<Long> previousCursors;
+    private boolean showingArchives;
+    private Long currentCursor;
+    private MessagePage currentPage;
+    private List<Long> displayedMessages;
+
+    private static final Long FIRST_PAGE = -1L;
 
     /**
      * Creates a new MessageViewController object so users can view their messages
      *
      * @param messageManager   a MessageManager object used by this controller to interact with messages
      * @param messagePresenter a MessagePresenter object used by this controller to display messaging information to the user
+     * @param audienceResolver a MessageAudienceResolver object used to find the broadcast audiences a user belongs to
+     * @param pageSize         the number of conversations or archived messages shown on each page
      */
-    public MessageViewingController(MessageManager messageManager, MessagePresenter messagePresenter) {
+    MessageViewingController(MessageManager messageManager, MessagePresenter messagePresenter,
+                             MessageAudienceResolver audienceResolver, int pageSize) {
         this.messagePresenter = messagePresenter;
         this.messageManager = messageManager;
+        this.audienceResolver = audienceResolver;
+        this.pageSize = pageSize;
+        this.previousCursors = new ArrayDeque<>();
+        this.displayedMessages = new ArrayList<>();
     }
 
     /**
-     * Displays the inbox for the user <code>username</code>.
+     * Displays the first page of the inbox for the user <code>username</code>.
      * <p></p>
      * This inbox consists of all messages sent to or by
      * the user <code>username</code> (or replies to such messages), where the user's conversations
      * (threads of parent messages and all arbitrarily-nested replies) are ordered by the time when the parent messages
-     * were added to the system, from oldest to newest. If the user has no conversations, an appropriate message is displayed.
+     * were added to the system, from newest to oldest. If the user has no conversations, an appropriate message is
+     * displayed.
      *
      * @param username the name of the user whose inbox is displayed
      */
     public void viewInbox(String username) {
-        if (userHasInboxMessages(username)) {
-            messagePresenter.display(MessagePrompts.INBOX_TITLE);
-            displayAllUserConversations(username);
-            messagePresenter.display(MessagePrompts.END_OF_INBOX);
-        } else {
-            messagePresenter.display(MessagePrompts.EMPTY_INBOX_ERROR);
-        }
+        showingArchives = false;
+        showFirstPage(username, MessagePrompts.EMPTY_INBOX_ERROR);
+    }
+
+    /**
+     * Displays the first page of the archived messages for the user <code>username</code>, from the most to the
+     * least recently archived.
+     *
+     * @param username the name of the user whose archives are displayed
+     */
+    public void viewArchives(String username) {
+        showingArchives = true;
+        showFirstPage(username, MessagePrompts.EMPTY_ARCHIVES_ERROR);
     }
 
     /**
-     * Displays all the conversations in the inbox for the user <code>username</code>.
+     * Displays the page of older messages that follows the displayed page of the inbox or archives of the user
+     * <code>username</code>.
      * <p></p>
-     * The conversations are ordered by the time when the parent messages were added to the system, from oldest to
-     * newest. This ordering applies at every level of the reply hierarchy, i.e. sub-conversations of a conversation
-     * are also ordered as above. Messages are nested according to their nesting level in the reply hierarchy.
-     * Messages that the user <code>username</code> can reply to are numbered in the order that they appear to the user.
+     * Precondition: {@link #hasNextPage()} is <code>true</code>.
      *
-     * @param username the name of the user whose inbox is displayed
+     * @param username the name of the user whose inbox or archives are displayed
      */
-    private void displayAllUserConversations(String username) {
-        List<UUID> allMessages = getInboxMessages(username);
-        int curNum = 1;
-        for (UUID messageId : allMessages) {
-            String messageString = messageManager.getMessageAsString(messageId);
-            int nesting = messageManager.getNestingLevel(messageId);
-            boolean unread = messageManager.didUserMarkUnread(username, messageId);
-            messagePresenter.displayMessage(messageString, nesting, curNum, unread);
-            curNum++;
-        }
+    public void viewNextPage(String username) {
+        previousCursors.push(currentCursor == null ? FIRST_PAGE : currentCursor);
+        currentCursor = currentPage.getNextCursor();
+        loadPage(username);
+        displayPage(username);
     }
 
     /**
-     * Returns a list of IDs of all the messages in the conversations of the user <code>username</code>. That is, the
-     * IDs represent messages sent to or by <code>username</code>, or replies to such messages. The messages appear in
-     * the list in the order that they appear to the user, as specified in the
-     * {@link #displayAllUserConversations(String) displayAllUserConversations} method.
+     * Displays the page of newer messages that precedes the displayed page of the inbox or archives of the user
+     * <code>username</code>.
+     * <p></p>
+     * Precondition: {@link #hasPreviousPage()} is <code>true</code>.
      *
-     * @param username the name of the user whose conversation messages are returned
-     * @return a list of IDs of all the messages in the conversations of the user <code>username</code>
+     * @param username the name of the user whose inbox or archives are displayed
      */
-    public List<UUID> getInboxMessages(String username) {
-        List<UUID> messageIds = messageManager.getInboxMessages(username);
-        List<UUID> allMessages = new ArrayList<>();
-        for (UUID messageId : messageIds) {
-            if (messageManager.getNestingLevel(messageId) == 0) {
-                allMessages.addAll(getThreadMessages(messageId));
-            }
-        }
-        return allMessages;
+    public void viewPreviousPage(String username) {
+        Long cursor = previousCursors.pop();
+        currentCursor = cursor.equals(FIRST_PAGE) ? null : cursor;
+        loadPage(username);
+        displayPage(username);
     }
 
     /**
-     * Returns a list of IDs of all the messages in the conversation whose parent message has ID <code>parentId</code>.
-     * <code>parentId</code> itself will also be among the IDs returned.
+     * Returns whether or not there is a page of older messages after the displayed page.
      *
-     * @param parentId the ID of the message at the top of the thread
-     * @return a list of IDs of all the messages in the conversation whose parent message has ID <code>parentId</code>
+     * @return <code>true</code> if and only if there is a page after the displayed page
      */
-    private List<UUID> getThreadMessages(UUID parentId) {
-        List<UUID> conversationMessages = new ArrayList<>();
-        conversationMessages.add(parentId);
-        List<UUID> replies = messageManager.getReplies(parentId);
-        for (UUID reply : replies) {
-            conversationMessages.addAll(getThreadMessages(reply));
-        }
-        return conversationMessages;
+    public boolean hasNextPage() {
+        return currentPage != null && currentPage.hasNextPage();
     }
 
     /**
-     * Returns whether or not the user <code>username</code> has participated in any conversations. That is,
-     * whether or not there are any messages sent to or by the user.
+     * Returns whether or not there is a page of newer messages before the displayed page.
      *
-     * @param username the user for whom existence of conversations is checked
-     * @return <code>true</code> if and only if there are messages having <code>username</code> as author or recipient
+     * @return <code>true</code> if and only if there is a page before the displayed page
      */
-    private boolean userHasInboxMessages(String username) {
-        return !messageManager.getInboxMessages(username).isEmpty();
+    public boolean hasPreviousPage() {
+        return !previousCursors.isEmpty();
     }
 
     /**
-     * Displays all the archived messages for the user <code>username</code>.
-     * <p></p>
+     * Returns a list of IDs of the messages on the displayed page, in the order in which they are numbered. For a
+     * page of the inbox, this includes every message in the threads of the conversations on the page.
      *
-     * @param username the name of the user whose archives are displayed
+     * @return a list of IDs of the messages on the displayed page
      */
-    public void viewArchives(String username) {
-        if (userHasArchives(username)) {
-            messagePresenter.display(MessagePrompts.ARCHIVED_TITLE);
-            displayAllUserArchives(username);
-            messagePresenter.display(MessagePrompts.END_OF_ARCHIVES);
+    public List<Long> getDisplayedMessages() {
+        return displayedMessages;
+    }
+
+    private void showFirstPage(String username, MessagePrompts emptyError) {
+        previousCursors.clear();
+        currentCursor = null;
+        loadPage(username);
+        if (displayedMessages.isEmpty()) {
+            messagePresenter.display(emptyError);
+        } else {
+            displayPage(username);
+        }
+    }
+
+    /**
+     * Loads the page starting at <code>currentCursor</code> from the manager and updates
+     * <code>displayedMessages</code> to match it.
+     */
+    private void loadPage(String username) {
+        displayedMessages = new ArrayList<>();
+        if (showingArchives) {
+            currentPage = messageManager.getArchivePage(username, currentCursor, pageSize);
+            displayedMessages.addAll(currentPage.getMessageIds());
         } else {
-            messagePresenter.display(MessagePrompts.EMPTY_ARCHIVES_ERROR);
+            currentPage = messageManager.getInboxPage(username, audienceResolver.getAudiences(username),
+                    currentCursor, pageSize);
+            for (Long messageId : currentPage.getMessageIds()) {
+                displayedMessages.addAll(messageManager.getThread(messageId));
+            }
         }
     }
 
-    private void displayAllUserArchives(String username) {
-        List<UUID> userArchivedMessages = messageManager.getUserArchivedMessages(username);
+    /**
+     * Displays the messages on the loaded page. Messages are nested according to their nesting level in the reply
+     * hierarchy, and are numbered in the order that they appear to the user.
+     */
+    private void displayPage(String username) {
+        messagePresenter.display(showingArchives ? MessagePrompts.ARCHIVED_TITLE : MessagePrompts.INBOX_TITLE);
+        messagePresenter.displayPageNumber(previousCursors.size() + 1);
         int curNum = 1;
-        for (UUID messageId : userArchivedMessages) {
+        for (Long messageId : displayedMessages) {
             String messageString = messageManager.getMessageAsString(messageId);
-            messagePresenter.displayMessage(messageString, 0, curNum, false);
+            if (showingArchives) {
+                messagePresenter.displayMessage(messageString, 0, curNum, false);
+            } else {
+                int nesting = messageManager.getNestingLevel(messageId);
+                boolean unread = messageManager.didUserMarkUnread(username, messageId);
+                messagePresenter.displayMessage(messageString, nesting, curNum, unread);
+            }
             curNum++;
         }
+        messagePresenter.display(showingArchives ? MessagePrompts.END_OF_ARCHIVES : MessagePrompts.END_OF_INBOX);
     }
 
-    private boolean userHasArchives(String username) {
-        return !messageManager.getUserArchivedMessages(username).isEmpty();
+    /**
+     * Displays the number of messages that the user <code>username</code> has marked as unread, if there are any.
+     *
+     * @param username the name of the user whose unread messages are counted
+     */
+    public void displayUnreadCount(String username) {
+        int unreadCount = messageManager.getUnreadCount(username);
+        if (unreadCount > 0) {
+            messagePresenter.displayUnreadCount(unreadCount);
+        }
     }
 }
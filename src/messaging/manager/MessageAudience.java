@@ -0,0 +1,46 @@
+package messaging.manager;
+
+import user.UserType;
+
+/**
+ * This class creates the keys that identify the audiences of broadcast messages.
+ * <p></p>
+ * An audience key names a group of users whose members are determined when a message is read, rather than when it is
+ * sent. For example, a message sent to the audience of a speaker reaches whoever is attending that speaker's events
+ * at the time the message is viewed.
+ */
+public final class MessageAudience {
+
+    private MessageAudience() {
+    }
+
+    /**
+     * Returns the key of the audience consisting of all users of the given type.
+     *
+     * @param userType the type of the users in the audience
+     * @return the key of the audience consisting of all users of type <code>userType</code>
+     */
+    public static String ofUserType(UserType userType) {
+        return "type:" + userType;
+    }
+
+    /**
+     * Returns the key of the audience consisting of all attendees of the given event.
+     *
+     * @param eventTitle the title of the event whose attendees are in the audience
+     * @return the key of the audience consisting of all attendees of <code>eventTitle</code>
+     */
+    public static String ofEventAttendees(String eventTitle) {
+        return "event:" + eventTitle;
+    }
+
+    /**
+     * Returns the key of the audience consisting of all attendees of any event at which the given speaker speaks.
+     *
+     * @param speaker the username of the speaker whose audience is returned
+     * @return the key of the audience of <code>speaker</code>
+     */
+    public static String ofSpeakerAudience(String speaker) {
+        return "speaker:" + speaker;
+    }
+}
@@ -0,0 +1,232 @@
+package messaging.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * This class stores the text of messages outside of the heap, in append-only segment files on disk.
+ * <p></p>
+ * Each body is written once, at the end of the newest segment, as a 4-byte length followed by its UTF-8 bytes. When a
+ * segment grows past <code>SEGMENT_SIZE</code> bytes a new one is started. Only the offset index, which maps each
+ * message ID to the segment and position of its body, is kept in memory and serialized with the store, so loading the
+ * store takes time proportional to the number of messages rather than the amount of text they contain.
+ * <p></p>
+ * Bodies are read on demand through read-only memory mappings of the segment files, which are created the first time a
+ * segment is read after loading.
+ * <p></p>
+ * Compacting the store writes new segments but leaves the old ones on disk, since a previously saved offset index may
+ * still refer to them. They are only deleted by <code>deleteObsoleteSegments</code>, once the new index has been
+ * saved.
+ */
+class MessageBodyStore implements Serializable {
+    private static final long serialVersionUID = -914492954593215383L;
+    private static final long SEGMENT_SIZE = 8L << 20;
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private final String directory;
+    /**
+     * Maps each message ID to the location of its body. The segment number is stored in the upper 24 bits of the
+     * location and the byte offset within the segment in the lower 40 bits.
+     */
+    private final Map<Long, Long> locations;
+    private int currentSegment;
+    /**
+     * The oldest segment that holds bodies in <code>locations</code>. Older segments were replaced by compaction.
+     */
+    private int firstSegment;
+    /**
+     * The number of bodies in the segment files that are no longer in <code>locations</code>.
+     */
+    private int deadRecords;
+
+    private transient FileChannel writeChannel;
+    private transient Map<Integer, MappedByteBuffer> mappedSegments;
+
+    /**
+     * Creates a new <code>MessageBodyStore</code> that keeps its segment files in <code>directory</code>.
+     *
+     * @param directory the path to the directory in which the segment files are stored
+     */
+    MessageBodyStore(String directory) {
+        this.directory = directory;
+        this.locations = new HashMap<>();
+        this.currentSegment = 0;
+        this.firstSegment = 0;
+        this.deadRecords = 0;
+    }
+
+    /**
+     * Appends <code>body</code> to the newest segment and records its location under <code>messageId</code>.
+     *
+     * @param messageId the ID of the message that <code>body</code> belongs to
+     * @param body      the text of the message
+     * @throws UncheckedIOException if the body could not be written
+     */
+    synchronized void append(long messageId, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        record.putInt(bytes.length).put(bytes).flip();
+        try {
+            FileChannel channel = getWriteChannel();
+            if (channel.size() >= SEGMENT_SIZE) {
+                channel.close();
+                currentSegment++;
+                writeChannel = null;
+                channel = getWriteChannel();
+            }
+            long offset = channel.size();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            locations.put(messageId, ((long) currentSegment << OFFSET_BITS) | offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error in writing message body", e);
+        }
+    }
+
+    /**
+     * Returns the body stored under <code>messageId</code>.
+     * <p></p>
+     * Precondition: a body has been stored under <code>messageId</code>.
+     *
+     * @param messageId the ID of the message whose body is returned
+     * @return the text of the message
+     * @throws MessageNotFoundException if no body has been stored under <code>messageId</code>
+     * @throws UncheckedIOException     if the segment containing the body could not be read
+     */
+    synchronized String read(long messageId) {
+        Long location = locations.get(messageId);
+        if (location == null) {
+            throw new MessageNotFoundException(String.format("Body of message with ID %d does not exist.", messageId));
+        }
+        int segment = (int) (location >>> OFFSET_BITS);
+        int offset = (int) (location & OFFSET_MASK);
+        try {
+            ByteBuffer buffer = getMappedSegment(segment, offset + Integer.BYTES).duplicate();
+            int length = buffer.getInt(offset);
+            if (offset + Integer.BYTES + length > buffer.limit()) {
+                buffer = remapSegment(segment).duplicate();
+            }
+            byte[] bytes = new byte[length];
+            buffer.position(offset + Integer.BYTES);
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error in reading message body", e);
+        }
+    }
+
+    /**
+     * Returns whether or not a body has been stored under <code>messageId</code>.
+     *
+     * @param messageId the ID of a message
+     * @return <code>true</code> if and only if a body has been stored under <code>messageId</code>
+     */
+    synchronized boolean contains(long messageId) {
+        return locations.containsKey(messageId);
+    }
+
+    /**
+     * Forgets the bodies of all messages whose IDs do not satisfy <code>keep</code>. Their records stay in the segment
+     * files until the store is compacted.
+     *
+     * @param keep a predicate that is <code>true</code> for the IDs of messages whose bodies are kept
+     */
+    synchronized void retainAll(Predicate<Long> keep) {
+        int sizeBefore = locations.size();
+        locations.keySet().removeIf(keep.negate());
+        deadRecords += sizeBefore - locations.size();
+    }
+
+    /**
+     * Rewrites the bodies that are still in use into new segments, if at least half of the records in the segment
+     * files are no longer in use. This keeps the size of the segment files within twice the size of the bodies in use
+     * once the old segments are deleted by <code>deleteObsoleteSegments</code>.
+     *
+     * @throws UncheckedIOException if the bodies could not be rewritten
+     */
+    synchronized void compact() {
+        if (deadRecords == 0 || deadRecords < locations.size()) {
+            return;
+        }
+        try {
+            if (writeChannel != null) {
+                writeChannel.close();
+                writeChannel = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error in compacting message bodies", e);
+        }
+        int firstNewSegment = currentSegment + 1;
+        currentSegment = firstNewSegment;
+        List<Long> liveIds = new ArrayList<>(locations.keySet());
+        liveIds.sort(Comparator.comparing(locations::get));
+        for (Long messageId : liveIds) {
+            append(messageId, read(messageId));
+        }
+        mappedSegments = null;
+        firstSegment = firstNewSegment;
+        deadRecords = 0;
+    }
+
+    /**
+     * Deletes the segment files that were replaced when this store was last compacted.
+     * <p></p>
+     * This must only be called after this store has been saved, since until then the saved offset index still refers
+     * to the old segments.
+     */
+    synchronized void deleteObsoleteSegments() {
+        for (int segment = 0; segment < firstSegment; segment++) {
+            getSegmentPath(segment).toFile().delete();
+        }
+    }
+
+    private FileChannel getWriteChannel() throws IOException {
+        if (writeChannel == null) {
+            new File(directory).mkdirs();
+            writeChannel = FileChannel.open(getSegmentPath(currentSegment),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return writeChannel;
+    }
+
+    /**
+     * Returns a mapping of <code>segment</code> that covers at least its first <code>minimumSize</code> bytes. The
+     * newest segment keeps growing after it is mapped, so it is mapped again when a body beyond the end of the current
+     * mapping is read.
+     */
+    private MappedByteBuffer getMappedSegment(int segment, long minimumSize) throws IOException {
+        if (mappedSegments == null) {
+            mappedSegments = new HashMap<>();
+        }
+        MappedByteBuffer mapped = mappedSegments.get(segment);
+        if (mapped == null || mapped.limit() < minimumSize) {
+            mapped = remapSegment(segment);
+        }
+        return mapped;
+    }
+
+    private MappedByteBuffer remapSegment(int segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(getSegmentPath(segment), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mappedSegments.put(segment, mapped);
+            return mapped;
+        }
+    }
+
+    private Path getSegmentPath(int segment) {
+        return Paths.get(directory, String.format("segment-%06d.dat", segment));
+    }
+}
@@ -1,8 +1,10 @@
 package messaging.manager;
 
+import messaging.BroadcastMessage;
 import messaging.Message;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,6 +18,8 @@ import java.util.List;
  * @see Message
  */
 class MessageFactory implements Serializable {
+    private static final long serialVersionUID = -6524980737249884541L;
+
     /**
      * Returns a new <code>Message</code> object with the specified text, author, recipients, and nesting level.
      *
@@ -30,4 +34,47 @@ class MessageFactory implements Serializable {
     public Message getMessage(String text, String author, List<String> recipients, int nesting) {
         return new Message(text, author, recipients, nesting);
     }
+
+    /**
+     * Returns a <code>Message</code> object with the specified ID, time, text, author, recipients, and nesting level.
+     *
+     * @param id         the ID that the message was sent with
+     * @param timeSent   the time at which the message was sent
+     * @param text       the text of the message
+     * @param author     the author of the message
+     * @param recipients the list of recipients for the message
+     * @param nesting    the nesting level of this message in the reply hierarchy
+     * @return a <code>Message</code> object with the specified information
+     */
+    public Message getMessage(long id, LocalDateTime timeSent, String text, String author, List<String> recipients,
+                              int nesting) {
+        return new Message(id, timeSent, text, author, recipients, nesting);
+    }
+
+    /**
+     * Returns a new <code>BroadcastMessage</code> object with the specified text, author, and audience.
+     *
+     * @param text     the text of the new message to be created
+     * @param author   the author of the new message to be created
+     * @param audience the key of the audience that the new message is sent to
+     * @return a new <code>BroadcastMessage</code> object with the specified text, author, and audience
+     */
+    public BroadcastMessage getBroadcastMessage(String text, String author, String audience) {
+        return new BroadcastMessage(text, author, audience);
+    }
+
+    /**
+     * Returns a <code>BroadcastMessage</code> object with the specified ID, time, text, author, and audience.
+     *
+     * @param id       the ID that the message was sent with
+     * @param timeSent the time at which the message was sent
+     * @param text     the text of the message
+     * @param author   the author of the message
+     * @param audience the key of the audience that the message is sent to
+     * @return a <code>BroadcastMessage</code> object with the specified information
+     */
+    public BroadcastMessage getBroadcastMessage(long id, LocalDateTime timeSent, String text, String author,
+                                                String audience) {
+        return new BroadcastMessage(id, timeSent, text, author, audience);
+    }
 }
@@ -1,32 +1,99 @@
 package messaging.manager;
 
+import messaging.BroadcastMessage;
 import messaging.Message;
+import messaging.MessageIdGenerator;
 
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * This class stores and manipulates <code>Message</code> objects in the program.
  */
 public class MessageManager implements Serializable {
+    private static final long serialVersionUID = -8610986451079307076L;
+
+    /**
+     * Representation invariant: the <code>Message</code> objects stored in <code>messagesById</code> are keyed by their
+     * IDs. Since IDs increase over time, iterating over <code>messagesById</code> visits them in the order in which they
+     * were added.
+     */
+    private final NavigableMap<Long, Message> messagesById;
+    /**
+     * Maps each username to the IDs of the messages that the user authored or received, in the order in which the
+     * messages were added.
+     */
+    private final Map<String, List<Long>> userMessages;
+    /**
+     * Maps each audience key to the IDs of the broadcast messages sent to that audience, in the order in which the
+     * messages were added.
+     */
+    private final Map<String, List<Long>> broadcastsByAudience;
+    /**
+     * Maps each message ID to the ID of the message at the top of its thread.
+     */
+    private final Map<Long, Long> threadRoots;
+    /**
+     * Maps the ID of each message at the top of a thread to the IDs of every message in that thread, in the order in
+     * which they are displayed: each message is followed by its replies in the order they were added, and each reply
+     * is followed by its own replies in the same way.
+     */
+    private final Map<Long, List<Long>> threads;
+    private final Map<Long, LocalDateTime> threadLastActivity;
+    private final Map<String, Set<Long>> archivedIds;
+    /**
+     * Maps each username to the IDs of the messages that the user archived, in increasing order, so that pages of the
+     * archives can be found by message ID like pages of the inbox.
+     */
+    private final Map<String, List<Long>> archiveOrder;
+    private final Map<String, Set<Long>> unreadIds;
+    private final Set<Long> deletedIds;
     /**
-     * Representation invariant: the <code>Message</code> objects stored in <code>messages</code> are stored in
-     * the order in which they were added to the list.
+     * Holds the text of every message that has not been deleted. The <code>Message</code> objects in
+     * <code>messagesById</code> only hold their headers.
      */
-    private final List<Message> messages;
-    private final Map<String, List<UUID>> archivedMessages;
-    private final Map<String, List<UUID>> unreadMessages;
-    private final List<UUID> deletedMessages;
+    private final MessageBodyStore bodies;
+    private final MessageSearchIndex searchIndex;
     private final MessageFactory factory;
+    /**
+     * The messages, and the UUIDs of archived, unread and deleted messages, saved by versions of the program that
+     * identified messages by UUID. They are only set while such a manager is being loaded, and are null otherwise.
+     */
+    private List<Message> messages;
+    private Map<String, List<UUID>> archivedMessages;
+    private Map<String, List<UUID>> unreadMessages;
+    private List<UUID> deletedMessages;
 
     /**
-     * Creates a new <code>MessageManager</code> object with no messages.
+     * Creates a new <code>MessageManager</code> object with no messages, which stores the text of its messages in the
+     * directory <code>data/messages</code>.
      */
     public MessageManager() {
-        this.messages = new ArrayList<>();
-        this.archivedMessages = new HashMap<>();
-        this.unreadMessages = new HashMap<>();
-        this.deletedMessages = new ArrayList<>();
+        this("data/messages");
+    }
+
+    /**
+     * Creates a new <code>MessageManager</code> object with no messages, which stores the text of its messages in
+     * segment files in the directory <code>bodyDirectory</code>.
+     *
+     * @param bodyDirectory the path to the directory in which the text of messages is stored
+     */
+    public MessageManager(String bodyDirectory) {
+        this.messagesById = new TreeMap<>();
+        this.userMessages = new HashMap<>();
+        this.broadcastsByAudience = new HashMap<>();
+        this.threadRoots = new HashMap<>();
+        this.threads = new HashMap<>();
+        this.threadLastActivity = new HashMap<>();
+        this.archivedIds = new HashMap<>();
+        this.archiveOrder = new HashMap<>();
+        this.unreadIds = new HashMap<>();
+        this.deletedIds = new HashSet<>();
+        this.bodies = new MessageBodyStore(bodyDirectory);
+        this.searchIndex = new MessageSearchIndex();
         this.factory = new MessageFactory();
     }
 
@@ -39,13 +106,12 @@ public class MessageManager implements Serializable {
      * @return the unique <code>Message</code> object with ID <code>messageId</code>
      * @throws MessageNotFoundException if a <code>Message</code> with ID <code>messageId</code> does not exist.
      */
-    private Message getMessageWithId(UUID messageId) {
-        for (Message message : messages) {
-            if (message.getId() == messageId) {
-                return message;
-            }
+    private Message getMessageWithId(Long messageId) {
+        Message message = messagesById.get(messageId);
+        if (message == null) {
+            throw new MessageNotFoundException(String.format("Message with ID %d does not exist.", messageId));
         }
-        throw new MessageNotFoundException(String.format("Message with ID %s does not exist.", messageId.toString()));
+        return message;
     }
 
     //<editor-fold desc="Adding Messages and Replies">
@@ -64,7 +130,26 @@ public class MessageManager implements Serializable {
      */
     public void addMessage(String text, String author, List<String> recipients, int nesting) {
         Message newMessage = factory.getMessage(text, author, recipients, nesting);
-        messages.add(newMessage);
+        storeMessage(newMessage);
+        startThread(newMessage);
+    }
+
+    /**
+     * Adds a new broadcast message, which is sent to every user in the given audience at the time the message is read.
+     * Sending a broadcast takes the same time no matter how many users are in the audience.
+     *
+     * @param text     the text for the message
+     * @param author   the author for the message
+     * @param audience the key of the audience to send the message to, as created by <code>MessageAudience</code>
+     */
+    public void addBroadcast(String text, String author, String audience) {
+        storeBroadcast(factory.getBroadcastMessage(text, author, audience));
+    }
+
+    private void storeBroadcast(BroadcastMessage broadcast) {
+        storeMessage(broadcast);
+        startThread(broadcast);
+        broadcastsByAudience.computeIfAbsent(broadcast.getAudience(), k -> new ArrayList<>()).add(broadcast.getId());
     }
 
     /**
@@ -76,13 +161,118 @@ public class MessageManager implements Serializable {
      * @param author    the author for the reply
      * @param messageId the ID for the message that is being replied to
      */
-    public void replyToMessage(String text, String author, UUID messageId) {
+    public void replyToMessage(String text, String author, Long messageId) {
         Message message = getMessageWithId(messageId);
         String originalAuthor = message.getAuthor();
         List<String> replyRecipient = Collections.singletonList(originalAuthor);
         Message reply = factory.getMessage(text, author, replyRecipient, message.getNesting() + 1);
-        messages.add(reply);
+        storeMessage(reply);
         message.addReply(reply.getId());
+        addToThread(message, reply);
+    }
+
+    private void startThread(Message message) {
+        List<Long> thread = new ArrayList<>();
+        thread.add(message.getId());
+        threadRoots.put(message.getId(), message.getId());
+        threads.put(message.getId(), thread);
+        threadLastActivity.put(message.getId(), message.getTimeSent());
+    }
+
+    /**
+     * Inserts <code>reply</code> into the thread of <code>parent</code>, directly after the last message that is
+     * already nested under <code>parent</code>.
+     */
+    private void addToThread(Message parent, Message reply) {
+        Long root = threadRoots.get(parent.getId());
+        List<Long> thread = threads.get(root);
+        int position = thread.indexOf(parent.getId()) + 1;
+        while (position < thread.size() && getNestingLevel(thread.get(position)) > parent.getNesting()) {
+            position++;
+        }
+        thread.add(position, reply.getId());
+        threadRoots.put(reply.getId(), root);
+        threadLastActivity.put(root, reply.getTimeSent());
+    }
+
+    /**
+     * Adds a message that was sent before, keeping the ID and time that it was sent with. If
+     * <code>parentId</code> is not <code>null</code>, the message is added as a reply to the message with that ID.
+     * <p></p>
+     * Messages must be imported in order of ID, after every message already in this manager, so that the lists of
+     * each user's messages stay in the order in which the messages were sent. A message that would break this order,
+     * or that replies to a message that does not exist, is not added.
+     * <p></p>
+     * Precondition: <code>recipients</code> is not empty.
+     *
+     * @param messageId  the ID that the message was sent with
+     * @param timeSent   the time at which the message was sent
+     * @param text       the text of the message
+     * @param author     the author of the message
+     * @param recipients a nonempty list of recipient usernames for the message
+     * @param parentId   the ID of the message that this message replies to, or <code>null</code> if it is not a reply
+     * @return <code>true</code> iff the message was added
+     */
+    public boolean importMessage(long messageId, LocalDateTime timeSent, String text, String author,
+                                 List<String> recipients, Long parentId) {
+        Message parent = parentId == null ? null : messagesById.get(parentId);
+        if (!canImport(messageId) || (parentId != null && parent == null)) {
+            return false;
+        }
+        int nesting = parent == null ? 0 : parent.getNesting() + 1;
+        Message message = factory.getMessage(messageId, timeSent, text, author, recipients, nesting);
+        storeMessage(message);
+        if (parent == null) {
+            startThread(message);
+        } else {
+            parent.addReply(message.getId());
+            addToThread(parent, message);
+        }
+        return true;
+    }
+
+    /**
+     * Adds a broadcast message that was sent before, keeping the ID and time that it was sent with. Like
+     * <code>importMessage</code>, broadcasts must be imported in order of ID, after every message already in this
+     * manager.
+     *
+     * @param messageId the ID that the message was sent with
+     * @param timeSent  the time at which the message was sent
+     * @param text      the text of the message
+     * @param author    the author of the message
+     * @param audience  the key of the audience that the message was sent to
+     * @return <code>true</code> iff the message was added
+     */
+    public boolean importBroadcast(long messageId, LocalDateTime timeSent, String text, String author,
+                                   String audience) {
+        if (!canImport(messageId)) {
+            return false;
+        }
+        storeBroadcast(factory.getBroadcastMessage(messageId, timeSent, text, author, audience));
+        return true;
+    }
+
+    private boolean canImport(long messageId) {
+        return messagesById.isEmpty() || messageId > messagesById.lastKey();
+    }
+
+    /**
+     * Stores a new message, moving its text to the body store, appends its ID to the message lists of its author and
+     * each of its recipients, and adds it to the search index.
+     *
+     * @param message the message to store
+     */
+    private void storeMessage(Message message) {
+        Set<String> participants = new LinkedHashSet<>();
+        participants.add(message.getAuthor());
+        participants.addAll(message.getRecipients());
+        for (String participant : participants) {
+            userMessages.computeIfAbsent(participant, k -> new ArrayList<>()).add(message.getId());
+        }
+        searchIndex.addMessage(message.getId(), message.getText());
+        bodies.append(message.getId(), message.getText());
+        message.detachText();
+        messagesById.put(message.getId(), message);
     }
     //</editor-fold>
 
@@ -99,37 +289,185 @@ public class MessageManager implements Serializable {
      * @param messageId the ID corresponding to the message whose replies are returned
      * @return a list of IDs corresponding to replies of the message whose ID is <code>messageId</code>
      */
-    public List<UUID> getReplies(UUID messageId) {
+    public List<Long> getReplies(Long messageId) {
         Message message = getMessageWithId(messageId);
         return message.getReplies();
     }
 
     /**
      * Returns a list of IDs corresponding to messages that pertain to user <code>username</code>. More precisely,
-     * the IDs returned are those of all messages with <code>username</code> as an author or a recipient.
+     * the IDs returned are those of all messages with <code>username</code> as an author or a recipient, including
+     * broadcast messages sent to any of <code>audiences</code>.
      * <p></p>
      * The list of IDs is ordered according to when the corresponding messages were added to the manager;
      * earlier messages appear earlier in the list.
      *
-     * @param username the user whose incoming and outgoing messages are returned
+     * @param username  the user whose incoming and outgoing messages are returned
+     * @param audiences the keys of the audiences that <code>username</code> currently belongs to
      * @return a list of IDs of all messages with <code>username</code> as an author or a recipient
      */
-    public List<UUID> getInboxMessages(String username) {
-        List<UUID> messagesToOrFromUser = new ArrayList<>();
-        for (Message message : messages) {
-            if ((message.getRecipients().contains(username) || message.getAuthor().equals(username))
-                    && !messageInArchives(username, message.getId())) {
-                messagesToOrFromUser.add(message.getId());
+    public List<Long> getInboxMessages(String username, Collection<String> audiences) {
+        Set<Long> messagesToOrFromUser = new HashSet<>(userMessages.getOrDefault(username, Collections.emptyList()));
+        for (String audience : audiences) {
+            messagesToOrFromUser.addAll(broadcastsByAudience.getOrDefault(audience, Collections.emptyList()));
+        }
+        List<Long> inbox = new ArrayList<>();
+        for (Long messageId : messagesToOrFromUser) {
+            if (!messageInArchives(username, messageId)) {
+                inbox.add(messageId);
+            }
+        }
+        Collections.sort(inbox);
+        return inbox;
+    }
+
+    /**
+     * Returns a page of the conversations in the inbox of user <code>username</code>, starting from the newest
+     * conversation and going back in time. Each conversation is represented by the ID of the message at the top of
+     * its thread; conversations whose top message the user archived are left out.
+     * <p></p>
+     * The page is found by walking the user's message list and the lists of broadcasts sent to each of
+     * <code>audiences</code> backwards from <code>cursor</code>, so loading a page only visits the messages on it and
+     * the replies in between.
+     * <p></p>
+     * Precondition: <code>pageSize</code> is positive.
+     *
+     * @param username  the user whose conversations are returned
+     * @param audiences the keys of the audiences that <code>username</code> currently belongs to
+     * @param cursor    the cursor of the page to retrieve, as returned by the previous page, or <code>null</code> for
+     *                  the first page
+     * @param pageSize  the maximum number of conversations on the page
+     * @return a page of IDs of the messages at the top of the user's conversations, from newest to oldest
+     */
+    public MessagePage getInboxPage(String username, Collection<String> audiences, Long cursor, int pageSize) {
+        long upperBound = cursor == null ? Long.MAX_VALUE : cursor;
+        PriorityQueue<ReverseCursor> sources = new PriorityQueue<>();
+        addSource(sources, userMessages.getOrDefault(username, Collections.emptyList()), upperBound);
+        for (String audience : audiences) {
+            addSource(sources, broadcastsByAudience.getOrDefault(audience, Collections.emptyList()), upperBound);
+        }
+        List<Long> page = new ArrayList<>();
+        Long previousId = null;
+        while (!sources.isEmpty() && page.size() <= pageSize) {
+            ReverseCursor source = sources.poll();
+            Long messageId = source.current();
+            if (source.advance()) {
+                sources.add(source);
             }
+            if (!messageId.equals(previousId) && getNestingLevel(messageId) == 0
+                    && !messageInArchives(username, messageId)) {
+                page.add(messageId);
+            }
+            previousId = messageId;
+        }
+        if (page.size() <= pageSize) {
+            return new MessagePage(page, null);
         }
-        return messagesToOrFromUser;
+        page.remove(pageSize);
+        return new MessagePage(page, page.get(pageSize - 1));
     }
 
-    private boolean messageInArchives(String username, UUID messageID) {
-        if (archivedMessages.containsKey(username)) {
-            return archivedMessages.get(username).contains(messageID);
+    private void addSource(PriorityQueue<ReverseCursor> sources, List<Long> messageIds, long upperBound) {
+        int position = Collections.binarySearch(messageIds, upperBound);
+        position = position >= 0 ? position - 1 : -position - 2;
+        if (position >= 0) {
+            sources.add(new ReverseCursor(messageIds, 0, position + 1));
         }
-        return false;
+    }
+
+    /**
+     * Returns a list of IDs of all the messages in the thread containing the message with ID <code>messageId</code>,
+     * starting with the message at the top of the thread. Each message in the list is followed by its replies in the
+     * order they were added, and each reply is followed by its own replies in the same way.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of a message in the thread
+     * @return a list of IDs of all the messages in the thread containing the message with ID <code>messageId</code>
+     */
+    public List<Long> getThread(Long messageId) {
+        return new ArrayList<>(threads.get(getThreadRoot(messageId)));
+    }
+
+    /**
+     * Returns the ID of the message at the top of the thread containing the message with ID <code>messageId</code>.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of a message in the thread
+     * @return the ID of the message at the top of the thread
+     */
+    public Long getThreadRoot(Long messageId) {
+        getMessageWithId(messageId);
+        return threadRoots.get(messageId);
+    }
+
+    /**
+     * Returns the number of replies, at any nesting level, in the thread containing the message with ID
+     * <code>messageId</code>.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of a message in the thread
+     * @return the number of replies in the thread
+     */
+    public int getThreadReplyCount(Long messageId) {
+        return threads.get(getThreadRoot(messageId)).size() - 1;
+    }
+
+    /**
+     * Returns the time at which the most recent message in the thread containing the message with ID
+     * <code>messageId</code> was sent.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of a message in the thread
+     * @return the time at which the most recent message in the thread was sent
+     */
+    public LocalDateTime getThreadLastActivity(Long messageId) {
+        return threadLastActivity.get(getThreadRoot(messageId));
+    }
+
+    /**
+     * Returns a list of IDs of all messages that were sent at or after <code>time</code>, ordered from oldest to
+     * newest.
+     *
+     * @param time the earliest time at which a returned message could have been sent
+     * @return a list of IDs of all messages sent at or after <code>time</code>
+     */
+    public List<Long> getMessagesSince(LocalDateTime time) {
+        return new ArrayList<>(messagesById.tailMap(MessageIdGenerator.lowestIdAt(time), true).keySet());
+    }
+
+    /**
+     * Returns the IDs of the messages that pertain to user <code>username</code> and contain at least one word of
+     * <code>query</code>, ranked from most to least relevant. Messages containing more of the words in
+     * <code>query</code> are more relevant, and among equally relevant messages newer ones come first. Messages that
+     * were deleted or that the user archived are left out.
+     *
+     * @param username  the user whose messages are searched
+     * @param audiences the keys of the audiences that <code>username</code> currently belongs to
+     * @param query     the words to search for, separated by spaces or punctuation; case is ignored
+     * @param author    the author whose messages are searched, or <code>null</code> to search messages by any author
+     * @param from      the earliest date on which a returned message was sent, or <code>null</code> for no limit
+     * @param to        the latest date on which a returned message was sent, or <code>null</code> for no limit
+     * @param limit     the maximum number of IDs to return
+     * @return a list of at most <code>limit</code> IDs of matching messages, from most to least relevant
+     */
+    public List<Long> searchMessages(String username, Collection<String> audiences, String query, String author,
+                                     LocalDate from, LocalDate to, int limit) {
+        List<List<Long>> ownerMessages = new ArrayList<>();
+        ownerMessages.add(userMessages.getOrDefault(username, Collections.emptyList()));
+        for (String audience : audiences) {
+            ownerMessages.add(broadcastsByAudience.getOrDefault(audience, Collections.emptyList()));
+        }
+        return searchIndex.search(ownerMessages, query, from, to, limit,
+                messageId -> (author == null || author.equals(getMessageWithId(messageId).getAuthor()))
+                        && !isDeleted(messageId) && !messageInArchives(username, messageId), bodies::read);
+    }
+
+    private boolean messageInArchives(String username, Long messageID) {
+        return archivedIds.getOrDefault(username, Collections.emptySet()).contains(messageID);
     }
 
     //</editor-fold>
@@ -138,53 +476,167 @@ public class MessageManager implements Serializable {
      * Adds the message with ID <code>messageId</code> to the list of deleted messages and marks it as deleted.
      * <p></p>
      *
-     * @param messageId unique UUID of a message
+     * @param messageId unique ID of a message
      */
-    public void markAsDeleted(UUID messageId) {
+    public void markAsDeleted(Long messageId) {
         Message message = getMessageWithId(messageId);
-        deletedMessages.add(messageId);
+        deletedIds.add(messageId);
         message.markAsDeleted();
     }
 
+    //<editor-fold desc="Compaction and Retention">
+
+    /**
+     * Removes deleted messages that are no longer needed to display any conversation and returns how many were
+     * removed.
+     * <p></p>
+     * A deleted message with no replies is removed entirely, after which its parent may have no replies left and be
+     * removed in turn if it was also deleted. A deleted message that still has replies stays as a tombstone that only
+     * holds its header, so that the rest of its conversation can still be displayed. References to removed messages
+     * in users' archives and unread messages are dropped, and the storage of message text is compacted once enough of
+     * it belongs to removed messages.
+     *
+     * @return the number of messages removed
+     */
+    public int compact() {
+        Set<Long> removed = new HashSet<>();
+        for (List<Long> thread : threads.values()) {
+            // Every message comes before its replies in the thread, so walking backwards visits replies first.
+            for (int position = thread.size() - 1; position >= 0; position--) {
+                Long messageId = thread.get(position);
+                Message message = messagesById.get(messageId);
+                if (deletedIds.contains(messageId) && message.getReplies().isEmpty()) {
+                    removeFromParent(thread, position, message);
+                    removed.add(messageId);
+                }
+            }
+        }
+        removeMessages(removed);
+        return removed.size();
+    }
+
+    /**
+     * Removes every conversation in which no message has been sent since <code>cutoff</code>, and returns how many
+     * messages were removed.
+     *
+     * @param cutoff the time before which the last message of a conversation must have been sent for the
+     *               conversation to be removed
+     * @return the number of messages removed
+     */
+    public int purgeMessagesBefore(LocalDateTime cutoff) {
+        Set<Long> removed = new HashSet<>();
+        for (Map.Entry<Long, LocalDateTime> lastActivity : threadLastActivity.entrySet()) {
+            if (lastActivity.getValue().isBefore(cutoff)) {
+                removed.addAll(threads.get(lastActivity.getKey()));
+            }
+        }
+        removeMessages(removed);
+        return removed.size();
+    }
+
+    /**
+     * Removes the message at <code>position</code> in <code>thread</code> from the replies of its parent, which is the
+     * closest message before it in the thread that is nested one level less deeply.
+     */
+    private void removeFromParent(List<Long> thread, int position, Message message) {
+        Message parent = findParent(thread, position, message);
+        if (parent != null) {
+            parent.removeReply(message.getId());
+        }
+    }
+
+    /**
+     * Returns the message that the message at <code>position</code> in <code>thread</code> replies to, which is the
+     * closest message before it in the thread that is nested one level less deeply, or <code>null</code> if it is not
+     * a reply.
+     */
+    private Message findParent(List<Long> thread, int position, Message message) {
+        for (int parentPosition = position - 1; parentPosition >= 0; parentPosition--) {
+            Message parent = messagesById.get(thread.get(parentPosition));
+            if (parent.getNesting() == message.getNesting() - 1) {
+                return parent;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the messages with IDs in <code>removed</code> and every reference to them, then drops the text of
+     * removed and deleted messages from storage.
+     */
+    private void removeMessages(Set<Long> removed) {
+        Predicate<Long> isKept = messageId -> !removed.contains(messageId);
+        for (Long messageId : removed) {
+            messagesById.remove(messageId);
+            threadRoots.remove(messageId);
+            deletedIds.remove(messageId);
+        }
+        for (List<Long> thread : threads.values()) {
+            thread.removeIf(removed::contains);
+        }
+        threads.values().removeIf(List::isEmpty);
+        threadLastActivity.keySet().retainAll(threads.keySet());
+        removeFromAll(userMessages, isKept);
+        removeFromAll(broadcastsByAudience, isKept);
+        removeFromAll(archiveOrder, isKept);
+        removeFromAll(archivedIds, isKept);
+        removeFromAll(unreadIds, isKept);
+        Predicate<Long> hasText = messageId -> isKept.test(messageId) && !deletedIds.contains(messageId);
+        searchIndex.retainAll(hasText);
+        bodies.retainAll(hasText);
+        bodies.compact();
+    }
+
+    /**
+     * Deletes the files holding the text of messages that were replaced when the storage of message text was last
+     * compacted.
+     * <p></p>
+     * Precondition: this manager has been saved since it was last compacted, so that the saved manager no longer
+     * refers to those files.
+     */
+    public void deleteCompactedText() {
+        bodies.deleteObsoleteSegments();
+    }
+
+    private <C extends Collection<Long>> void removeFromAll(Map<String, C> idsByKey, Predicate<Long> isKept) {
+        for (C ids : idsByKey.values()) {
+            ids.removeIf(isKept.negate());
+        }
+        idsByKey.values().removeIf(Collection::isEmpty);
+    }
+    //</editor-fold>
+
     /**
      * Returns true if the message has been deleted, false otherwise.
      * <p></p>
      *
-     * @param messageId unique UUID of a message
+     * @param messageId unique ID of a message
      * @return true if the message is in the list of deleted messages.
      */
-    public boolean isDeleted(UUID messageId) {
-        return deletedMessages.contains(messageId);
+    public boolean isDeleted(Long messageId) {
+        return deletedIds.contains(messageId);
     }
 
     /**
      * Adds message with ID <code>messageId</code> to user <code>username</code>'s list of unread messages.
      * <p></p>
      *
-     * @param messageId unique UUID of a message
+     * @param messageId unique ID of a message
      * @param username  the user who chose to mark a message as unread
      */
-    public void markAsUnread(UUID messageId, String username) {
-        if (unreadMessages.containsKey(username)) {
-            unreadMessages.get(username).add(messageId);
-        } else {
-            List<UUID> userUnread = new ArrayList<>();
-            userUnread.add(messageId);
-            unreadMessages.put(username, userUnread);
-        }
+    public void markAsUnread(Long messageId, String username) {
+        unreadIds.computeIfAbsent(username, k -> new HashSet<>()).add(messageId);
     }
 
     /**
      * Removes the message with ID <code>messageId</code> from the user <code>username</code>'s list of unread messages.
      * <p></p>
      *
-     * @param messageId unique UUID of a message
+     * @param messageId unique ID of a message
      * @param username  the user who chose to unmark a message as unread
      */
-    public void unmarkAsUnread(UUID messageId, String username) {
-        if (unreadMessages.containsKey(username)) {
-            unreadMessages.get(username).remove(messageId);
-        }
+    public void unmarkAsUnread(Long messageId, String username) {
+        unreadIds.getOrDefault(username, Collections.emptySet()).remove(messageId);
     }
 
     /**
@@ -192,41 +644,74 @@ public class MessageManager implements Serializable {
      * <p></p>
      *
      * @param username  the user who marked the message as unread
-     * @param messageId unique UUID of a message
+     * @param messageId unique ID of a message
      * @return true if the user marked the message as unread, false otherwise
      */
-    public boolean didUserMarkUnread(String username, UUID messageId) {
-        if (unreadMessages.containsKey(username)) {
-            return unreadMessages.get(username).contains(messageId);
-        }
-        return false;
+    public boolean didUserMarkUnread(String username, Long messageId) {
+        return unreadIds.getOrDefault(username, Collections.emptySet()).contains(messageId);
+    }
+
+    /**
+     * Returns the number of messages that the user <code>username</code> has marked as unread.
+     *
+     * @param username the user whose unread messages are counted
+     * @return the number of messages that <code>username</code> has marked as unread
+     */
+    public int getUnreadCount(String username) {
+        return unreadIds.getOrDefault(username, Collections.emptySet()).size();
     }
 
     /**
      * Add a new message to the list of archived messages for the user <code>username</code>.
      * <p></p>
      *
-     * @param messageId UUID of the message to archive
+     * @param messageId ID of the message to archive
      * @param username  the user who wants to archive
      */
-    public void addToArchive(UUID messageId, String username) {
-        List<UUID> userArchive = getUserArchivedMessages(username);
-        userArchive.add(messageId);
-        archivedMessages.put(username, userArchive);
+    public void addToArchive(Long messageId, String username) {
+        if (archivedIds.computeIfAbsent(username, k -> new HashSet<>()).add(messageId)) {
+            List<Long> archive = archiveOrder.computeIfAbsent(username, k -> new ArrayList<>());
+            archive.add(-Collections.binarySearch(archive, messageId) - 1, messageId);
+        }
     }
 
     /**
-     * Retrieves the list of archived messages for user <code>username</code>. If the user does not have archived messages
-     * yet, creates a new list.
+     * Retrieves the list of archived messages for user <code>username</code>, from the oldest message to the newest.
+     * If the user does not have archived messages yet, the list is empty.
      *
      * @param username the user whose archives to retrieve
-     * @return list of UUID message ids of the all the messages the user has archived
+     * @return list of IDs of the all the messages the user has archived
      */
-    public List<UUID> getUserArchivedMessages(String username) {
-        if (archivedMessages.containsKey(username)) {
-            return archivedMessages.get(username);
+    public List<Long> getUserArchivedMessages(String username) {
+        return new ArrayList<>(archiveOrder.getOrDefault(username, Collections.emptyList()));
+    }
+
+    /**
+     * Returns a page of the messages archived by user <code>username</code>, starting from the newest message and going
+     * back in time.
+     * <p></p>
+     * The cursor is the ID of the last message on the previous page, so the page is found with a binary search of the
+     * user's archives, and archiving or removing other messages between pages does not skip or repeat any message.
+     * <p></p>
+     * Precondition: <code>pageSize</code> is positive.
+     *
+     * @param username the user whose archives to retrieve
+     * @param cursor   the cursor of the page to retrieve, as returned by the previous page, or <code>null</code> for
+     *                 the first page
+     * @param pageSize the maximum number of messages on the page
+     * @return a page of IDs of messages the user has archived, from the most to the least recently archived
+     */
+    public MessagePage getArchivePage(String username, Long cursor, int pageSize) {
+        List<Long> archive = archiveOrder.getOrDefault(username, Collections.emptyList());
+        int end = archive.size();
+        if (cursor != null) {
+            end = Collections.binarySearch(archive, cursor);
+            end = end >= 0 ? end : -end - 1;
         }
-        return new ArrayList<>();
+        int start = Math.max(0, end - pageSize);
+        List<Long> page = new ArrayList<>(archive.subList(start, end));
+        Collections.reverse(page);
+        return new MessagePage(page, start > 0 ? archive.get(start) : null);
     }
 
 
@@ -234,17 +719,19 @@ public class MessageManager implements Serializable {
 
     /**
      * Returns whether or not the message with ID <code>messageId</code> has <code>username</code> as a recipient.
+     * A user is a recipient of a broadcast message if they belong to the audience it was sent to.
      * <p></p>
      * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
      *
      * @param username  username to search for among the recipients of the message
+     * @param audiences the keys of the audiences that <code>username</code> currently belongs to
      * @param messageId the ID of the message whose recipients are checked
      * @return <code>true</code> if and only if the message with ID <code>messageId</code> has <code>username</code>
      * as a recipient.
      */
-    public boolean isRecipient(String username, UUID messageId) {
+    public boolean isRecipient(String username, Collection<String> audiences, Long messageId) {
         Message message = getMessageWithId(messageId);
-        return message.hasRecipient(username);
+        return message.isAddressedTo(username, audiences);
     }
 
     /**
@@ -256,7 +743,7 @@ public class MessageManager implements Serializable {
      * @param messageId the ID of the message whose author is to be checked
      * @return <code>true</code> if and only if the message with ID <code>messageId</code> was written by <code>username</code>
      */
-    public boolean isAuthor(String username, UUID messageId) {
+    public boolean isAuthor(String username, Long messageId) {
         Message message = getMessageWithId(messageId);
         return message.getAuthor().equals(username);
     }
@@ -272,9 +759,108 @@ public class MessageManager implements Serializable {
      * @param messageId the ID of the message whose string representation is returned
      * @return a string representation of the message with ID <code>messageId</code>
      */
-    public String getMessageAsString(UUID messageId) {
+    public String getMessageAsString(Long messageId) {
         Message message = getMessageWithId(messageId);
-        return message.toString();
+        if (message.getText() != null) {
+            return message.toString();
+        }
+        return message.toString(bodies.read(messageId));
+    }
+
+    /**
+     * Returns the IDs of all messages, including deleted messages that are kept because they have replies, in the
+     * order in which they were sent.
+     *
+     * @return a list of the IDs of all messages
+     */
+    public List<Long> getMessageIds() {
+        return new ArrayList<>(messagesById.keySet());
+    }
+
+    /**
+     * Returns the author of the message with ID <code>messageId</code>.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the username of the author of the message
+     */
+    public String getAuthor(Long messageId) {
+        return getMessageWithId(messageId).getAuthor();
+    }
+
+    /**
+     * Returns the time at which the message with ID <code>messageId</code> was sent.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the time at which the message was sent
+     */
+    public LocalDateTime getTimeSent(Long messageId) {
+        return getMessageWithId(messageId).getTimeSent();
+    }
+
+    /**
+     * Returns the usernames of the recipients of the message with ID <code>messageId</code>, which is empty for a
+     * broadcast message.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the usernames of the recipients of the message
+     */
+    public List<String> getRecipients(Long messageId) {
+        return new ArrayList<>(getMessageWithId(messageId).getRecipients());
+    }
+
+    /**
+     * Returns the key of the audience that the message with ID <code>messageId</code> was sent to, or
+     * <code>null</code> if it is not a broadcast message.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the key of the audience of the message, or <code>null</code> if it is not a broadcast message
+     */
+    public String getAudience(Long messageId) {
+        Message message = getMessageWithId(messageId);
+        return message instanceof BroadcastMessage ? ((BroadcastMessage) message).getAudience() : null;
+    }
+
+    /**
+     * Returns the text of the message with ID <code>messageId</code>, or <code>null</code> if it was deleted.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the text of the message, or <code>null</code> if it was deleted
+     */
+    public String getText(Long messageId) {
+        Message message = getMessageWithId(messageId);
+        if (deletedIds.contains(messageId)) {
+            return null;
+        }
+        return message.getText() != null ? message.getText() : bodies.read(messageId);
+    }
+
+    /**
+     * Returns the ID of the message that the message with ID <code>messageId</code> replies to, or <code>null</code>
+     * if it is not a reply.
+     * <p></p>
+     * Precondition: a <code>Message</code> with ID <code>messageId</code> should already exist.
+     *
+     * @param messageId the ID of the message
+     * @return the ID of the message that it replies to, or <code>null</code> if it is not a reply
+     */
+    public Long getParentId(Long messageId) {
+        Message message = getMessageWithId(messageId);
+        if (message.getNesting() == 0) {
+            return null;
+        }
+        List<Long> thread = threads.get(threadRoots.get(messageId));
+        Message parent = findParent(thread, thread.indexOf(messageId), message);
+        return parent == null ? null : parent.getId();
     }
 
     /**
@@ -287,9 +873,60 @@ public class MessageManager implements Serializable {
      * @param messageId the ID for the message whose nesting level is returned
      * @return an integer that indicates how deeply nested this message is in the reply hierarchy.
      */
-    public int getNestingLevel(UUID messageId) {
+    public int getNestingLevel(Long messageId) {
         return getMessageWithId(messageId).getNesting();
     }
     //</editor-fold>
 
+    /**
+     * Replaces a manager that was saved by a version of the program that identified messages by UUID with an
+     * equivalent manager. Each message is given a numeric ID from its UUID and the time it was sent, raised where
+     * needed so that IDs still increase in the order the messages were added, and replies stay attached to the
+     * messages they reply to.
+     *
+     * @return this manager, or an equivalent manager with numeric message IDs if it was saved with UUIDs
+     */
+    private Object readResolve() {
+        if (messagesById != null) {
+            return this;
+        }
+        MessageManager migrated = new MessageManager();
+        Map<UUID, UUID> parents = new HashMap<>();
+        for (Message message : messages) {
+            for (UUID reply : message.getLegacyReplies()) {
+                parents.put(reply, message.getLegacyId());
+            }
+        }
+        Map<UUID, Long> newIds = new HashMap<>();
+        long previousId = 0;
+        for (Message message : messages) {
+            long messageId = Math.max(MessageIdGenerator.fromLegacyId(message.getLegacyId(), message.getTimeSent()),
+                    previousId + 1);
+            Long parentId = newIds.get(parents.get(message.getLegacyId()));
+            migrated.importMessage(messageId, message.getTimeSent(), message.getText(), message.getAuthor(),
+                    message.getRecipients(), parentId);
+            newIds.put(message.getLegacyId(), messageId);
+            previousId = messageId;
+        }
+        for (UUID deleted : deletedMessages) {
+            if (newIds.containsKey(deleted)) {
+                migrated.markAsDeleted(newIds.get(deleted));
+            }
+        }
+        for (Map.Entry<String, List<UUID>> archive : archivedMessages.entrySet()) {
+            for (UUID archived : archive.getValue()) {
+                if (newIds.containsKey(archived)) {
+                    migrated.addToArchive(newIds.get(archived), archive.getKey());
+                }
+            }
+        }
+        for (Map.Entry<String, List<UUID>> unread : unreadMessages.entrySet()) {
+            for (UUID unreadId : unread.getValue()) {
+                if (newIds.containsKey(unreadId)) {
+                    migrated.markAsUnread(newIds.get(unreadId), unread.getKey());
+                }
+            }
+        }
+        return migrated;
+    }
 }
@@ -0,0 +1,51 @@
+package messaging.manager;
+
+import java.util.List;
+
+/**
+ * This class represents one page of a listing of messages, such as a user's inbox or archives, together with the
+ * cursor from which the following page of the listing can be loaded.
+ */
+public class MessagePage {
+    private final List<Long> messageIds;
+    private final Long nextCursor;
+
+    /**
+     * Creates a new <code>MessagePage</code> containing the given messages.
+     *
+     * @param messageIds the IDs of the messages on this page, in the order in which they are displayed
+     * @param nextCursor the cursor from which the following page is loaded, or <code>null</code> if this is the last
+     *                   page of the listing
+     */
+    public MessagePage(List<Long> messageIds, Long nextCursor) {
+        this.messageIds = messageIds;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the IDs of the messages on this page, in the order in which they are displayed.
+     *
+     * @return the IDs of the messages on this page
+     */
+    public List<Long> getMessageIds() {
+        return messageIds;
+    }
+
+    /**
+     * Gets the cursor from which the following page of the listing is loaded.
+     *
+     * @return the cursor for the following page, or <code>null</code> if this is the last page of the listing
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Returns whether or not there is a page after this one in the listing.
+     *
+     * @return <code>true</code> if and only if there is a page after this one
+     */
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,39 @@
+package messaging.manager;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class decides which messages are removed from a <code>MessageManager</code> over time, so that the memory and
+ * disk space used by messages stay bounded once the conference is over.
+ */
+public class MessageRetentionPolicy {
+    private final int retentionDays;
+
+    /**
+     * Creates a new <code>MessageRetentionPolicy</code> that keeps conversations for <code>retentionDays</code> days
+     * after their last message once the conference has ended.
+     *
+     * @param retentionDays the number of days for which inactive conversations are kept after the conference
+     */
+    public MessageRetentionPolicy(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Applies this policy to <code>messageManager</code>. Deleted messages that are no longer needed are always
+     * compacted away. If the conference has ended, conversations with no messages in the last
+     * <code>retentionDays</code> days are also removed.
+     *
+     * @param messageManager the manager whose messages are removed
+     * @param conferenceEnd  the time at which the conference ends, or <code>null</code> if it has no events
+     * @param now            the current time
+     * @return the number of messages removed
+     */
+    public int apply(MessageManager messageManager, LocalDateTime conferenceEnd, LocalDateTime now) {
+        int removed = 0;
+        if (conferenceEnd != null && now.isAfter(conferenceEnd)) {
+            removed += messageManager.purgeMessagesBefore(now.minusDays(retentionDays));
+        }
+        return removed + messageManager.compact();
+    }
+}
@@ -0,0 +1,216 @@
+package messaging.manager;
+
+import messaging.MessageIdGenerator;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * This class indexes the words of messages, used to search the messages that a user can see.
+ * <p></p>
+ * The index keeps a 128-bit signature of the words of each message, in two arrays sorted by message ID, so it takes
+ * the same space for every message however long its text is. A signature has two bits set for each word, so a message
+ * whose signature lacks a bit of every query word cannot contain any of them, and its text is not read. The text of
+ * the other messages is read and split into words to count the query words that they really contain.
+ * <p></p>
+ * A search only visits the messages that the user can see, which are kept by <code>MessageManager</code> and passed
+ * in, from the newest to the oldest. Since message IDs increase over time, searches restricted to a range of dates
+ * only visit the part of each list that lies in the range.
+ */
+class MessageSearchIndex implements Serializable {
+    private static final long serialVersionUID = -1953486817925085573L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The IDs of the indexed messages in increasing order, followed by unused space.
+     */
+    private long[] messageIds;
+
+    /**
+     * The signature of the message at each position of <code>messageIds</code>, as the low and high 64 bits at
+     * positions <code>2 * i</code> and <code>2 * i + 1</code>.
+     */
+    private long[] signatures;
+    private int size;
+
+    /**
+     * Creates a new <code>MessageSearchIndex</code> containing no messages.
+     */
+    MessageSearchIndex() {
+        this.messageIds = new long[INITIAL_CAPACITY];
+        this.signatures = new long[2 * INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Adds a message to the index. Messages must be added in increasing order of ID.
+     *
+     * @param messageId the ID of the message
+     * @param text      the text of the message
+     */
+    void addMessage(long messageId, String text) {
+        if (size == messageIds.length) {
+            messageIds = Arrays.copyOf(messageIds, 2 * size);
+            signatures = Arrays.copyOf(signatures, 4 * size);
+        }
+        long[] signature = new long[2];
+        for (String word : tokenize(text)) {
+            addWord(signature, word);
+        }
+        messageIds[size] = messageId;
+        signatures[2 * size] = signature[0];
+        signatures[2 * size + 1] = signature[1];
+        size++;
+    }
+
+    /**
+     * Removes all messages whose IDs do not satisfy <code>keep</code> from the index, and releases the unused space.
+     *
+     * @param keep a predicate that is <code>true</code> for the IDs of messages that stay in the index
+     */
+    void retainAll(Predicate<Long> keep) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep.test(messageIds[i])) {
+                messageIds[kept] = messageIds[i];
+                signatures[2 * kept] = signatures[2 * i];
+                signatures[2 * kept + 1] = signatures[2 * i + 1];
+                kept++;
+            }
+        }
+        size = kept;
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        messageIds = Arrays.copyOf(messageIds, capacity);
+        signatures = Arrays.copyOf(signatures, 2 * capacity);
+    }
+
+    /**
+     * Returns the IDs of the messages in any of <code>ownerMessages</code> that contain at least one word of
+     * <code>query</code>, ranked from most to least relevant. Messages containing more of the distinct words in
+     * <code>query</code> are more relevant, and among equally relevant messages newer ones come first.
+     * <p></p>
+     * The lists are merged from the newest message to the oldest while the best <code>limit</code> messages so far
+     * are kept, so the search stops as soon as <code>limit</code> messages containing every query word have been
+     * found. At most the messages in the lists are visited, and only the text of those whose signature matches a
+     * query word and that satisfy <code>include</code> is read.
+     *
+     * @param ownerMessages the IDs of the messages that may be searched, as lists in increasing order
+     * @param query         the words to search for, separated by spaces or punctuation
+     * @param from          the earliest date on which a returned message was sent, or <code>null</code> for no limit
+     * @param to            the latest date on which a returned message was sent, or <code>null</code> for no limit
+     * @param limit         the maximum number of IDs to return
+     * @param include       a predicate that is <code>true</code> for the IDs of messages that may be returned
+     * @param textOf        a function that returns the text of the message with a given ID
+     * @return a list of at most <code>limit</code> IDs of matching messages, from most to least relevant
+     */
+    List<Long> search(Collection<List<Long>> ownerMessages, String query, LocalDate from, LocalDate to, int limit,
+                      Predicate<Long> include, Function<Long, String> textOf) {
+        long lowestId = from == null ? Long.MIN_VALUE : MessageIdGenerator.lowestIdAt(from.atStartOfDay());
+        long highestId = to == null ? Long.MAX_VALUE : MessageIdGenerator.lowestIdAt(to.plusDays(1).atStartOfDay());
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        long[][] termSignatures = new long[terms.size()][2];
+        for (int term = 0; term < terms.size(); term++) {
+            addWord(termSignatures[term], terms.get(term));
+        }
+        PriorityQueue<ReverseCursor> cursors = new PriorityQueue<>();
+        for (List<Long> ids : ownerMessages) {
+            int start = lowerBound(ids, lowestId);
+            int end = lowerBound(ids, highestId);
+            if (start < end) {
+                cursors.add(new ReverseCursor(ids, start, end));
+            }
+        }
+        // The least relevant of the best messages so far is at the head, as {score, ID}.
+        PriorityQueue<long[]> best = new PriorityQueue<>(
+                Comparator.comparingLong((long[] result) -> result[0]).thenComparingLong(result -> result[1]));
+        while (!terms.isEmpty() && !cursors.isEmpty()
+                && !(best.size() == limit && best.peek()[0] == terms.size())) {
+            Long messageId = cursors.peek().current();
+            while (!cursors.isEmpty() && cursors.peek().current().equals(messageId)) {
+                ReverseCursor cursor = cursors.poll();
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+            if (mayContainAny(messageId, termSignatures) && include.test(messageId)) {
+                Set<String> words = new HashSet<>(tokenize(textOf.apply(messageId)));
+                int matched = 0;
+                for (String term : terms) {
+                    if (words.contains(term)) {
+                        matched++;
+                    }
+                }
+                if (matched > 0) {
+                    best.add(new long[]{matched, messageId});
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        List<Long> results = new ArrayList<>();
+        while (!best.isEmpty()) {
+            results.add(best.poll()[1]);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Returns whether the signature of the message with ID <code>messageId</code> has every bit of at least one of
+     * <code>termSignatures</code>. Messages that are not in the index contain no words.
+     */
+    private boolean mayContainAny(long messageId, long[][] termSignatures) {
+        int position = Arrays.binarySearch(messageIds, 0, size, messageId);
+        if (position < 0) {
+            return false;
+        }
+        long low = signatures[2 * position];
+        long high = signatures[2 * position + 1];
+        for (long[] term : termSignatures) {
+            if ((low & term[0]) == term[0] && (high & term[1]) == term[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the two bits of <code>word</code> in <code>signature</code>, which holds the low and high 64 bits of a
+     * signature.
+     */
+    private static void addWord(long[] signature, String word) {
+        int hash = word.hashCode() * 0x9E3779B9;
+        setBit(signature, hash >>> 25);
+        setBit(signature, (hash >>> 18) & 127);
+    }
+
+    private static void setBit(long[] signature, int bit) {
+        signature[bit >>> 6] |= 1L << bit;
+    }
+
+    private int lowerBound(List<Long> ids, long id) {
+        int position = Collections.binarySearch(ids, id);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Splits <code>text</code> into lower-case words, treating every character that is not a letter or digit as a
+     * separator.
+     *
+     * @param text the text to split
+     * @return the words in <code>text</code>, in order
+     */
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,53 @@
+package messaging.manager;
+
+import java.util.List;
+
+/**
+ * A position in a range of a list of message IDs sorted in increasing order, which moves towards the start of the
+ * range. Cursors are ordered so that the one at the greatest ID comes first, so that a priority queue of cursors can
+ * merge several lists from the newest message to the oldest.
+ */
+class ReverseCursor implements Comparable<ReverseCursor> {
+    private final List<Long> messageIds;
+    private final int start;
+    private int position;
+
+    /**
+     * Creates a new <code>ReverseCursor</code> at the last ID of the range of <code>messageIds</code> from
+     * <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     * <p></p>
+     * Precondition: <code>start &lt; end</code>.
+     *
+     * @param messageIds a list of message IDs sorted in increasing order
+     * @param start      the index of the first ID in the range
+     * @param end        the index after the last ID in the range
+     */
+    ReverseCursor(List<Long> messageIds, int start, int end) {
+        this.messageIds = messageIds;
+        this.start = start;
+        this.position = end - 1;
+    }
+
+    /**
+     * Gets the ID at this cursor's position.
+     *
+     * @return the ID at this cursor's position
+     */
+    Long current() {
+        return messageIds.get(position);
+    }
+
+    /**
+     * Moves this cursor to the previous ID in its range.
+     *
+     * @return <code>true</code> if and only if the cursor is still within its range
+     */
+    boolean advance() {
+        return --position >= start;
+    }
+
+    @Override
+    public int compareTo(ReverseCursor other) {
+        return other.current().compareTo(current());
+    }
+}
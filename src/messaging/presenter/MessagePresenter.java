@@ -1,5 +1,6 @@
 package messaging.presenter;
 
+import messaging.controller.InboxOption;
 import messaging.controller.MessageOption;
 import system.console.ConsolePresenter;
 
@@ -10,12 +11,14 @@ import java.util.*;
  */
 public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
     private final Map<MessageOption, String> optionPrompts;
+    private final Map<InboxOption, String> inboxOptionPrompts;
 
     /**
      * Constructs a MessagePresenter object to display messaging information to the user and format messages properly.
      */
     public MessagePresenter() {
         optionPrompts = initializeOptions();
+        inboxOptionPrompts = initializeInboxOptions();
     }
 
     private Map<MessageOption, String> initializeOptions() {
@@ -29,6 +32,15 @@ public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
         return options;
     }
 
+    private Map<InboxOption, String> initializeInboxOptions() {
+        Map<InboxOption, String> options = new EnumMap<>(InboxOption.class);
+        options.put(InboxOption.RETURN, "Return to main menu");
+        options.put(InboxOption.INTERACT, "Interact with a message");
+        options.put(InboxOption.NEXT_PAGE, "View older messages");
+        options.put(InboxOption.PREVIOUS_PAGE, "View newer messages");
+        return options;
+    }
+
     /**
      * Returns an <code>EnumMap</code> that maps each enum key of type <code>T</code> to its respective console message
      *
@@ -48,8 +60,6 @@ public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
         m.put(MessagePrompts.END_OF_ARCHIVES, "==========================================================\n" +
                 "End of archives.\n");
         m.put(MessagePrompts.INBOX_MENU_TITLE, "Please enter a command:");
-        m.put(MessagePrompts.INBOX_QUIT_PROMPT, "1 - Return to main menu");
-        m.put(MessagePrompts.MESSAGE_INTERACTION_PROMPT, "2 - Interact with a message");
         m.put(MessagePrompts.MESSAGE_INTERACTION_TITLE, "Please enter a command to interact with the message:");
         m.put(MessagePrompts.MESSAGE_REPLY_PROMPT, "Reply to the message");
         m.put(MessagePrompts.MESSAGE_DELETE_PROMPT, "Delete the message");
@@ -62,12 +72,29 @@ public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
         m.put(MessagePrompts.TEXT_INPUT_PROMPT, "Please enter the text for your message.");
         m.put(MessagePrompts.MESSAGE_SELECTION_PROMPT, "Please enter the number of the message you wish to select.");
         m.put(MessagePrompts.MESSAGE_SELECTION_CANCELLED, "Cancelled message selection.");
+        m.put(MessagePrompts.RETENTION_DAYS_PROMPT, "Conversations with no new messages in the number of days you " +
+                "enter will be removed for every user. Please enter the number of days:");
+        m.put(MessagePrompts.PURGE_CONFIRMATION_PROMPT, "These conversations cannot be recovered. Are you sure you " +
+                "want to remove them? (yes/no/y/n)");
+        m.put(MessagePrompts.SEARCH_QUERY_PROMPT, "Please enter the words to search for.");
+        m.put(MessagePrompts.SEARCH_AUTHOR_PROMPT, "Please enter the username of the author to search for, " +
+                "or leave blank to search messages from anyone.");
+        m.put(MessagePrompts.SEARCH_FROM_DATE_PROMPT, "Please enter the earliest date to search from (YYYY-MM-DD), " +
+                "or leave blank for no limit.");
+        m.put(MessagePrompts.SEARCH_TO_DATE_PROMPT, "Please enter the latest date to search until (YYYY-MM-DD), " +
+                "or leave blank for no limit.");
+        m.put(MessagePrompts.SEARCH_RESULTS_TITLE, "Here are the messages that best match your search:\n" +
+                "==========================================================");
+        m.put(MessagePrompts.END_OF_SEARCH_RESULTS, "==========================================================\n" +
+                "End of search results.\n");
 
         return m;
     }
 
     private void initializeConfirmations(EnumMap<MessagePrompts, String> m) {
+        m.put(MessagePrompts.PURGE_CANCELLED, "No conversations were removed.");
         m.put(MessagePrompts.MESSAGE_CONFIRMATION, "Your message has been sent to all valid recipients:");
+        m.put(MessagePrompts.BROADCAST_CONFIRMATION, "Your message has been sent to everyone in the selected group.");
         m.put(MessagePrompts.REPLY_CONFIRMATION, "Your reply has been sent.");
         m.put(MessagePrompts.DELETION_CONFIRMATION, "Your message has been deleted.");
         m.put(MessagePrompts.ARCHIVED_CONFIRMATION, "Your message has been archived.");
@@ -82,15 +109,36 @@ public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
         m.put(MessagePrompts.NO_RECIPIENTS_ERROR, "Sorry, there were no valid recipients.");
         m.put(MessagePrompts.INVALID_MESSAGE_SELECTION_ERROR, "Sorry, that is not a valid message number. " +
                 "Please try again.");
+        m.put(MessagePrompts.EMPTY_SEARCH_QUERY_ERROR, "Sorry, please enter at least one word to search for.");
+        m.put(MessagePrompts.INVALID_DATE_ERROR, "Sorry, that is not a valid date. Please use the format YYYY-MM-DD.");
+        m.put(MessagePrompts.NO_SEARCH_RESULTS_ERROR, "Sorry, none of your messages match your search.");
+        m.put(MessagePrompts.CONFERENCE_NOT_OVER_ERROR, "Sorry, conversations can only be removed once the " +
+                "conference is over.");
+        m.put(MessagePrompts.INVALID_RETENTION_DAYS_ERROR, "Sorry, please enter a whole number of days that is 0 " +
+                "or more.");
     }
 
     /**
-     * Displays the inbox menu options for actions that can be performed on messages in a user's inbox.
+     * Displays the inbox menu options for actions that can be performed on a page of a user's inbox or archives.
+     *
+     * @param inboxOptions list of actions that could be performed on the page
      */
-    public void displayInboxMenu() {
+    public void displayInboxMenu(List<InboxOption> inboxOptions) {
         display(MessagePrompts.INBOX_MENU_TITLE);
-        display(MessagePrompts.INBOX_QUIT_PROMPT);
-        display(MessagePrompts.MESSAGE_INTERACTION_PROMPT);
+        int curNum = 1;
+        for (InboxOption option : inboxOptions) {
+            System.out.printf("%d - %s%n", curNum, inboxOptionPrompts.get(option));
+            curNum++;
+        }
+    }
+
+    /**
+     * Displays the number of the page of the user's inbox or archives that is being shown.
+     *
+     * @param pageNumber the number of the page, starting from 1 for the newest messages
+     */
+    public void displayPageNumber(int pageNumber) {
+        System.out.printf("Page %d%n", pageNumber);
     }
 
     /**
@@ -146,6 +194,24 @@ public class MessagePresenter extends ConsolePresenter<MessagePrompts> {
         return toIndent.replaceAll("(?m)^", indent);
     }
 
+    /**
+     * Displays the number of messages that were removed by a purge of inactive conversations.
+     *
+     * @param removedCount the number of messages that were removed
+     */
+    public void displayPurgedCount(int removedCount) {
+        System.out.printf("%d message%s removed.%n", removedCount, removedCount == 1 ? " was" : "s were");
+    }
+
+    /**
+     * Displays the number of messages that the user has marked as unread.
+     *
+     * @param unreadCount the number of messages that the user has marked as unread
+     */
+    public void displayUnreadCount(int unreadCount) {
+        System.out.printf("You have %d unread message%s.%n", unreadCount, unreadCount == 1 ? "" : "s");
+    }
+
     /**
      * Displays that a message was sent, along with the names of the valid recipients to which the message was sent.
      *
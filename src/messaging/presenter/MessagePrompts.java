@@ -11,8 +11,6 @@ public enum MessagePrompts {
     END_OF_INBOX,
     END_OF_ARCHIVES,
     INBOX_MENU_TITLE,
-    INBOX_QUIT_PROMPT,
-    MESSAGE_INTERACTION_PROMPT,
     INVALID_COMMAND_ERROR,
     MESSAGE_INTERACTION_TITLE,
     MESSAGE_REPLY_PROMPT,
@@ -24,6 +22,7 @@ public enum MessagePrompts {
     SINGLE_RECIPIENT_INPUT_PROMPT,
     TEXT_INPUT_PROMPT,
     MESSAGE_CONFIRMATION,
+    BROADCAST_CONFIRMATION,
     REPLY_CONFIRMATION,
     DELETION_CONFIRMATION,
     ARCHIVED_CONFIRMATION,
@@ -34,6 +33,20 @@ public enum MessagePrompts {
     EMPTY_INBOX_ERROR,
     EMPTY_ARCHIVES_ERROR,
     NO_RECIPIENTS_ERROR,
-    INVALID_MESSAGE_SELECTION_ERROR
+    INVALID_MESSAGE_SELECTION_ERROR,
+    SEARCH_QUERY_PROMPT,
+    SEARCH_AUTHOR_PROMPT,
+    SEARCH_FROM_DATE_PROMPT,
+    SEARCH_TO_DATE_PROMPT,
+    SEARCH_RESULTS_TITLE,
+    END_OF_SEARCH_RESULTS,
+    EMPTY_SEARCH_QUERY_ERROR,
+    INVALID_DATE_ERROR,
+    NO_SEARCH_RESULTS_ERROR,
+    RETENTION_DAYS_PROMPT,
+    PURGE_CONFIRMATION_PROMPT,
+    PURGE_CANCELLED,
+    CONFERENCE_NOT_OVER_ERROR,
+    INVALID_RETENTION_DAYS_ERROR
 
 }
@@ -3,23 +3,229 @@ package requests;
 
 import messaging.AbstractMessage;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * This class represents a request that a user can send about the conference
  */
 public class Request extends AbstractMessage {
-    private String replyAuthor;
-    private String reply;
-    private boolean status;
+    private static final long serialVersionUID = -6070474860875968533L;
+
+    private volatile String replyAuthor;
+    private volatile String reply;
+    private volatile boolean status;
+    /**
+     * The organizer currently working on this request, or <code>null</code> if no organizer has claimed it.
+     */
+    private final AtomicReference<RequestClaim> claim;
+    private final String eventTitle;
+    private final Set<String> needs;
+    private RequestCategory category;
+    private RequestPriority priority;
 
     public Request(String text, String author) {
+        this(text, author, null);
+    }
+
+    /**
+     * Creates a new request about an event. The request is a <code>GENERAL</code> request of <code>NORMAL</code>
+     * priority with no needs until it is classified.
+     *
+     * @param text       the text of the request
+     * @param author     the author of the request
+     * @param eventTitle the title of the event that the request is about, or <code>null</code> if it is not about an
+     *                   event
+     */
+    public Request(String text, String author, String eventTitle) {
         super(text, author);
         this.reply = "";
         this.status = false;
+        this.claim = new AtomicReference<>();
+        this.eventTitle = eventTitle;
+        this.needs = new LinkedHashSet<>();
+        this.category = RequestCategory.GENERAL;
+        this.priority = RequestPriority.NORMAL;
+    }
+
+    /**
+     * Creates a request about an event with an ID and time that were assigned when the request was first made. The
+     * request is a <code>GENERAL</code> request of <code>NORMAL</code> priority with no needs until it is classified.
+     *
+     * @param id         the ID of the request
+     * @param timeSent   the time at which the request was made
+     * @param text       the text of the request
+     * @param author     the author of the request
+     * @param eventTitle the title of the event that the request is about, or <code>null</code> if it is not about an
+     *                   event
+     */
+    public Request(long id, LocalDateTime timeSent, String text, String author, String eventTitle) {
+        super(id, timeSent, text, author);
+        this.reply = "";
+        this.status = false;
+        this.claim = new AtomicReference<>();
+        this.eventTitle = eventTitle;
+        this.needs = new LinkedHashSet<>();
+        this.category = RequestCategory.GENERAL;
+        this.priority = RequestPriority.NORMAL;
     }
 
+    //<editor-fold desc="Classification">
+
+    /**
+     * Gets the title of the event that this request is about
+     *
+     * @return the title of the event, or null if the request is not about an event
+     */
+    public String getEventTitle() {
+        return eventTitle;
+    }
+
+    /**
+     * Gets the category of this request
+     *
+     * @return the category of this request
+     */
+    public RequestCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Sets the category of this request
+     *
+     * @param category the category of this request
+     */
+    public void setCategory(RequestCategory category) {
+        this.category = category;
+    }
+
+    /**
+     * Gets the priority of this request
+     *
+     * @return the priority of this request
+     */
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of this request
+     *
+     * @param priority the priority of this request
+     */
+    public void setPriority(RequestPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the needs that this request asks for, such as a vegetarian meal or wheelchair access
+     *
+     * @return the needs that this request asks for
+     */
+    public Set<String> getNeeds() {
+        return Collections.unmodifiableSet(needs);
+    }
+
+    /**
+     * Adds a need that this request asks for
+     *
+     * @param need the need
+     */
+    public void addNeed(String need) {
+        needs.add(need);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Claiming">
+
+    /**
+     * Claims this request for <code>organizer</code> for the next <code>timeoutMillis</code> milliseconds, unless it
+     * has been addressed or another organizer holds an unexpired claim on it. An organizer that already holds the
+     * claim renews it.
+     * <p></p>
+     * This method may be called by several threads at once; at most one organizer holds the claim at any time. Claims
+     * are not shared between separate runs of the program, each of which holds its own copy of the request.
+     *
+     * @param organizer     the username of the organizer claiming this request
+     * @param timeoutMillis the number of milliseconds after which other organizers may take over the claim
+     * @return <code>true</code> if and only if <code>organizer</code> now holds the claim
+     */
+    public boolean tryClaim(String organizer, long timeoutMillis) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            RequestClaim current = claim.get();
+            if (status) {
+                return false;
+            }
+            boolean heldByOther = current != null && current.isActive(now)
+                    && (current.isCompleted() || !current.isHeldBy(organizer, now));
+            if (heldByOther) {
+                return false;
+            }
+            if (claim.compareAndSet(current, new RequestClaim(organizer, now + timeoutMillis, false))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Replies to this request on behalf of <code>organizer</code> and marks it as addressed, if
+     * <code>organizer</code> holds an unexpired claim on it and it has not been addressed. Once this succeeds, the
+     * request can no longer be claimed.
+     *
+     * @param organizer the username of the organizer replying to this request
+     * @param text      the reply
+     * @return <code>true</code> if and only if the reply was recorded
+     */
+    public boolean tryComplete(String organizer, String text) {
+        while (true) {
+            RequestClaim current = claim.get();
+            if (status || current == null || current.isCompleted()
+                    || !current.isHeldBy(organizer, System.currentTimeMillis())) {
+                return false;
+            }
+            if (claim.compareAndSet(current, new RequestClaim(organizer, 0, true))) {
+                reply = text;
+                replyAuthor = organizer;
+                status = true;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives up the claim that <code>organizer</code> holds on this request, so that other organizers can claim it
+     * right away.
+     *
+     * @param organizer the username of the organizer giving up the claim
+     * @return <code>true</code> if and only if <code>organizer</code> held an uncompleted claim that was given up
+     */
+    public boolean releaseClaim(String organizer) {
+        RequestClaim current = claim.get();
+        return current != null && !current.isCompleted() && current.getOwner().equals(organizer)
+                && claim.compareAndSet(current, null);
+    }
+
+    /**
+     * Gets the username of the organizer currently working on this request.
+     *
+     * @return the username of the organizer holding an unexpired, uncompleted claim on this request, or
+     * <code>null</code> if there is none
+     */
+    public String getClaimOwner() {
+        RequestClaim current = claim.get();
+        if (current == null || current.isCompleted() || !current.isActive(System.currentTimeMillis())) {
+            return null;
+        }
+        return current.getOwner();
+    }
+    //</editor-fold>
+
     /**
      * Gets the status for the request
      *
@@ -47,6 +253,15 @@ public class Request extends AbstractMessage {
         replyAuthor = author;
     }
 
+    /**
+     * Gets the author of the reply
+     *
+     * @return the name of the author of the reply
+     */
+    public String getReplyAuthor() {
+        return replyAuthor;
+    }
+
     /**
      * Gets the reply
      *
@@ -0,0 +1,8 @@
+package requests;
+
+/**
+ * The kinds of requests that users can send to the organizers of the conference.
+ */
+public enum RequestCategory {
+    ACCESSIBILITY, DIETARY, TECHNICAL, GENERAL
+}
@@ -0,0 +1,69 @@
+package requests;
+
+import java.io.Serializable;
+
+/**
+ * This class records which organizer is working on a request and until when. Claims are immutable, so that a request
+ * can replace its claim with a single compare-and-set.
+ */
+class RequestClaim implements Serializable {
+    private static final long serialVersionUID = 5303163367906685365L;
+
+    private final String owner;
+    private final long expiresAt;
+    private final boolean completed;
+
+    /**
+     * Creates a new <code>RequestClaim</code>.
+     *
+     * @param owner     the username of the organizer holding the claim
+     * @param expiresAt the time, in milliseconds since the epoch, after which other organizers may take over the claim
+     * @param completed whether or not the owner has replied to the request, which makes the claim permanent
+     */
+    RequestClaim(String owner, long expiresAt, boolean completed) {
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+        this.completed = completed;
+    }
+
+    /**
+     * Gets the username of the organizer holding this claim.
+     *
+     * @return the username of the organizer holding this claim
+     */
+    String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Returns whether or not the owner has replied to the request.
+     *
+     * @return <code>true</code> if and only if the owner has replied to the request
+     */
+    boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns whether or not this claim is held by <code>organizer</code> and has not expired at time
+     * <code>now</code>.
+     *
+     * @param organizer the username of an organizer
+     * @param now       the current time, in milliseconds since the epoch
+     * @return <code>true</code> if and only if <code>organizer</code> holds this claim at time <code>now</code>
+     */
+    boolean isHeldBy(String organizer, long now) {
+        return owner.equals(organizer) && (completed || now < expiresAt);
+    }
+
+    /**
+     * Returns whether or not this claim prevents organizers other than its owner from claiming the request at time
+     * <code>now</code>.
+     *
+     * @param now the current time, in milliseconds since the epoch
+     * @return <code>true</code> if and only if the claim is completed or has not expired
+     */
+    boolean isActive(long now) {
+        return completed || now < expiresAt;
+    }
+}
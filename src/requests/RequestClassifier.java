@@ -0,0 +1,148 @@
+package requests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This class assigns a category, a priority and a set of needs to each new request, using rules that match keywords
+ * in the request's text.
+ * <p></p>
+ * Each rule matches a word or phrase, ignoring case and punctuation, so that for example "gluten-free" matches the
+ * phrase "gluten free". Plural words are reduced to their singular form before matching, so that for example the
+ * rule for "allergy" matches "allergies" and the rule for "wheelchair" matches "wheelchairs".
+ * <p></p>
+ * A request takes the category of the most urgent rule that matches it, the most urgent priority of all rules that
+ * match it, and every need named by a matching rule. A request that matches no rule is a <code>GENERAL</code> request
+ * of <code>NORMAL</code> priority.
+ * <p></p>
+ * The rules are not saved with <code>RequestManager</code>; a new classifier is created whenever a manager is loaded,
+ * so changes to the default rules apply to saved managers too.
+ */
+class RequestClassifier {
+    private final List<Rule> rules;
+
+    /**
+     * Creates a new <code>RequestClassifier</code> with the default rules for accessibility, dietary and technical
+     * requests.
+     */
+    RequestClassifier() {
+        this.rules = new ArrayList<>();
+        addRule("wheelchair", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "wheelchair access");
+        addRule("mobility", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "wheelchair access");
+        addRule("ramp", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "wheelchair access");
+        addRule("sign language", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "sign language");
+        addRule("deaf", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "sign language");
+        addRule("hearing", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "hearing loop");
+        addRule("blind", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "visual assistance");
+        addRule("service animal", RequestCategory.ACCESSIBILITY, RequestPriority.URGENT, "service animal");
+        addRule("accessible", RequestCategory.ACCESSIBILITY, RequestPriority.HIGH, null);
+        addRule("accessibility", RequestCategory.ACCESSIBILITY, RequestPriority.HIGH, null);
+        addRule("allergy", RequestCategory.DIETARY, RequestPriority.URGENT, "allergy");
+        addRule("allergic", RequestCategory.DIETARY, RequestPriority.URGENT, "allergy");
+        addRule("anaphylaxis", RequestCategory.DIETARY, RequestPriority.URGENT, "allergy");
+        addRule("epipen", RequestCategory.DIETARY, RequestPriority.URGENT, "allergy");
+        addRule("vegetarian", RequestCategory.DIETARY, RequestPriority.NORMAL, "vegetarian");
+        addRule("vegan", RequestCategory.DIETARY, RequestPriority.NORMAL, "vegan");
+        addRule("halal", RequestCategory.DIETARY, RequestPriority.NORMAL, "halal");
+        addRule("kosher", RequestCategory.DIETARY, RequestPriority.NORMAL, "kosher");
+        addRule("gluten", RequestCategory.DIETARY, RequestPriority.NORMAL, "gluten-free");
+        addRule("lactose", RequestCategory.DIETARY, RequestPriority.NORMAL, "dairy-free");
+        addRule("dairy", RequestCategory.DIETARY, RequestPriority.NORMAL, "dairy-free");
+        addRule("projector", RequestCategory.TECHNICAL, RequestPriority.NORMAL, null);
+        addRule("microphone", RequestCategory.TECHNICAL, RequestPriority.NORMAL, null);
+        addRule("wifi", RequestCategory.TECHNICAL, RequestPriority.NORMAL, null);
+        addRule("hdmi", RequestCategory.TECHNICAL, RequestPriority.NORMAL, null);
+        addRule("urgent", RequestCategory.GENERAL, RequestPriority.HIGH, null);
+        addRule("asap", RequestCategory.GENERAL, RequestPriority.HIGH, null);
+        addRule("emergency", RequestCategory.GENERAL, RequestPriority.URGENT, null);
+    }
+
+    /**
+     * Adds a rule that applies to every request whose text contains <code>keyword</code>.
+     *
+     * @param keyword  the word or phrase that the rule matches
+     * @param category the category given to requests matching the rule
+     * @param priority the priority given to requests matching the rule
+     * @param need     the need recorded for requests matching the rule, or <code>null</code> if none is recorded
+     */
+    void addRule(String keyword, RequestCategory category, RequestPriority priority, String need) {
+        rules.add(new Rule(normalize(keyword), category, priority, need));
+    }
+
+    /**
+     * Sets the category, priority and needs of <code>request</code> according to the rules that match its text.
+     *
+     * @param request the request to classify
+     */
+    void classify(Request request) {
+        String text = normalize(request.getText());
+        RequestCategory category = RequestCategory.GENERAL;
+        RequestPriority priority = RequestPriority.NORMAL;
+        RequestPriority categoryPriority = null;
+        for (Rule rule : rules) {
+            if (text.contains(rule.keyword)) {
+                if (rule.priority.compareTo(priority) < 0) {
+                    priority = rule.priority;
+                }
+                boolean isSpecific = rule.category != RequestCategory.GENERAL;
+                if (isSpecific && (categoryPriority == null || rule.priority.compareTo(categoryPriority) < 0)) {
+                    category = rule.category;
+                    categoryPriority = rule.priority;
+                }
+                if (rule.need != null) {
+                    request.addNeed(rule.need);
+                }
+            }
+        }
+        request.setCategory(category);
+        request.setPriority(priority);
+    }
+
+    /**
+     * Returns <code>text</code> in lower case, with every run of characters other than letters and digits replaced
+     * by a single space, every word reduced to its singular form, and a space at each end, so that a keyword
+     * surrounded by spaces only matches whole words.
+     */
+    private String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(" ");
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                normalized.append(singular(word)).append(' ');
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns <code>word</code> with a regular English plural ending removed: "ies" becomes "y", and a final "s" is
+     * dropped unless the word ends in "ss", "us" or "is". Short words are left as they are. This is applied to both
+     * keywords and request text, so a word that is wrongly shortened still matches itself.
+     */
+    private static String singular(String word) {
+        if (word.length() > 4 && word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        } else if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")
+                && !word.endsWith("is")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    /**
+     * A keyword together with the category, priority and need it gives to the requests it matches.
+     */
+    private static class Rule {
+        private final String keyword;
+        private final RequestCategory category;
+        private final RequestPriority priority;
+        private final String need;
+
+        Rule(String keyword, RequestCategory category, RequestPriority priority, String need) {
+            this.keyword = keyword;
+            this.category = category;
+            this.priority = priority;
+            this.need = need;
+        }
+    }
+}
@@ -2,12 +2,13 @@ package requests;
 
 
 import system.console.ConsoleInputController;
+import event.manager.EventManagerFacade;
 import user.UserType;
 import user.manager.UserManagerFacade;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
-import java.util.UUID;
 import java.util.function.Predicate;
 
 /**
@@ -18,19 +19,23 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
     private final RequestManager requestManager;
     private final RequestPresenter requestPresenter;
     private final UserManagerFacade userManager;
+    private final EventManagerFacade eventManager;
 
     /**
      * Constructs a controller to process the current user's requests involving events in the conference.
      *
      * @param requestManager the manager responsible for request data during program execution
      * @param userManager    the manager responsible for user information during program execution
+     * @param eventManager   the manager responsible for event data during program execution
      * @param in             the instance of Scanner currently taking user input from the Console
      */
-    public RequestController(RequestManager requestManager, UserManagerFacade userManager, Scanner in) {
+    public RequestController(RequestManager requestManager, UserManagerFacade userManager,
+                             EventManagerFacade eventManager, Scanner in) {
         super(in, new RequestPresenter());
         this.requestManager = requestManager;
         this.requestPresenter = new RequestPresenter();
         this.userManager = userManager;
+        this.eventManager = eventManager;
     }
 
     private boolean isOrganizer(String username) {
@@ -70,7 +75,7 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
     private void organizerRequestMenu(String username) {
         boolean quit = false;
         int input;
-        Predicate<Integer> isValid = n -> (n >= 1 && n <= 6);
+        Predicate<Integer> isValid = n -> (n >= 1 && n <= 10);
         while (!quit) {
             input = promptInt(RequestPrompts.REQUEST_MENU_ORG, RequestPrompts.INVALID_COMMAND_ERROR, isValid);
             switch (input) {
@@ -91,6 +96,18 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
                     break;
                 case 6:
                     replyToRequest(username, requestManager.getRequestsIds());
+                    break;
+                case 7:
+                    organizerDisplayPendingRequests();
+                    break;
+                case 8:
+                    replyToNextRequest(username);
+                    break;
+                case 9:
+                    replyToNextRequestInCategory(username);
+                    break;
+                case 10:
+                    displayRequestStatistics();
             }
         }
     }
@@ -99,19 +116,15 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
      * Displays all requests made by all the users.
      */
     public void organizerDisplayRequests() {
-        if (requestManager.getRequestsIds().isEmpty()) {
-            requestPresenter.display(RequestPrompts.NO_REQUESTS_ERROR);
-        } else {
-            requestPresenter.display(RequestPrompts.ALL_REQUESTS);
-            int curNum = 1;
-            for (UUID requestId : requestManager.getRequestsIds()) {
-                String requestString = requestManager.getRequestWithId(requestId).toString();
-                boolean status = requestManager.getRequestWithId(requestId).getStatus();
-                requestPresenter.displayRequest(requestString, curNum, status);
-                curNum++;
-            }
-            requestPresenter.display(RequestPrompts.END_OF_REQUESTS);
-        }
+        displayRequests(requestManager.getRequestsIds(), RequestPrompts.ALL_REQUESTS, RequestPrompts.NO_REQUESTS_ERROR);
+    }
+
+    /**
+     * Displays all requests that have not been addressed yet, in the order in which they were made.
+     */
+    public void organizerDisplayPendingRequests() {
+        displayRequests(requestManager.getPendingRequestIds(), RequestPrompts.PENDING_REQUESTS,
+                RequestPrompts.NO_PENDING_REQUESTS_ERROR);
     }
 
     /**
@@ -120,16 +133,19 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
      * @param username the name of the currently logged in user
      */
     public void displayUserRequests(String username) {
-        List<UUID> userRequests = requestManager.userRequests(username);
-        if (userRequests.isEmpty()) {
-            requestPresenter.display(RequestPrompts.NO_USER_REQUESTS_ERROR);
+        displayRequests(requestManager.userRequests(username), RequestPrompts.USER_REQUESTS,
+                RequestPrompts.NO_USER_REQUESTS_ERROR);
+    }
+
+    private void displayRequests(List<Long> requestIds, RequestPrompts title, RequestPrompts emptyError) {
+        if (requestIds.isEmpty()) {
+            requestPresenter.display(emptyError);
         } else {
-            requestPresenter.display(RequestPrompts.USER_REQUESTS);
+            requestPresenter.display(title);
             int curNum = 1;
-            for (UUID requestId : userRequests) {
-                String requestString = requestManager.getRequestWithId(requestId).toString();
-                boolean status = requestManager.getRequestWithId(requestId).getStatus();
-                requestPresenter.displayRequest(requestString, curNum, status);
+            for (Long requestId : requestIds) {
+                Request request = requestManager.getRequestWithId(requestId);
+                requestPresenter.displayRequest(request.toString(), curNum, request.getStatus());
                 curNum++;
             }
             requestPresenter.display(RequestPrompts.END_OF_REQUESTS);
@@ -137,33 +153,117 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
     }
 
     /**
-     * Allows an organizer user search through a list of requests and choose one to reply to.
+     * Allows an organizer user search through a list of requests and choose one to reply to. The request is claimed
+     * for the organizer while they write their reply, so that no other organizer replies to it at the same time.
      *
      * @param author   the name of the user writing the reply
      * @param requests a list of requests to select from
      */
-    public void replyToRequest(String author, List<UUID> requests) {
+    public void replyToRequest(String author, List<Long> requests) {
         Predicate<Integer> isValid = n -> (n >= 1 && n <= requests.size());
         int requestSelection = promptInt(RequestPrompts.REQUEST_SELECTION_PROMPT,
                 RequestPrompts.INVALID_REQUEST_SELECTION_ERROR, isValid);
-        UUID curMessage = requests.get(requestSelection - 1);
+        Long curMessage = requests.get(requestSelection - 1);
         if (requestManager.hasReply(curMessage)) {
             requestPresenter.display(RequestPrompts.ALREADY_REPLIED);
+        } else if (!requestManager.claimRequest(curMessage, author)) {
+            requestPresenter.display(RequestPrompts.ALREADY_CLAIMED);
+        } else {
+            writeReply(author, curMessage);
+        }
+    }
+
+    /**
+     * Claims the most urgent pending request that no other organizer is working on, displays it, and lets the
+     * organizer reply to it.
+     *
+     * @param author the name of the user writing the reply
+     */
+    public void replyToNextRequest(String author) {
+        replyToClaimedRequest(author, requestManager.claimNextRequest(author),
+                RequestPrompts.NO_PENDING_REQUESTS_ERROR);
+    }
+
+    /**
+     * Lets an organizer choose a category, then claims the most urgent pending request of that category that no
+     * other organizer is working on, displays it, and lets the organizer reply to it.
+     *
+     * @param author the name of the user writing the reply
+     */
+    public void replyToNextRequestInCategory(String author) {
+        RequestCategory[] categories = RequestCategory.values();
+        Predicate<Integer> isValid = n -> (n >= 1 && n <= categories.length);
+        requestPresenter.display(RequestPrompts.CATEGORY_SELECTION_PROMPT);
+        for (int i = 0; i < categories.length; i++) {
+            requestPresenter.displayCategoryOption(i + 1, categories[i]);
+        }
+        int selection = readInt(RequestPrompts.INVALID_CATEGORY_ERROR, isValid);
+        replyToClaimedRequest(author, requestManager.claimNextRequest(author, categories[selection - 1]),
+                RequestPrompts.NO_CATEGORY_REQUESTS_ERROR);
+    }
+
+    private void replyToClaimedRequest(String author, Long requestId, RequestPrompts emptyError) {
+        if (requestId == null) {
+            requestPresenter.display(emptyError);
+        } else {
+            Request request = requestManager.getRequestWithId(requestId);
+            requestPresenter.displayRequest(request.toString(), 1, request.getStatus());
+            writeReply(author, requestId);
+        }
+    }
+
+    /**
+     * Displays the number of requests in each category, and the number of requests asking for each need, both
+     * overall and for each event that has requests about it.
+     */
+    public void displayRequestStatistics() {
+        requestPresenter.display(RequestPrompts.REQUEST_STATISTICS);
+        requestPresenter.display(RequestPrompts.CATEGORY_COUNTS);
+        for (RequestCategory category : RequestCategory.values()) {
+            requestPresenter.displayCount(category.toString(), requestManager.getCategoryCount(category));
+        }
+        Map<String, Integer> needCounts = requestManager.getNeedCounts();
+        if (needCounts.isEmpty()) {
+            requestPresenter.display(RequestPrompts.NO_NEEDS);
+        } else {
+            requestPresenter.display(RequestPrompts.NEED_COUNTS);
+            displayCounts(needCounts);
+            for (String eventTitle : eventManager.getEventList()) {
+                Map<String, Integer> eventNeedCounts = requestManager.getNeedCountsForEvent(eventTitle);
+                if (!eventNeedCounts.isEmpty()) {
+                    requestPresenter.displayEventNeedsHeading(eventTitle);
+                    displayCounts(eventNeedCounts);
+                }
+            }
+        }
+        requestPresenter.display(RequestPrompts.END_OF_REQUESTS);
+    }
+
+    private void displayCounts(Map<String, Integer> counts) {
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            requestPresenter.displayCount(count.getKey(), count.getValue());
+        }
+    }
+
+    private void writeReply(String author, Long requestId) {
+        String reply = promptString(RequestPrompts.REQUEST_REPLY_PROMPT);
+        if (requestManager.completeRequest(requestId, author, reply)) {
+            requestPresenter.display(RequestPrompts.REPLY_CONFIRMATION);
         } else {
-            String reply = promptString(RequestPrompts.REQUEST_REPLY_PROMPT);
-            requestManager.addReply(reply, curMessage, author);
-            requestManager.updateStatus(curMessage);
+            requestPresenter.display(RequestPrompts.CLAIM_EXPIRED_ERROR);
         }
     }
 
     /**
-     * Allows a user to make a request to the organizers of the conference.
+     * Allows a user to make a request to the organizers of the conference, optionally about one of its events.
      *
      * @param username the name of the user making the request
      */
     public void makeRequest(String username) {
         String request = promptString(RequestPrompts.TEXT_INPUT_PROMPT);
-        requestManager.addRequest(request, username);
+        String eventTitle = promptString(RequestPrompts.EVENT_TITLE_PROMPT, RequestPrompts.INVALID_EVENT_ERROR,
+                title -> title.isEmpty() || eventManager.eventExists(title));
+        requestManager.addRequest(request, username, eventTitle.isEmpty() ? null : eventTitle);
         requestPresenter.display(RequestPrompts.REQUEST_CONFIRMATION);
     }
 
@@ -172,14 +272,14 @@ public class RequestController extends ConsoleInputController<RequestPrompts> {
      *
      * @param requests a list of requests to select from
      */
-    public void deleteRequest(List<UUID> requests) {
+    public void deleteRequest(List<Long> requests) {
         if (requestManager.getRequestsIds().isEmpty()) {
             requestPresenter.display(RequestPrompts.NO_REQUESTS_ERROR);
         } else {
             Predicate<Integer> isValid = n -> (n >= 1 && n <= requests.size());
             int selection = promptInt(RequestPrompts.REQUEST_SELECTION_PROMPT,
                     RequestPrompts.INVALID_REQUEST_SELECTION_ERROR, isValid);
-            UUID curRequest = requests.get(selection - 1);
+            Long curRequest = requests.get(selection - 1);
             requestManager.deleteRequest(curRequest);
             requestPresenter.display(RequestPrompts.DELETION_CONFIRMATION);
         }
@@ -2,6 +2,7 @@ package requests;
 
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 /**
  * This is a Factory class that calls the <code>Request</code> constructor. It is used to:
@@ -14,6 +15,8 @@ import java.io.Serializable;
  * @see Request
  */
 class RequestFactory implements Serializable {
+    private static final long serialVersionUID = 6670468927115485062L;
+
     /**
      * Returns a new <code>Request</code> object with the specified text and author
      *
@@ -25,4 +28,30 @@ class RequestFactory implements Serializable {
     public Request getRequest(String text, String author) {
         return new Request(text, author);
     }
+
+    /**
+     * Returns a new <code>Request</code> object with the specified text and author about the given event
+     *
+     * @param text       the text of the new request to be created
+     * @param author     the author of the new request to be created
+     * @param eventTitle the title of the event the request is about, or <code>null</code> if it is not about an event
+     * @return a new <code>Request</code> object with the specified text, author and event
+     */
+    public Request getRequest(String text, String author, String eventTitle) {
+        return new Request(text, author, eventTitle);
+    }
+
+    /**
+     * Returns a new <code>Request</code> object with the specified ID, time, text and author about the given event
+     *
+     * @param id         the ID that the request was made with
+     * @param timeSent   the time at which the request was made
+     * @param text       the text of the new request to be created
+     * @param author     the author of the new request to be created
+     * @param eventTitle the title of the event the request is about, or <code>null</code> if it is not about an event
+     * @return a new <code>Request</code> object with the specified ID, time, text, author and event
+     */
+    public Request getRequest(long id, LocalDateTime timeSent, String text, String author, String eventTitle) {
+        return new Request(id, timeSent, text, author, eventTitle);
+    }
 }
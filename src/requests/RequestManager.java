@@ -1,20 +1,102 @@
 package requests;
 
+import messaging.MessageIdGenerator;
+
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 public class RequestManager implements Serializable {
-    private final List<Request> requests;
+    private static final long serialVersionUID = -594882246507106125L;
+
+    /**
+     * Representation invariant: the <code>Request</code> objects stored in <code>requestsById</code> are keyed by their
+     * IDs, which increase in the order in which the requests were made. Every request ID is in exactly one of
+     * <code>pendingRequests</code> and <code>addressedRequests</code>.
+     * <p></p>
+     * All collections are concurrent, so that several organizers can claim and reply to requests at the same time.
+     * This only holds for organizers in the same running program. Each program loads its own copy of the saved
+     * requests and the last one to exit overwrites the others' changes, so the program must not be run more than once
+     * at a time on the same data.
+     */
+    private final ConcurrentNavigableMap<Long, Request> requestsById;
+    /**
+     * Maps each username to the IDs of the requests that the user made, in the order in which they were made.
+     */
+    private final Map<String, Set<Long>> requestsByAuthor;
+    private final Set<Long> pendingRequests;
+    private final Set<Long> addressedRequests;
+    /**
+     * Maps each priority to the IDs of the pending requests of that priority, in the order in which they were made.
+     * Every pending request ID is in exactly one of these sets, so the most urgent pending request is found by
+     * checking at most one set per priority.
+     */
+    private final Map<RequestPriority, Set<Long>> pendingByPriority;
+    /**
+     * Maps each category and priority to the IDs of the pending requests of that category and priority, in the order
+     * in which they were made. Every category has a set for every priority.
+     */
+    private final Map<RequestCategory, Map<RequestPriority, Set<Long>>> pendingByCategory;
+    /**
+     * Maps each category to the number of requests of that category.
+     */
+    private final Map<RequestCategory, Integer> categoryCounts;
+    /**
+     * Maps each need to the number of requests that ask for it.
+     */
+    private final Map<String, Integer> needCounts;
+    /**
+     * Maps each event title to a map from each need to the number of requests about the event that ask for it.
+     */
+    private final Map<String, Map<String, Integer>> eventNeedCounts;
+    /**
+     * Assigns categories, priorities and needs to new requests. It is not saved, and is created again when this
+     * manager is loaded.
+     */
+    private transient RequestClassifier classifier;
     private final RequestFactory factory;
+    private final long claimTimeoutMillis;
+    /**
+     * The requests saved by versions of the program that identified requests by UUID. It is only set while such a
+     * manager is being loaded, and is null otherwise.
+     */
+    private List<Request> requests;
+
+    private static final long DEFAULT_CLAIM_TIMEOUT_MILLIS = 10 * 60 * 1000;
 
     /**
      * Constructs a manager responsible for request data that is initialized storing an empty list of requests.
      */
     public RequestManager() {
-        this.requests = new ArrayList<>();
+        this(DEFAULT_CLAIM_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a manager responsible for request data that is initialized storing an empty list of requests, in
+     * which an organizer's claim on a request lapses after <code>claimTimeoutMillis</code> milliseconds.
+     *
+     * @param claimTimeoutMillis the number of milliseconds after which a claim on a request may be taken over
+     */
+    public RequestManager(long claimTimeoutMillis) {
+        this.requestsById = new ConcurrentSkipListMap<>();
+        this.requestsByAuthor = new ConcurrentHashMap<>();
+        this.pendingRequests = new ConcurrentSkipListSet<>();
+        this.addressedRequests = new ConcurrentSkipListSet<>();
+        this.pendingByPriority = newPriorityQueues();
+        this.pendingByCategory = new EnumMap<>(RequestCategory.class);
+        for (RequestCategory category : RequestCategory.values()) {
+            pendingByCategory.put(category, newPriorityQueues());
+        }
+        this.categoryCounts = new ConcurrentHashMap<>();
+        this.needCounts = new ConcurrentHashMap<>();
+        this.eventNeedCounts = new ConcurrentHashMap<>();
+        this.classifier = new RequestClassifier();
         this.factory = new RequestFactory();
+        this.claimTimeoutMillis = claimTimeoutMillis;
     }
 
     /**
@@ -22,12 +104,35 @@ public class RequestManager implements Serializable {
      *
      * @return list of request Ids
      */
-    public List<UUID> getRequestsIds() {
-        List<UUID> requestIds = new ArrayList<>();
-        for (Request request : requests) {
-            requestIds.add(request.getId());
-        }
-        return requestIds;
+    public List<Long> getRequestsIds() {
+        return new ArrayList<>(requestsById.keySet());
+    }
+
+    /**
+     * Gets the Ids of all requests that have not been addressed yet, in the order in which they were made
+     *
+     * @return list of pending request Ids
+     */
+    public List<Long> getPendingRequestIds() {
+        return new ArrayList<>(pendingRequests);
+    }
+
+    /**
+     * Gets the Ids of all requests that have been addressed, in the order in which they were made
+     *
+     * @return list of addressed request Ids
+     */
+    public List<Long> getAddressedRequestIds() {
+        return new ArrayList<>(addressedRequests);
+    }
+
+    /**
+     * Gets the number of requests that have not been addressed yet
+     *
+     * @return the number of pending requests
+     */
+    public int getPendingCount() {
+        return pendingRequests.size();
     }
 
     /**
@@ -36,14 +141,12 @@ public class RequestManager implements Serializable {
      * @param requestId the id of the desired request
      * @return the desired request
      */
-    public Request getRequestWithId(UUID requestId) {
-        for (Request request : requests) {
-            if (request.getId().equals(requestId)) {
-                return request;
-            }
+    public Request getRequestWithId(Long requestId) {
+        Request request = requestsById.get(requestId);
+        if (request == null) {
+            throw new RequestNotFoundException(String.format("There are no requests with the ID %d.", requestId));
         }
-        throw new RequestNotFoundException(String.format("There are no requests with the ID %s.",
-                requestId.toString()));
+        return request;
     }
 
     /**
@@ -51,10 +154,58 @@ public class RequestManager implements Serializable {
      *
      * @param author the author
      * @param text   the text of the request
+     * @return the id of the new request
      */
-    public void addRequest(String text, String author) {
-        Request request = factory.getRequest(text, author);
-        requests.add(request);
+    public Long addRequest(String text, String author) {
+        return addRequest(text, author, null);
+    }
+
+    /**
+     * Adds a request about an event and the author of the request. The request is given a category, a priority and
+     * a set of needs according to the keywords in its text.
+     *
+     * @param text       the text of the request
+     * @param author     the author
+     * @param eventTitle the title of the event that the request is about, or null if it is not about an event
+     * @return the id of the new request
+     */
+    public Long addRequest(String text, String author, String eventTitle) {
+        Request request = factory.getRequest(text, author, eventTitle);
+        storeRequest(request);
+        return request.getId();
+    }
+
+    /**
+     * Adds a request that was made earlier, keeping its ID and the time it was made. The request is classified again
+     * as if it were new.
+     *
+     * @param requestId  the ID that the request was made with
+     * @param timeSent   the time at which the request was made
+     * @param text       the text of the request
+     * @param author     the author
+     * @param eventTitle the title of the event that the request is about, or null if it is not about an event
+     * @return true if the request was added, or false if there is already a request with that ID
+     */
+    public boolean importRequest(long requestId, LocalDateTime timeSent, String text, String author,
+                                 String eventTitle) {
+        if (requestsById.containsKey(requestId)) {
+            return false;
+        }
+        storeRequest(factory.getRequest(requestId, timeSent, text, author, eventTitle));
+        return true;
+    }
+
+    /**
+     * Classifies a new pending request and adds it to the indexes.
+     */
+    private void storeRequest(Request request) {
+        classifier.classify(request);
+        requestsById.put(request.getId(), request);
+        requestsByAuthor.computeIfAbsent(request.getAuthor(), k -> new ConcurrentSkipListSet<>()).add(request.getId());
+        pendingByPriority.get(request.getPriority()).add(request.getId());
+        pendingByCategory.get(request.getCategory()).get(request.getPriority()).add(request.getId());
+        pendingRequests.add(request.getId());
+        updateCounts(request, 1);
     }
 
     /**
@@ -62,8 +213,14 @@ public class RequestManager implements Serializable {
      *
      * @param requestId id of request to be deleted
      */
-    public void deleteRequest(UUID requestId) {
-        requests.removeIf(request -> request.getId().equals(requestId));
+    public void deleteRequest(Long requestId) {
+        Request request = requestsById.remove(requestId);
+        if (request != null) {
+            requestsByAuthor.getOrDefault(request.getAuthor(), Collections.emptySet()).remove(requestId);
+            removeFromPending(request);
+            addressedRequests.remove(requestId);
+            updateCounts(request, -1);
+        }
     }
 
     /**
@@ -73,7 +230,7 @@ public class RequestManager implements Serializable {
      * @param username  username of user
      * @return true if user is requester, false otherwise
      */
-    public boolean isAuthor(String username, UUID requestId) {
+    public boolean isAuthor(String username, Long requestId) {
         Request message = getRequestWithId(requestId);
         return message.getAuthor().equals(username);
     }
@@ -85,7 +242,7 @@ public class RequestManager implements Serializable {
      * @param text      text of the reply
      * @param author    author of the reply
      */
-    public void addReply(String text, UUID requestId, String author) {
+    public void addReply(String text, Long requestId, String author) {
         Request request = getRequestWithId(requestId);
         request.setReply(text);
         request.setReplyAuthor(author);
@@ -97,34 +254,231 @@ public class RequestManager implements Serializable {
      * @param requestId the id of the request
      * @return true if reply exists, false otherwise
      */
-    public boolean hasReply(UUID requestId) {
+    public boolean hasReply(Long requestId) {
         return !getRequestWithId(requestId).getReply().equals("");
     }
 
+    //<editor-fold desc="Claiming Requests">
+
     /**
-     * Updates status fo a request
+     * Claims the request with the given id for an organizer, unless it has been addressed or another organizer is
+     * working on it. A claim lapses if the organizer does not reply in time, after which the request can be claimed
+     * again.
      *
      * @param requestId id of request
+     * @param organizer username of the organizer
+     * @return true if the organizer now holds the claim, false otherwise
+     */
+    public boolean claimRequest(Long requestId, String organizer) {
+        return getRequestWithId(requestId).tryClaim(organizer, claimTimeoutMillis);
+    }
+
+    /**
+     * Claims the most urgent pending request that no other organizer is working on. Among requests of the same
+     * priority, the oldest one is claimed first.
+     *
+     * @param organizer username of the organizer
+     * @return the id of the claimed request, or null if every pending request is addressed or claimed
      */
-    public void updateStatus(UUID requestId) {
+    public Long claimNextRequest(String organizer) {
+        return claimFirst(pendingByPriority, organizer);
+    }
+
+    /**
+     * Claims the most urgent pending request of a category that no other organizer is working on. Among requests of
+     * the same priority, the oldest one is claimed first.
+     *
+     * @param organizer username of the organizer
+     * @param category  the category of the request to claim
+     * @return the id of the claimed request, or null if every pending request of the category is addressed or claimed
+     */
+    public Long claimNextRequest(String organizer, RequestCategory category) {
+        return claimFirst(pendingByCategory.get(category), organizer);
+    }
+
+    /**
+     * Claims the first request that can be claimed in the most urgent priority that has one, checking the requests of
+     * each priority in the order in which they were made.
+     */
+    private Long claimFirst(Map<RequestPriority, Set<Long>> byPriority, String organizer) {
+        for (Set<Long> queue : byPriority.values()) {
+            for (Long requestId : queue) {
+                Request request = requestsById.get(requestId);
+                if (request != null && request.tryClaim(organizer, claimTimeoutMillis)) {
+                    return requestId;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replies to a request claimed by an organizer and moves it to the addressed requests. Only the organizer
+     * holding an unexpired claim on the request can reply to it, so each request is replied to at most once.
+     *
+     * @param requestId id of request
+     * @param organizer username of the organizer
+     * @param text      text of the reply
+     * @return true if the reply was recorded, false if the organizer does not hold the claim
+     */
+    public boolean completeRequest(Long requestId, String organizer, String text) {
+        if (!getRequestWithId(requestId).tryComplete(organizer, text)) {
+            return false;
+        }
+        addressedRequests.add(requestId);
+        removeFromPending(getRequestWithId(requestId));
+        return true;
+    }
+
+    /**
+     * Gives up an organizer's claim on a request, returning it to the pending requests that can be claimed.
+     *
+     * @param requestId id of request
+     * @param organizer username of the organizer
+     */
+    public void releaseRequest(Long requestId, String organizer) {
+        getRequestWithId(requestId).releaseClaim(organizer);
+    }
+    //</editor-fold>
+
+    /**
+     * Updates status of a request, moving it from the pending requests to the addressed requests
+     *
+     * @param requestId id of request
+     */
+    public void updateStatus(Long requestId) {
         Request request = getRequestWithId(requestId);
         request.setStatus(true);
+        if (removeFromPending(request)) {
+            addressedRequests.add(requestId);
+        }
     }
 
     /**
-     * Gets the list of the user's events
+     * Gets the list of the user's requests
      *
      * @param username username of the user
      * @return list of ids of user's requests
      */
-    public List<UUID> userRequests(String username) {
-        List<UUID> requests = new ArrayList<>();
-        for (UUID requestId : getRequestsIds()) {
-            if (isAuthor(username, requestId)) {
-                requests.add(requestId);
+    public List<Long> userRequests(String username) {
+        return new ArrayList<>(requestsByAuthor.getOrDefault(username, Collections.emptySet()));
+    }
+
+    //<editor-fold desc="Categories and Needs">
+
+    /**
+     * Gets the Ids of the pending requests of a category, from the most to the least urgent
+     *
+     * @param category the category of the requests
+     * @return list of pending request Ids of the category
+     */
+    public List<Long> getPendingRequestIds(RequestCategory category) {
+        List<Long> requestIds = new ArrayList<>();
+        for (Set<Long> queue : pendingByCategory.get(category).values()) {
+            requestIds.addAll(queue);
+        }
+        return requestIds;
+    }
+
+    /**
+     * Gets the number of requests of a category
+     *
+     * @param category the category of the requests
+     * @return the number of requests of the category
+     */
+    public int getCategoryCount(RequestCategory category) {
+        return categoryCounts.getOrDefault(category, 0);
+    }
+
+    /**
+     * Gets the number of requests asking for each need, such as the number of vegetarian meals needed
+     *
+     * @return map from each need to the number of requests that ask for it
+     */
+    public Map<String, Integer> getNeedCounts() {
+        return new TreeMap<>(needCounts);
+    }
+
+    /**
+     * Gets the number of requests about an event asking for each need
+     *
+     * @param eventTitle the title of the event
+     * @return map from each need to the number of requests about the event that ask for it
+     */
+    public Map<String, Integer> getNeedCountsForEvent(String eventTitle) {
+        return new TreeMap<>(eventNeedCounts.getOrDefault(eventTitle, Collections.emptyMap()));
+    }
+
+    /**
+     * Adds <code>delta</code> to the counts of the category and needs of <code>request</code>.
+     */
+    private void updateCounts(Request request, int delta) {
+        adjustCount(categoryCounts, request.getCategory(), delta);
+        for (String need : request.getNeeds()) {
+            adjustCount(needCounts, need, delta);
+            if (request.getEventTitle() != null) {
+                Map<String, Integer> counts = eventNeedCounts.computeIfAbsent(request.getEventTitle(),
+                        k -> new ConcurrentHashMap<>());
+                adjustCount(counts, need, delta);
             }
         }
-        return requests;
     }
 
-}
\ No newline at end of file
+    /**
+     * Adds <code>delta</code> to the count of <code>key</code>, removing the key once its count reaches zero.
+     */
+    private static <K> void adjustCount(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+    //</editor-fold>
+
+    /**
+     * Removes a request from the pending requests and the priority queues.
+     *
+     * @return true if the request was pending
+     */
+    private boolean removeFromPending(Request request) {
+        pendingByPriority.get(request.getPriority()).remove(request.getId());
+        pendingByCategory.get(request.getCategory()).get(request.getPriority()).remove(request.getId());
+        return pendingRequests.remove(request.getId());
+    }
+
+    private static Map<RequestPriority, Set<Long>> newPriorityQueues() {
+        Map<RequestPriority, Set<Long>> queues = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            queues.put(priority, new ConcurrentSkipListSet<>());
+        }
+        return queues;
+    }
+
+    /**
+     * Replaces a manager that was saved by a version of the program that identified requests by UUID with an
+     * equivalent manager. Each request is given a numeric ID from its UUID and the time it was made, raised where
+     * needed so that IDs still increase in the order the requests were made, and is classified like a new request.
+     * A manager saved in the current format is kept, and only its classifier, which is not saved, is created again.
+     *
+     * @return this manager, or an equivalent manager with numeric request IDs if it was saved with UUIDs
+     */
+    private Object readResolve() {
+        if (requestsById != null) {
+            classifier = new RequestClassifier();
+            return this;
+        }
+        RequestManager migrated = new RequestManager();
+        long previousId = 0;
+        for (Request request : requests) {
+            long requestId = Math.max(MessageIdGenerator.fromLegacyId(request.getLegacyId(), request.getTimeSent()),
+                    previousId + 1);
+            migrated.storeRequest(migrated.factory.getRequest(requestId, request.getTimeSent(), request.getText(),
+                    request.getAuthor(), null));
+            if (request.getReplyAuthor() != null) {
+                migrated.addReply(request.getReply(), requestId, request.getReplyAuthor());
+            }
+            if (request.getStatus()) {
+                migrated.updateStatus(requestId);
+            }
+            previousId = requestId;
+        }
+        return migrated;
+    }
+}
@@ -3,6 +3,7 @@ package requests;
 import system.console.ConsolePresenter;
 
 import java.util.EnumMap;
+import java.util.Locale;
 
 public class RequestPresenter extends ConsolePresenter<RequestPrompts> {
 
@@ -15,13 +16,17 @@ public class RequestPresenter extends ConsolePresenter<RequestPrompts> {
                 "==========================================================");
         m.put(RequestPrompts.ALL_REQUESTS, "Here are all requests.\n" +
                 "==========================================================");
+        m.put(RequestPrompts.PENDING_REQUESTS, "Here are all pending requests.\n" +
+                "==========================================================");
         m.put(RequestPrompts.END_OF_REQUESTS, "==========================================================\n" +
                 "End of inbox.\n");
         m.put(RequestPrompts.REQUEST_MENU_USER, "Please enter a command:\n1 - Return to main menu\n2 - View all requests you've sent" +
                 "\n3 - Make a request");
         m.put(RequestPrompts.REQUEST_MENU_ORG, "Please enter a command:\n1 - Return to main menu" +
                 "\n2 - View all requests you've sent\n3 - Make a request\n4 - Delete a request" +
-                "\n5 - View all requests from all users\n6 - Reply to the request");
+                "\n5 - View all requests from all users\n6 - Reply to the request\n7 - View pending requests" +
+                "\n8 - Reply to the next pending request\n9 - Reply to the next pending request in a category" +
+                "\n10 - View request statistics");
         m.put(RequestPrompts.INVALID_COMMAND_ERROR, "Sorry, that is not a valid command. Please try again.\n");
         m.put(RequestPrompts.REPLY_CONFIRMATION, "Your reply has been sent.");
         m.put(RequestPrompts.TEXT_INPUT_PROMPT, "Please enter the text for your message.");
@@ -31,10 +36,25 @@ public class RequestPresenter extends ConsolePresenter<RequestPrompts> {
         m.put(RequestPrompts.REQUEST_SELECTION_CANCELLED, "Cancelled request selection.");
         m.put(RequestPrompts.NO_USER_REQUESTS_ERROR, "Sorry, you do not have any requests sent.");
         m.put(RequestPrompts.NO_REQUESTS_ERROR, "Sorry, there are no requests sent.");
+        m.put(RequestPrompts.NO_PENDING_REQUESTS_ERROR, "There are no pending requests.");
         m.put(RequestPrompts.INVALID_REQUEST_SELECTION_ERROR, "Sorry, that is not a valid request number. " +
                 "Please try again.");
         m.put(RequestPrompts.ALREADY_REPLIED, "There is already a reply to this request");
+        m.put(RequestPrompts.ALREADY_CLAIMED, "Another organizer is already replying to this request");
+        m.put(RequestPrompts.CLAIM_EXPIRED_ERROR, "Sorry, your reply was not sent because another organizer took " +
+                "over this request after you took too long to reply.");
         m.put(RequestPrompts.REQUEST_REPLY_PROMPT, "Please enter the text for your reply");
+        m.put(RequestPrompts.EVENT_TITLE_PROMPT, "Please enter the title of the event this request is about, " +
+                "or leave it blank if it is not about an event.");
+        m.put(RequestPrompts.INVALID_EVENT_ERROR, "Sorry, there is no event with that title. Please try again.");
+        m.put(RequestPrompts.CATEGORY_SELECTION_PROMPT, "Please enter the number of a category:");
+        m.put(RequestPrompts.INVALID_CATEGORY_ERROR, "Sorry, that is not a valid category number. Please try again.");
+        m.put(RequestPrompts.NO_CATEGORY_REQUESTS_ERROR, "There are no pending requests in this category.");
+        m.put(RequestPrompts.REQUEST_STATISTICS, "Here are the request statistics.\n" +
+                "==========================================================");
+        m.put(RequestPrompts.CATEGORY_COUNTS, "Requests by category:");
+        m.put(RequestPrompts.NEED_COUNTS, "Needs across all requests:");
+        m.put(RequestPrompts.NO_NEEDS, "No needs have been requested.");
         return m;
     }
 
@@ -57,4 +77,34 @@ public class RequestPresenter extends ConsolePresenter<RequestPrompts> {
         }
     }
 
+    /**
+     * Displays one numbered option of a menu of request categories.
+     *
+     * @param number   the number that selects the category
+     * @param category the category
+     */
+    public void displayCategoryOption(int number, RequestCategory category) {
+        String name = category.name();
+        System.out.printf("%d - %s%s\n", number, name.charAt(0), name.substring(1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Displays the number of requests with the given label, such as a category or a need.
+     *
+     * @param label the category or need that was counted
+     * @param count the number of requests with the label
+     */
+    public void displayCount(String label, int count) {
+        System.out.printf("  %s: %d\n", label, count);
+    }
+
+    /**
+     * Displays the heading for the needs of the requests about an event.
+     *
+     * @param eventTitle the title of the event
+     */
+    public void displayEventNeedsHeading(String eventTitle) {
+        System.out.printf("Needs for %s:\n", eventTitle);
+    }
+
 }
@@ -0,0 +1,8 @@
+package requests;
+
+/**
+ * How urgently a request needs to be addressed, from most to least urgent.
+ */
+public enum RequestPriority {
+    URGENT, HIGH, NORMAL
+}
@@ -9,13 +9,17 @@ public enum RequestPrompts {
     REQUEST_REPLY_PROMPT,
     USER_REQUESTS,
     ALL_REQUESTS,
+    PENDING_REQUESTS,
     END_OF_REQUESTS,
     REQUEST_CONFIRMATION,
     REQUEST_SELECTION_CANCELLED,
     NO_USER_REQUESTS_ERROR,
     NO_REQUESTS_ERROR,
+    NO_PENDING_REQUESTS_ERROR,
     INVALID_REQUEST_SELECTION_ERROR,
     ALREADY_REPLIED,
+    ALREADY_CLAIMED,
+    CLAIM_EXPIRED_ERROR,
     INVALID_COMMAND_ERROR,
     REPLY_CONFIRMATION,
     TEXT_INPUT_PROMPT,
@@ -23,4 +27,13 @@ public enum RequestPrompts {
     REQUEST_SELECTION_PROMPT,
     REQUEST_MENU_USER,
     REQUEST_MENU_ORG,
+    EVENT_TITLE_PROMPT,
+    INVALID_EVENT_ERROR,
+    CATEGORY_SELECTION_PROMPT,
+    INVALID_CATEGORY_ERROR,
+    NO_CATEGORY_REQUESTS_ERROR,
+    REQUEST_STATISTICS,
+    CATEGORY_COUNTS,
+    NEED_COUNTS,
+    NO_NEEDS,
 }
@@ -6,6 +6,7 @@ import java.io.Serializable;
  * This class represents a Room in the conference.
  */
 class Room implements Serializable {
+    private static final long serialVersionUID = 1210564514051897110L;
 
     private final int roomID;
     private final int capacity;
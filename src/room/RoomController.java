@@ -1,8 +1,13 @@
 package room;
 
 import event.manager.EventManagerFacade;
+import javafx.util.Pair;
 import system.console.ConsoleInputController;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
@@ -16,6 +21,12 @@ public class RoomController extends ConsoleInputController<RoomPrompts> {
     private final RoomManager roomManager;
     private final RoomPresenter roomPresenter;
 
+    /**
+     * The times between which events may start, which bound the search for a room's longest free period.
+     */
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAY_END = LocalTime.of(18, 0);
+
     /**
      * Creates a new RoomController with the given <code>RoomManager</code>.
      *
@@ -95,6 +106,37 @@ public class RoomController extends ConsoleInputController<RoomPrompts> {
         }
     }
 
+    /**
+     * Processes an organizer's request to find the rooms that are free for a period of time.
+     * This method results in the output of the room numbers and capacities of all rooms without an event scheduled
+     * during the period.
+     */
+    public void findFreeRooms() {
+        LocalDate date = promptDate(RoomPrompts.DATE_PROMPT, RoomPrompts.INVALID_DATE_ERROR);
+        LocalTime time = promptTime(RoomPrompts.START_TIME_PROMPT, RoomPrompts.INVALID_TIME_ERROR);
+        int duration = promptInt(RoomPrompts.DURATION_PROMPT, RoomPrompts.INVALID_NUM_ERROR, n -> n > 0);
+        Map<Integer, Integer> roomInformation = roomManager.getRoomInformation();
+        List<Integer> freeRooms = eventManager.getFreeRooms(roomInformation.keySet(), LocalDateTime.of(date, time),
+                duration);
+        roomPresenter.displayFreeRooms(freeRooms, roomInformation);
+    }
+
+    /**
+     * Processes an organizer's request to find the longest period on a day during which a room has no events.
+     * Only the times between which events may start are searched.
+     */
+    public void findLongestFreePeriod() {
+        int roomID = promptInt(RoomPrompts.ROOM_PROMPT, RoomPrompts.INVALID_NUM_ERROR);
+        if (!roomManager.roomExists(roomID)) {
+            roomPresenter.display(RoomPrompts.ROOM_NOT_FOUND_ERROR);
+            return;
+        }
+        LocalDate date = promptDate(RoomPrompts.DATE_PROMPT, RoomPrompts.INVALID_DATE_ERROR);
+        Pair<LocalDateTime, Integer> period = eventManager.getLongestFreePeriod(roomID,
+                LocalDateTime.of(date, DAY_START), LocalDateTime.of(date, DAY_END));
+        roomPresenter.displayLongestFreePeriod(roomID, period.getKey(), period.getValue());
+    }
+
     /**
      * Reads and returns a roomID that the user enters.
      *
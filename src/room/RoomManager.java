@@ -1,24 +1,40 @@
 package room;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * The <code>RoomManager</code> class is responsible for storing the data of all existing rooms during program
  * execution and processes requests involving any <code>Room</code> and/or its properties.
  */
 public class RoomManager implements Serializable {
+    private static final long serialVersionUID = -8643755172760629528L;
 
-    private final List<Room> rooms;
+    /**
+     * Maps each room number to the room with that number.
+     */
+    private Map<Integer, Room> roomsById;
+    /**
+     * Maps each capacity to the numbers of the rooms with that capacity, in increasing order, so that the rooms that
+     * can hold a given number of attendees are found from smallest to largest without visiting smaller rooms. It is
+     * rebuilt from <code>roomsById</code> after loading instead of being saved with it.
+     */
+    private transient NavigableMap<Integer, NavigableSet<Integer>> roomsByCapacity;
+    /**
+     * The list of rooms saved by versions of the program that stored rooms in a list. It is only set while such a
+     * manager is being loaded, and is null otherwise.
+     */
+    private List<Room> rooms;
 
     /**
      * Constructs a <code>RoomManager</code> initialized with an empty list of rooms.
      */
     public RoomManager() {
-        this.rooms = new ArrayList<>();
+        this.roomsById = new HashMap<>();
+        this.roomsByCapacity = new TreeMap<>();
     }
 
     /**
@@ -29,7 +45,13 @@ public class RoomManager implements Serializable {
      * @param capacity the capacity of the new room
      */
     public void createNewRoom(int roomID, int capacity) {
-        rooms.add(new Room(roomID, capacity));
+        Room room = new Room(roomID, capacity);
+        roomsById.put(roomID, room);
+        indexByCapacity(room);
+    }
+
+    private void indexByCapacity(Room room) {
+        roomsByCapacity.computeIfAbsent(room.getCapacity(), k -> new TreeSet<>()).add(room.getRoomID());
     }
 
     /**
@@ -39,11 +61,16 @@ public class RoomManager implements Serializable {
      * @param roomID the room number of the new room
      */
     public boolean deleteRoom(int roomID) {
-        if (roomExists(roomID)) {
-            this.rooms.remove(getRoomWithID(roomID));
-            return true;
+        Room room = roomsById.remove(roomID);
+        if (room == null) {
+            return false;
+        }
+        NavigableSet<Integer> sameCapacity = roomsByCapacity.get(room.getCapacity());
+        sameCapacity.remove(roomID);
+        if (sameCapacity.isEmpty()) {
+            roomsByCapacity.remove(room.getCapacity());
         }
-        return false;
+        return true;
     }
 
     /**
@@ -54,12 +81,11 @@ public class RoomManager implements Serializable {
      * @throws RoomNotFoundException if a room with the given roomID does not exist.
      */
     private Room getRoomWithID(int roomID) {
-        for (Room room : rooms) {
-            if (room.getRoomID() == (roomID)) {
-                return room;
-            }
+        Room room = roomsById.get(roomID);
+        if (room == null) {
+            throw new RoomNotFoundException();
         }
-        throw new RoomNotFoundException();
+        return room;
     }
 
     /**
@@ -70,12 +96,7 @@ public class RoomManager implements Serializable {
      * @throws RoomNotFoundException if a room with the given roomID does not exist.
      */
     public int getCapacityOfRoom(int roomID) {
-        for (Room room : rooms) {
-            if (roomID == room.getRoomID()) {
-                return room.getCapacity();
-            }
-        }
-        throw new RoomNotFoundException();
+        return getRoomWithID(roomID).getCapacity();
     }
 
     /**
@@ -85,12 +106,31 @@ public class RoomManager implements Serializable {
      * @return true if there exists a room with the specified room ID
      */
     public boolean roomExists(int roomID) {
-        for (Room room : rooms) {
-            if (room.getRoomID() == (roomID)) {
-                return true;
+        return roomsById.containsKey(roomID);
+    }
+
+    /**
+     * Returns the room with the smallest capacity of at least <code>attendees</code> that satisfies
+     * <code>isFree</code>. Among rooms of the same capacity, the room with the smallest room number is returned.
+     * <p></p>
+     * Rooms that are too small are never visited, and rooms are checked from the smallest up, so the search stops at
+     * the first free room that is large enough.
+     *
+     * @param attendees the number of attendees that the room must hold
+     * @param isFree    a predicate that is <code>true</code> for the room numbers of rooms that are free at the time
+     *                  the room is needed
+     * @return the room number of the best fitting free room, or an empty <code>Optional</code> if no free room is
+     * large enough
+     */
+    public Optional<Integer> findBestFitRoom(int attendees, Predicate<Integer> isFree) {
+        for (NavigableSet<Integer> sameCapacity : roomsByCapacity.tailMap(attendees, true).values()) {
+            for (Integer roomID : sameCapacity) {
+                if (isFree.test(roomID)) {
+                    return Optional.of(roomID);
+                }
             }
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
@@ -101,10 +141,32 @@ public class RoomManager implements Serializable {
      */
     public Map<Integer, Integer> getRoomInformation() {
         Map<Integer, Integer> roomInformation = new TreeMap<>();
-        for (Room room : rooms) {
+        for (Room room : roomsById.values()) {
             roomInformation.put(room.getRoomID(), room.getCapacity());
         }
         return roomInformation;
     }
 
+    /**
+     * Restores a <code>RoomManager</code> from a stream, moving rooms that were saved in a list into
+     * <code>roomsById</code> and rebuilding <code>roomsByCapacity</code>.
+     *
+     * @param in the stream that the manager is read from
+     * @throws IOException            if the manager cannot be read
+     * @throws ClassNotFoundException if the class of a saved object cannot be found
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (roomsById == null) {
+            roomsById = new HashMap<>();
+            for (Room room : rooms) {
+                roomsById.put(room.getRoomID(), room);
+            }
+            rooms = null;
+        }
+        roomsByCapacity = new TreeMap<>();
+        for (Room room : roomsById.values()) {
+            indexByCapacity(room);
+        }
+    }
 }
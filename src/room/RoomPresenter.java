@@ -2,7 +2,9 @@ package room;
 
 import system.console.ConsolePresenter;
 
+import java.time.LocalDateTime;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -32,6 +34,18 @@ class RoomPresenter extends ConsolePresenter<RoomPrompts> {
         m.put(RoomPrompts.ROOM_DELETE_FAIL, "Sorry, the room doesn't exist.");
         m.put(RoomPrompts.ROOM_HAS_EVENTS, "Sorry, this room has events scheduled, so it cannot be deleted.");
         m.put(RoomPrompts.DELETE_ROOM_PROMPT, "Please enter the ID of the room you want to delete:");
+        m.put(RoomPrompts.DATE_PROMPT, "Please enter the date in the format of YYYY-MM-DD " +
+                "(e.g. January 1st, 2020 would be: 2020-01-01):");
+        m.put(RoomPrompts.START_TIME_PROMPT, "Please enter the start time in 24-hour clock format (HH:MM):");
+        m.put(RoomPrompts.DURATION_PROMPT, "Please enter the length of time the room is needed for, in minutes:");
+        m.put(RoomPrompts.ROOM_PROMPT, "Please enter the ID of the room:");
+        m.put(RoomPrompts.INVALID_DATE_ERROR, "Sorry, the date you entered is not valid. " +
+                "Please enter a valid date in the format YYYY-MM-DD (e.g. January 1st, 2020 would be: 2020-01-01).");
+        m.put(RoomPrompts.INVALID_TIME_ERROR, "Sorry, the time you entered is not valid. " +
+                "Please enter a valid 24-hour time in the format HH:MM: ");
+        m.put(RoomPrompts.ROOM_NOT_FOUND_ERROR, "Sorry, that room does not exist.");
+        m.put(RoomPrompts.NO_FREE_ROOMS, "Sorry, there are no rooms free at that time.");
+        m.put(RoomPrompts.ROOM_FULLY_BOOKED, "This room is booked for the whole day.");
         return m;
     }
 
@@ -52,4 +66,37 @@ class RoomPresenter extends ConsolePresenter<RoomPrompts> {
             }
         }
     }
+
+    /**
+     * Prints the rooms that are free at the requested time, together with their capacities.
+     *
+     * @param freeRooms       the room numbers of the free rooms
+     * @param roomInformation a map of room numbers to room capacities
+     */
+    public void displayFreeRooms(List<Integer> freeRooms, Map<Integer, Integer> roomInformation) {
+        System.out.println("===== FREE ROOMS =====");
+        if (freeRooms.isEmpty()) {
+            display(RoomPrompts.NO_FREE_ROOMS);
+        } else {
+            for (Integer roomNumber : freeRooms) {
+                System.out.println("Room " + roomNumber + " (capacity " + roomInformation.get(roomNumber) + ")");
+            }
+        }
+    }
+
+    /**
+     * Prints the longest period during which a room is free.
+     *
+     * @param roomID    the room number of the room
+     * @param startTime the start of the free period
+     * @param minutes   the length of the free period, in minutes
+     */
+    public void displayLongestFreePeriod(int roomID, LocalDateTime startTime, int minutes) {
+        if (minutes == 0) {
+            display(RoomPrompts.ROOM_FULLY_BOOKED);
+        } else {
+            System.out.println("Room " + roomID + " is free for " + minutes + " minutes from " +
+                    startTime.toLocalTime() + ".");
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,15 @@ enum RoomPrompts {
     ROOM_DELETE_SUCCESS,
     ROOM_DELETE_FAIL,
     ROOM_HAS_EVENTS,
-    DELETE_ROOM_PROMPT
+    DELETE_ROOM_PROMPT,
+    DATE_PROMPT,
+    START_TIME_PROMPT,
+    DURATION_PROMPT,
+    ROOM_PROMPT,
+    INVALID_DATE_ERROR,
+    INVALID_TIME_ERROR,
+    ROOM_NOT_FOUND_ERROR,
+    NO_FREE_ROOMS,
+    ROOM_FULLY_BOOKED
 
 }
@@ -2,12 +2,15 @@ package signup;
 
 import event.manager.EventManagerFacade;
 import event.manager.EventNotFoundException;
+import event.manager.SignUpStatus;
 import system.console.ConsoleInputController;
 import user.UserType;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Scanner;
 
 
@@ -122,17 +125,14 @@ public class SignUpController extends ConsoleInputController<SignUpPrompts> {
     public void signUpForEvent(String username, UserType user) {
         String title = promptString(SignUpPrompts.SIGNUP_PROMPT);
         try {
-            if (eventManager.isVIP(title) && user != UserType.VIP) {
-                signUpPresenter.display(SignUpPrompts.VIP_EVENT);
+            SignUpPrompts error = validateSignUp(title, username, user);
+            if (error != null) {
+                signUpPresenter.display(error);
                 return;
-            } else if (!eventManager.isVIP(title) && user == UserType.VIP) {
-                signUpPresenter.display(SignUpPrompts.NOT_VIP_EVENT);
-                return;
-            } else if (eventManager.getSignedUpEvents(username).contains(title)) {
-                signUpPresenter.display(SignUpPrompts.ALREADY_SIGNED_UP);
-                return;
-            } else if (eventManager.getSpeakers(title).contains(username)) {
-                signUpPresenter.display(SignUpPrompts.SPEAKER_SIGN_UP_ERROR);
+            }
+            Optional<String> clash = eventManager.getClashingEvent(username, title);
+            if (clash.isPresent()) {
+                signUpPresenter.displayClash(clash.get());
                 return;
             }
             boolean successfulSignup = eventManager.addAttendee(title, username);
@@ -146,6 +146,63 @@ public class SignUpController extends ConsoleInputController<SignUpPrompts> {
         }
     }
 
+    /**
+     * Processes a user's request to sign up for several events at once. Events that overlap an event the user is
+     * already signed up for are skipped, and when two of the entered events overlap, the one that starts first is
+     * signed up for.
+     *
+     * @param username The username of the currently logged in user
+     * @param user     The type of the currently logged in user
+     */
+    public void signUpForEvents(String username, UserType user) {
+        String input = promptString(SignUpPrompts.BULK_SIGNUP_PROMPT);
+        List<String> titles = new ArrayList<>();
+        for (String title : input.split(",")) {
+            title = title.trim();
+            if (title.isEmpty()) {
+                continue;
+            }
+            SignUpPrompts error = eventManager.eventExists(title) ? validateSignUp(title, username, user) :
+                    SignUpPrompts.EVENT_NOT_FOUND_ERROR;
+            if (error != null) {
+                signUpPresenter.displayForEvent(title, error);
+            } else {
+                titles.add(title);
+            }
+        }
+        for (Map.Entry<String, SignUpStatus> outcome : eventManager.addAttendeeToEvents(titles, username).entrySet()) {
+            switch (outcome.getValue()) {
+                case SIGNED_UP:
+                    signUpPresenter.displayForEvent(outcome.getKey(), SignUpPrompts.SUCCESSFUL_SIGNUP_PROMPT);
+                    break;
+                case EVENT_FULL:
+                    signUpPresenter.displayForEvent(outcome.getKey(), SignUpPrompts.EVENT_FULL_ERROR);
+                    break;
+                case TIME_CLASH:
+                    signUpPresenter.displayForEvent(outcome.getKey(), SignUpPrompts.TIME_CLASH_ERROR);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the error that prevents a user from signing up for an event, or <code>null</code> if there is none.
+     * Only the type of event, the user's existing registration and the event's speakers are checked here.
+     * Precondition: an event with title <code>title</code> exists.
+     */
+    private SignUpPrompts validateSignUp(String title, String username, UserType user) {
+        if (eventManager.isVIP(title) && user != UserType.VIP) {
+            return SignUpPrompts.VIP_EVENT;
+        } else if (!eventManager.isVIP(title) && user == UserType.VIP) {
+            return SignUpPrompts.NOT_VIP_EVENT;
+        } else if (eventManager.getAttendees(title).contains(username)) {
+            return SignUpPrompts.ALREADY_SIGNED_UP;
+        } else if (eventManager.getSpeakers(title).contains(username)) {
+            return SignUpPrompts.SPEAKER_SIGN_UP_ERROR;
+        }
+        return null;
+    }
+
     /**
      * Processes a user's request to cancel their attendance in an event.
      *
@@ -48,9 +48,34 @@ class SignUpPresenter extends ConsolePresenter<SignUpPrompts> {
                 "(If you are not a VIP but wish to register for a VIP event, please contact an organizer)");
         m.put(SignUpPrompts.NOT_VIP_EVENT, "This is not a VIP exclusive event. To register or cancel for general " +
                 "admission events, please select the Event menu from the main menu.");
+        m.put(SignUpPrompts.BULK_SIGNUP_PROMPT, "Please enter the titles of the events to sign up for, " +
+                "separated by commas:");
+        m.put(SignUpPrompts.TIME_CLASH_ERROR, "You could not sign up for the event because it overlaps another " +
+                "event you are signed up for.");
         return m;
     }
 
+    /**
+     * Prints the message for the key <code>message</code>, prefixed with the title of the event it is about.
+     *
+     * @param title   the title of the event
+     * @param message the key of the message
+     */
+    public void displayForEvent(String title, SignUpPrompts message) {
+        System.out.print(title + ": ");
+        display(message);
+    }
+
+    /**
+     * Prints that an event could not be signed up for because it overlaps another event the user is signed up for.
+     *
+     * @param clashingTitle the title of the event that the user is already signed up for
+     */
+    public void displayClash(String clashingTitle) {
+        System.out.println("You could not sign up for the event because it overlaps " + clashingTitle +
+                ", which you are already signed up for.");
+    }
+
     /**
      * Prints all the events in a given list.
      *
@@ -26,5 +26,7 @@ enum SignUpPrompts {
     INVALID_END_TIME,
     INVALID_INPUT,
     VIP_EVENT,
-    NOT_VIP_EVENT
+    NOT_VIP_EVENT,
+    BULK_SIGNUP_PROMPT,
+    TIME_CLASH_ERROR
 }
@@ -16,6 +16,8 @@ import java.util.regex.Pattern;
  */
 public class AccountCreationController extends ConsoleInputController<AccountCreationPrompts> {
 
+    private static final int SUGGESTION_COUNT = 3;
+
     private final AccountCreationPresenter presenter;
     private final UserManagerFacade userManager;
 
@@ -49,17 +51,9 @@ public class AccountCreationController extends ConsoleInputController<AccountCre
                 presenter.display(AccountCreationPrompts.USERNAME_HAS_SPACE_CHAR);
             } else if (userManager.userExists(username) || userManager.bannedUserExists(username)) {
                 presenter.display(AccountCreationPrompts.USERNAME_IN_USE);
-                int i = 0;
-                boolean alternate = false;
-                String tempName;
-                while (!alternate) {
-                    i++;
-                    tempName = username + i;
-                    if (!userManager.userExists(tempName) && !userManager.bannedUserExists(tempName)) {
-                        alternate = true;
-                        presenter.displayRecommendedUsername(tempName);
-                    }
-                }
+                List<String> suggestions = userManager.suggestUsernames(username, SUGGESTION_COUNT);
+                presenter.displayRecommendedUsername(suggestions.get(0));
+                presenter.displayAlternativeUsernames(suggestions.subList(1, suggestions.size()));
             } else {
                 presenter.display(AccountCreationPrompts.USERNAME_SUCCESS);
                 return username;
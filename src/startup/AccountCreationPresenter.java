@@ -3,6 +3,7 @@ package startup;
 import system.console.ConsolePresenter;
 
 import java.util.EnumMap;
+import java.util.List;
 
 /**
  * This class presents messages to the user and provides the UI during account creation.
@@ -49,4 +50,15 @@ class AccountCreationPresenter extends ConsolePresenter<AccountCreationPrompts>
         System.out.println("We recommend using the username " + username);
     }
 
+    /**
+     * Displays other available usernames that the user may choose instead of the recommended one.
+     *
+     * @param usernames the alternative usernames to display
+     */
+    public void displayAlternativeUsernames(List<String> usernames) {
+        if (!usernames.isEmpty()) {
+            System.out.println("Other available usernames: " + String.join(", ", usernames));
+        }
+    }
+
 }
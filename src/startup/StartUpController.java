@@ -34,7 +34,8 @@ public class StartUpController {
 
     /**
      * Processes the user's initial input. This method runs the program until the user selects the option to quit
-     * the the program entirely. At that point, this method initiates the writing of the program's data to files.
+     * the the program entirely. At that point, this method removes deleted messages that no longer hold a conversation
+     * together and initiates the writing of the program's data to files, reporting if it could not be saved.
      */
     public void run() {
         boolean quit = processInitialRequest();
@@ -45,7 +46,10 @@ public class StartUpController {
             system.run();
             quit = processInitialRequest();
         }
-        gateways.writeManagers(managers);
+        managers.getMessageManager().compact();
+        if (!gateways.writeManagers(managers)) {
+            startUpPresenter.display(StartUpPrompts.SAVE_ERROR);
+        }
     }
 
     /**
@@ -22,6 +22,7 @@ class StartUpPresenter extends ConsolePresenter<StartUpPrompts> {
         m.put(StartUpPrompts.PASSWORD_PROMPT, "Please enter your password:");
         m.put(StartUpPrompts.ORGANIZER_CREATION, "There are no organizer accounts currently registered." + "\n" +
                 "The account created here will be an organizer account.");
+        m.put(StartUpPrompts.SAVE_ERROR, "Sorry, some of your changes could not be saved to file.");
         m.put(StartUpPrompts.INPUT_ERROR, "Sorry, your input was invalid. Please enter '1', '2', or '3'.");
         m.put(StartUpPrompts.NO_SUCH_USERNAME_ERROR,
                 "Sorry, an account with that username was not found. Please try again.");
@@ -12,6 +12,7 @@ enum StartUpPrompts {
     INPUT_ERROR,
     NO_SUCH_USERNAME_ERROR,
     WRONG_PASSWORD_ERROR,
-    ORGANIZER_CREATION
+    ORGANIZER_CREATION,
+    SAVE_ERROR
 
 }
@@ -78,6 +78,8 @@ public class AdminSystemController extends SystemController {
         adminCommands.put("5", this::unbanUser);
         adminCommands.put("6", this::changeUserType);
         adminCommands.put("7", this::pullRaffleWinner);
+        adminCommands.put("8", messageController::purgeInactiveConversations);
+        adminCommands.put("9", userAdminController::changeFriendshipMode);
     }
     //</editor-fold>
 
@@ -43,6 +43,8 @@ public class AdminSystemPresenter extends SystemPresenter {
         adminPrompts.add("5 - Delete an account");
         adminPrompts.add("6 - Change a User's Type");
         adminPrompts.add("7 - Pull raffle winner");
+        adminPrompts.add("8 - Remove conversations that have been inactive since the conference");
+        adminPrompts.add("9 - Turn mutual friendships on or off");
     }
 
     /**
@@ -74,13 +74,15 @@ public abstract class SystemController {
      */
     public SystemController(ManagerParameterObject managers, String curUser, Scanner in) {
         this.eventController = new EventControllerFacade(managers.getEventManager(), managers.getRoomManager(), in);
-        this.userController = new UserController(managers.getUserManager(), in);
+        this.userController = new UserController(managers.getUserManager(), managers.getEventManager(), in);
         this.roomController = new RoomController(managers.getEventManager(), managers.getRoomManager(), in);
-        this.messageController = new MessageControllerFacade(in, managers.getMessageManager());
+        this.messageController = new MessageControllerFacade(in, managers.getMessageManager(), managers.getUserManager(),
+                managers.getEventManager());
         this.curUser = curUser;
         this.in = in;
         this.signUpController = new SignUpController(in, managers.getEventManager());
-        this.requestController = new RequestController(managers.getRequestManager(), managers.getUserManager(), in);
+        this.requestController = new RequestController(managers.getRequestManager(), managers.getUserManager(),
+                managers.getEventManager(), in);
         initializeMainCommands();
         initializeEventCommands();
         initializeMessagingCommands();
@@ -107,6 +109,7 @@ public abstract class SystemController {
         eventCommands.put("5", () -> signUpController.signUpForEvent(curUser, UserType.ATTENDEE));
         eventCommands.put("6", () -> signUpController.cancelSpotInEvent(curUser, UserType.ATTENDEE));
         eventCommands.put("7", () -> eventController.displayUserSchedule(curUser));
+        eventCommands.put("8", () -> signUpController.signUpForEvents(curUser, UserType.ATTENDEE));
     }
 
     /**
@@ -117,6 +120,7 @@ public abstract class SystemController {
         messagingCommands.put("3", () -> messageController.viewArchives(curUser));
         messagingCommands.put("4", this::messageFriend);
         messagingCommands.put("5", () -> requestController.requestMenu(curUser));
+        messagingCommands.put("6", () -> messageController.searchMessages(curUser));
     }
     //</editor-fold>
 
@@ -131,7 +135,10 @@ public abstract class SystemController {
      * Reads in and processes a user's request to complete an action until they choose to log out.
      */
     public void run() {
-        processMenu(() -> getPresenter().displayMenus(), mainCommands);
+        processMenu(() -> {
+            messageController.displayUnreadCount(curUser);
+            getPresenter().displayMenus();
+        }, mainCommands);
     }
 
     //<editor-fold desc="Action Menus">
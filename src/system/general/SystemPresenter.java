@@ -50,6 +50,7 @@ public abstract class SystemPresenter {
         eventPrompts.add("5 - Sign up for a general admission event");
         eventPrompts.add("6 - Cancel your spot in an event");
         eventPrompts.add("7 - View your event schedule");
+        eventPrompts.add("8 - Sign up for several general admission events at once");
     }
 
 
@@ -62,6 +63,7 @@ public abstract class SystemPresenter {
         messagingPrompts.add("3 - View your archives");
         messagingPrompts.add("4 - Message a friend");
         messagingPrompts.add("5 - Go to the requests menu");
+        messagingPrompts.add("6 - Search your messages");
     }
 
     /**
@@ -1,5 +1,6 @@
 package system.organizer;
 
+import messaging.manager.MessageAudience;
 import startup.AccountCreationController;
 import system.ManagerParameterObject;
 import system.general.SystemController;
@@ -66,10 +67,10 @@ public class OrganizerSystemController extends SystemController {
     @Override
     protected void initializeMessagingCommands() {
         super.initializeMessagingCommands();
-        messagingCommands.put("6", () -> messageAllUsersOfType(UserType.ATTENDEE));
-        messagingCommands.put("7", () -> messageAllUsersOfType(UserType.SPEAKER));
-        messagingCommands.put("8", () -> messageUserOfType(UserType.ATTENDEE));
-        messagingCommands.put("9", () -> messageUserOfType(UserType.SPEAKER));
+        messagingCommands.put("7", () -> messageAllUsersOfType(UserType.ATTENDEE));
+        messagingCommands.put("8", () -> messageAllUsersOfType(UserType.SPEAKER));
+        messagingCommands.put("9", () -> messageUserOfType(UserType.ATTENDEE));
+        messagingCommands.put("10", () -> messageUserOfType(UserType.SPEAKER));
     }
 
     /**
@@ -93,6 +94,10 @@ public class OrganizerSystemController extends SystemController {
         conferenceOrganizingCommands.put("5", eventController::deleteEvent);
         conferenceOrganizingCommands.put("6", roomController::deleteRoom);
         conferenceOrganizingCommands.put("7", this::deleteSpeakerFromEvent);
+        conferenceOrganizingCommands.put("8", roomController::findFreeRooms);
+        conferenceOrganizingCommands.put("9", roomController::findLongestFreePeriod);
+        conferenceOrganizingCommands.put("10", eventController::auditSchedule);
+        conferenceOrganizingCommands.put("11", this::scheduleNewEvents);
     }
     //</editor-fold>
 
@@ -143,8 +148,8 @@ public class OrganizerSystemController extends SystemController {
      * @param userType the type of user to message
      */
     private void messageAllUsersOfType(UserType userType) {
-        List<String> recipients = userController.getAllUsernamesOfType(userType);
-        messageController.sendMessage(curUser, recipients);
+        boolean hasMembers = userController.userOfTypeExists(userType);
+        messageController.sendBroadcast(curUser, MessageAudience.ofUserType(userType), hasMembers);
     }
     //</editor-fold>
 
@@ -169,5 +174,14 @@ public class OrganizerSystemController extends SystemController {
         boolean isSpeaker = userController.isUserOfType(speaker, UserType.SPEAKER);
         eventController.removeSpeakerFromEvent(speaker, isSpeaker);
     }
+
+    /**
+     * Reads a batch of new events without start times or rooms, and creates the ones that can be placed in the
+     * conference's rooms on the given days.
+     */
+    private void scheduleNewEvents() {
+        viewController.viewUsernamesOfType(UserType.SPEAKER);
+        eventController.scheduleNewEvents(speaker -> userController.isUserOfType(speaker, UserType.SPEAKER));
+    }
     //</editor-fold>
 }
@@ -44,10 +44,10 @@ public class OrganizerSystemPresenter extends SystemPresenter {
     @Override
     protected void initializeMessagingPrompts() {
         super.initializeMessagingPrompts();
-        messagingPrompts.add("6 - Message all attendees");
-        messagingPrompts.add("7 - Message all speakers");
-        messagingPrompts.add("8 - Message a specific attendee");
-        messagingPrompts.add("9 - Message a specific speaker");
+        messagingPrompts.add("7 - Message all attendees");
+        messagingPrompts.add("8 - Message all speakers");
+        messagingPrompts.add("9 - Message a specific attendee");
+        messagingPrompts.add("10 - Message a specific speaker");
     }
 
     /**
@@ -61,6 +61,10 @@ public class OrganizerSystemPresenter extends SystemPresenter {
         conferenceOrganizingPrompts.add("5 - Delete an event from the conference");
         conferenceOrganizingPrompts.add("6 - Delete a room from the system");
         conferenceOrganizingPrompts.add("7 - Delete a speaker from an event");
+        conferenceOrganizingPrompts.add("8 - Find the rooms free at a given time");
+        conferenceOrganizingPrompts.add("9 - Find the longest free period of a room on a given day");
+        conferenceOrganizingPrompts.add("10 - Check the schedule for double bookings and overfull rooms");
+        conferenceOrganizingPrompts.add("11 - Schedule several events automatically");
     }
 
     /**
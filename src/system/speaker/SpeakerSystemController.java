@@ -1,10 +1,10 @@
 package system.speaker;
 
+import messaging.manager.MessageAudience;
 import system.ManagerParameterObject;
 import system.general.SystemController;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
@@ -78,8 +78,8 @@ public class SpeakerSystemController extends SystemController {
      * Messages all attendees of the events at which the current user is speaking.
      */
     private void messageAllYourEventAttendees() {
-        List<String> recipients = eventController.getAttendeesForEventsBySpeaker(curUser);
-        messageController.sendMessage(curUser, recipients);
+        boolean hasMembers = !eventController.getAttendeesForEventsBySpeaker(curUser).isEmpty();
+        messageController.sendBroadcast(curUser, MessageAudience.ofSpeakerAudience(curUser), hasMembers);
     }
 
     /**
@@ -88,8 +88,8 @@ public class SpeakerSystemController extends SystemController {
     private void messageAttendeesForOneEvent() {
         String title = eventController.readEventTitle();
         if (eventController.isSpeakerForEvent(curUser, title)) {
-            List<String> recipients = eventController.getAttendeesForEvent(title);
-            messageController.sendMessage(curUser, recipients);
+            boolean hasMembers = !eventController.getAttendeesForEvent(title).isEmpty();
+            messageController.sendBroadcast(curUser, MessageAudience.ofEventAttendees(title), hasMembers);
         }
     }
     //</editor-fold>
@@ -64,6 +64,7 @@ public class VipSystemController extends SystemController {
         vipCommands.put("2", eventController::displayVipSchedule);
         vipCommands.put("3", () -> signUpController.signUpForEvent(curUser, UserType.VIP));
         vipCommands.put("4", () -> signUpController.cancelSpotInEvent(curUser, UserType.VIP));
+        vipCommands.put("5", () -> signUpController.signUpForEvents(curUser, UserType.VIP));
     }
     //</editor-fold>
 
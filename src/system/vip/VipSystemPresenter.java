@@ -39,6 +39,7 @@ public class VipSystemPresenter extends SystemPresenter {
         vipPrompts.add("2 - View VIP event schedule");
         vipPrompts.add("3 - Sign up for a VIP event");
         vipPrompts.add("4 - Cancel your spot in a VIP event");
+        vipPrompts.add("5 - Sign up for several VIP events at once");
     }
 
     /**
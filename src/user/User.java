@@ -1,7 +1,6 @@
 package user;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -10,16 +9,23 @@ import java.util.List;
  * the program.
  */
 public class User implements Serializable {
+    private static final long serialVersionUID = -8075776644806260837L;
 
     private final String username;
     private final String password;
-    private final List<String> friends;
     private String banReason;
     private String banBy;
     private UserType userType;
 
     /**
-     * Constructs a new <code>User</code> with an initially empty friends list.
+     * The friends list saved with this user by versions of the program that stored friendships in each
+     * <code>User</code>, or null if this user has no such list. It is moved into the friend graph when the user is
+     * loaded.
+     */
+    private List<String> friends;
+
+    /**
+     * Constructs a new <code>User</code> who is not banned.
      *
      * @param username the username associated with this user's account
      * @param password the password associated with this user's account
@@ -31,7 +37,6 @@ public class User implements Serializable {
         this.userType = userType;
         this.banBy = null;
         this.banReason = null;
-        this.friends = new ArrayList<>();
     }
 
     /**
@@ -52,15 +57,6 @@ public class User implements Serializable {
         return password;
     }
 
-    /**
-     * Gets the list of usernames corresponding to friends in this user's friends list.
-     *
-     * @return the list of friends in this user's friends list
-     */
-    public List<String> getFriends() {
-        return friends;
-    }
-
     /**
      * Gets the type of this <code>User</code>.
      *
@@ -79,28 +75,18 @@ public class User implements Serializable {
         userType = type;
     }
 
-    //<editor-fold desc="Friends List Information">
-
-    /**
-     * Adds the given friend to this user's friends list.
-     *
-     * @param friend the username of the friend to add to this user's friends list
-     */
-    public void addFriend(String friend) {
-        friends.add(friend);
-    }
-
     /**
-     * Removes the given friend from this user's friends list.
+     * Returns the friends list that was saved with this user by an earlier version of the program, and removes it
+     * from this user.
      *
-     * @param friend the username of the friend to remove from this user's friends list
+     * @return the usernames in this user's saved friends list, or null if this user has no saved friends list
      */
-    public void removeFriend(String friend) {
-        friends.remove(friend);
+    public List<String> takeLegacyFriends() {
+        List<String> legacyFriends = friends;
+        friends = null;
+        return legacyFriends;
     }
 
-    //</editor-fold>
-
     //<editor-fold desc="Ban Information">
 
     /**
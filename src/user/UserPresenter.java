@@ -35,6 +35,12 @@ public class UserPresenter extends UserTypeConsolePresenter<UserPrompts> {
         m.put(UserPrompts.DELETE_NAME_PROMPT, "Please enter the name of the user you wish to delete:");
         m.put(UserPrompts.CHANGE_TYPE_PROMPT, "Please enter the name of the user who will have their type changed:");
         m.put(UserPrompts.TYPE_CHANGE_PROMPT, "Please enter the type you would like to change this user to:");
+        m.put(UserPrompts.MUTUAL_FRIENDSHIPS_ON, "Friendships are currently mutual: adding a friend adds you to " +
+                "their friends list too.");
+        m.put(UserPrompts.MUTUAL_FRIENDSHIPS_OFF, "Friendships are currently one-directional: adding a friend does " +
+                "not add you to their friends list.");
+        m.put(UserPrompts.MUTUAL_FRIENDSHIPS_PROMPT, "Should friendships be mutual? Turning this on also makes every " +
+                "existing friendship mutual. (yes/no/y/n)");
     }
 
     private void initializeErrors(EnumMap<UserPrompts, String> m) {
@@ -45,6 +51,8 @@ public class UserPresenter extends UserTypeConsolePresenter<UserPrompts> {
         m.put(UserPrompts.NOT_FRIENDS_ERROR, "Sorry, this person is not in your friends list.");
         m.put(UserPrompts.EMPTY_FRIENDS_LIST_ERROR,
                 "Sorry, you currently do not have any friends in your friends list.");
+        m.put(UserPrompts.NO_FRIEND_RECOMMENDATIONS_ERROR,
+                "Sorry, there are no users to recommend yet. Add friends or sign up for events to get recommendations.");
         m.put(UserPrompts.ADD_YOURSELF_ERROR, "Sorry, you cannot add yourself to your own friends list.");
         m.put(UserPrompts.ATTENDEE_ADD_ORGANIZER_ERROR, "Sorry, you cannot add an Organizer to your friends list.");
         m.put(UserPrompts.CUR_TYPE_ERROR, "Sorry, you cannot change the types of Organizers or other Admins.");
@@ -61,6 +69,7 @@ public class UserPresenter extends UserTypeConsolePresenter<UserPrompts> {
         m.put(UserPrompts.UNBAN_SUCCESS, "User has been unbanned.");
         m.put(UserPrompts.DELETE_SUCCESS, "User successfully deleted.");
         m.put(UserPrompts.TYPE_CHANGE_SUCCESS, "Type change successful.");
+        m.put(UserPrompts.FRIENDSHIP_MODE_SUCCESS, "Friendship setting saved.");
     }
 
     /**
@@ -72,6 +81,7 @@ public class UserPresenter extends UserTypeConsolePresenter<UserPrompts> {
         System.out.println("2 - View your friends list");
         System.out.println("3 - Add a user to your friends list");
         System.out.println("4 - Remove a user from your friends list");
+        System.out.println("5 - View people you may know");
     }
 
     /**
@@ -98,6 +108,21 @@ public class UserPresenter extends UserTypeConsolePresenter<UserPrompts> {
         }
     }
 
+    /**
+     * Prints the usernames of users that the user may know to the screen.
+     * This method gives a specific error message if there are no recommendations.
+     *
+     * @param recommendations the list of usernames to be printed to the screen
+     */
+    public void displayFriendRecommendations(List<String> recommendations) {
+        System.out.println("===== PEOPLE YOU MAY KNOW =====");
+        if (recommendations.isEmpty()) {
+            display(UserPrompts.NO_FRIEND_RECOMMENDATIONS_ERROR);
+        } else {
+            displayContents(recommendations);
+        }
+    }
+
     /**
      * Displays a menu of all user types
      */
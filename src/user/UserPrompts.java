@@ -16,6 +16,7 @@ public enum UserPrompts {
     ALREADY_FRIENDS_ERROR,
     NOT_FRIENDS_ERROR,
     EMPTY_FRIENDS_LIST_ERROR,
+    NO_FRIEND_RECOMMENDATIONS_ERROR,
     ADD_YOURSELF_ERROR,
     ATTENDEE_ADD_ORGANIZER_ERROR,
     ADD_FRIEND_SUCCESS,
@@ -34,5 +35,9 @@ public enum UserPrompts {
     TYPE_CHANGE_PROMPT,
     NEW_TYPE_ERROR,
     ALREADY_TYPE_ERROR,
-    TYPE_CHANGE_SUCCESS
+    TYPE_CHANGE_SUCCESS,
+    MUTUAL_FRIENDSHIPS_ON,
+    MUTUAL_FRIENDSHIPS_OFF,
+    MUTUAL_FRIENDSHIPS_PROMPT,
+    FRIENDSHIP_MODE_SUCCESS
 }
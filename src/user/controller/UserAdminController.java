@@ -76,6 +76,17 @@ public class UserAdminController extends UserTypeInputController<UserPrompts> {
         return false;
     }
 
+    /**
+     * Shows whether friendships are currently mutual, and accepts input to decide whether they should be.
+     */
+    public void changeFriendshipMode() {
+        userPresenter.display(userManager.hasMutualFriendships() ?
+                UserPrompts.MUTUAL_FRIENDSHIPS_ON : UserPrompts.MUTUAL_FRIENDSHIPS_OFF);
+        boolean mutual = promptYesNo(UserPrompts.MUTUAL_FRIENDSHIPS_PROMPT, UserPrompts.MUTUAL_FRIENDSHIPS_PROMPT);
+        userManager.setMutualFriendships(mutual);
+        userPresenter.display(UserPrompts.FRIENDSHIP_MODE_SUCCESS);
+    }
+
     /**
      * Delete a user
      *
@@ -1,5 +1,6 @@
 package user.controller;
 
+import event.manager.EventManagerFacade;
 import system.console.ConsoleInputController;
 import user.UserPresenter;
 import user.UserPrompts;
@@ -18,18 +19,22 @@ import java.util.Scanner;
 public class UserController extends ConsoleInputController<UserPrompts> {
 
     private final UserManagerFacade userManager;
+    private final EventManagerFacade eventManager;
     private final UserPresenter userPresenter;
     private final Scanner in;
+    private final int numFriendRecommendations = 5;
 
     /**
      * Constructs a controller to process requests involving interactions with other users.
      *
-     * @param userManager the manager responsible for user data during program execution
-     * @param in          the instance of Scanner currently looking at the Console
+     * @param userManager  the manager responsible for user data during program execution
+     * @param eventManager the manager responsible for event data during program execution
+     * @param in           the instance of Scanner currently looking at the Console
      */
-    public UserController(UserManagerFacade userManager, Scanner in) {
+    public UserController(UserManagerFacade userManager, EventManagerFacade eventManager, Scanner in) {
         super(in, new UserPresenter());
         this.userManager = userManager;
+        this.eventManager = eventManager;
         this.userPresenter = new UserPresenter();
         this.in = in;
     }
@@ -39,7 +44,8 @@ public class UserController extends ConsoleInputController<UserPrompts> {
      * This method accepts user input that requests to
      * (1) view their friends list,
      * (2) add a friend to their friends list, or
-     * (3) remove a friend from their friends list.
+     * (3) remove a friend from their friends list, or
+     * (4) view users they may know.
      * It accepts user input until the user requests to return to the main menu.
      *
      * @param curUser the username of the currently logged in user
@@ -64,6 +70,9 @@ public class UserController extends ConsoleInputController<UserPrompts> {
                 case "4":
                     removeFriend(curUser);
                     break;
+                case "5":
+                    viewFriendRecommendations(curUser);
+                    break;
                 default:
                     userPresenter.display(UserPrompts.INVALID_INPUT_ERROR);
             }
@@ -80,6 +89,28 @@ public class UserController extends ConsoleInputController<UserPrompts> {
         userPresenter.displayFriendsList(friendsList);
     }
 
+    /**
+     * Processes the user's request to display users that they may know, based on their mutual friends and the events
+     * that they attend.
+     *
+     * @param username the username of the currently logged in user
+     */
+    public void viewFriendRecommendations(String username) {
+        List<List<String>> sharedEventAttendees = new ArrayList<>();
+        int remaining = userManager.getMaxRecommendationCandidates();
+        for (String event : eventManager.getSignedUpEvents(username)) {
+            if (remaining <= 0) {
+                break;
+            }
+            List<String> attendees = eventManager.getAttendees(event, remaining);
+            sharedEventAttendees.add(attendees);
+            remaining -= attendees.size();
+        }
+        List<String> recommendations = userManager.getFriendRecommendations(username, sharedEventAttendees,
+                numFriendRecommendations);
+        userPresenter.displayFriendRecommendations(recommendations);
+    }
+
     /**
      * Processes the user's request to add a user to their friends list.
      *
@@ -203,6 +234,16 @@ public class UserController extends ConsoleInputController<UserPrompts> {
         return userManager.getAllUsernamesOfType(userType);
     }
 
+    /**
+     * Returns true if there exists at least one user of the specified <code>UserType</code>.
+     *
+     * @param userType the <code>UserType</code> of the users that are searched for
+     * @return true if there exists at least one user of type <code>userType</code>
+     */
+    public boolean userOfTypeExists(UserType userType) {
+        return userManager.getNumberOfUsersOfType(userType) > 0;
+    }
+
     /**
      * Returns true if the given <code>username</code> corresponds to a user of the specified <code>UserType</code>.
      *
@@ -0,0 +1,358 @@
+package user.manager;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The <code>FriendGraph</code> class is responsible for storing which users have added which other users to their
+ * friends list.
+ * <p>
+ * Every username that appears in the graph is given a dense integer ID by a <code>UserIdTable</code>, and the graph
+ * stores only these IDs. Each user's friends, and the users who have added them as a friend, are kept in primitive
+ * arrays indexed by ID: one in the order the friends were added and one sorted, so that checking a friendship takes
+ * logarithmic time and each friendship takes a few bytes instead of a hash set entry.
+ * <p>
+ * By default friendships are one-directional: adding a friend does not add the current user to the friend's friends
+ * list. In mutual mode, adding or removing a friend affects both users' friends lists.
+ */
+public class FriendGraph implements Serializable {
+    private static final long serialVersionUID = 4509050926302626080L;
+
+    private final UserIdTable userIds;
+
+    /**
+     * The friends of the user with each ID, or null for users without friends.
+     */
+    private final List<IdSet> friends;
+
+    /**
+     * The users who have added the user with each ID as a friend, or null if there are none.
+     */
+    private final List<IdSet> friendOf;
+    private boolean mutual;
+
+    /**
+     * The maximum number of candidates, counting both friends-of-friends and event attendees, that are examined when
+     * recommending friends to a user.
+     */
+    private final int maxCandidatesVisited = 100000;
+
+    /**
+     * Constructs a graph responsible for storing friendships between users, initially containing no friendships.
+     */
+    public FriendGraph() {
+        this.userIds = new UserIdTable();
+        this.friends = new ArrayList<>();
+        this.friendOf = new ArrayList<>();
+        this.mutual = false;
+    }
+
+    /**
+     * Returns whether friendships are mutual, so that adding or removing a friend affects both users' friends lists.
+     *
+     * @return true if friendships are mutual
+     */
+    public boolean isMutual() {
+        return mutual;
+    }
+
+    /**
+     * Sets whether friendships are mutual. Turning mutual mode on also adds each user to the friends list of every
+     * user in their own friends list, so that every existing friendship becomes mutual. Turning it off keeps the
+     * existing friendships.
+     *
+     * @param mutual whether a friendship added or removed by one user is also added or removed for the other user
+     */
+    public void setMutual(boolean mutual) {
+        if (mutual && !this.mutual) {
+            for (int userId = 0; userId < friends.size(); userId++) {
+                IdSet userFriends = friends.get(userId);
+                for (int i = 0; userFriends != null && i < userFriends.size(); i++) {
+                    addEdge(userFriends.get(i), userId);
+                }
+            }
+        }
+        this.mutual = mutual;
+    }
+
+    /**
+     * Returns the maximum number of friends-of-friends and event attendees that are examined when recommending
+     * friends to a user.
+     *
+     * @return the maximum number of candidates examined for one recommendation
+     */
+    public int getMaxCandidatesVisited() {
+        return maxCandidatesVisited;
+    }
+
+    /**
+     * Returns true if <code>potentialFriend</code> is in the friends list of <code>user</code>.
+     *
+     * @param user            the username of the user whose friends list is being checked
+     * @param potentialFriend the username of the potential friend
+     * @return true if <code>potentialFriend</code> is in the friends list of <code>user</code>
+     */
+    public boolean areFriends(String user, String potentialFriend) {
+        IdSet userFriends = get(friends, userIds.getId(user));
+        int friendId = userIds.getId(potentialFriend);
+        return userFriends != null && friendId != -1 && userFriends.contains(friendId);
+    }
+
+    /**
+     * Returns a list of the usernames in the given user's friends list, in the order that they were added.
+     *
+     * @param user the username of the user whose friends list is being accessed
+     * @return a list of the usernames in the user's friends list
+     */
+    public List<String> getFriends(String user) {
+        IdSet userFriends = get(friends, userIds.getId(user));
+        List<String> usernames = new ArrayList<>();
+        if (userFriends != null) {
+            for (int i = 0; i < userFriends.size(); i++) {
+                usernames.add(userIds.getUsername(userFriends.get(i)));
+            }
+        }
+        return usernames;
+    }
+
+    /**
+     * Adds <code>addedUser</code> to the friends list of <code>requestingUser</code>. In mutual mode,
+     * <code>requestingUser</code> is also added to the friends list of <code>addedUser</code>.
+     *
+     * @param requestingUser the username of the user whose friends list is being modified
+     * @param addedUser      the username of the user to be added to the first user's friends list
+     */
+    public void addFriend(String requestingUser, String addedUser) {
+        int requestingId = userIds.assignId(requestingUser);
+        int addedId = userIds.assignId(addedUser);
+        addEdge(requestingId, addedId);
+        if (mutual) {
+            addEdge(addedId, requestingId);
+        }
+    }
+
+    /**
+     * Removes <code>removedUser</code> from the friends list of <code>requestingUser</code>. In mutual mode,
+     * <code>requestingUser</code> is also removed from the friends list of <code>removedUser</code>.
+     *
+     * @param requestingUser the username of the user whose friends list is being modified
+     * @param removedUser    the username of the user to be removed from the first user's friends list
+     */
+    public void removeFriend(String requestingUser, String removedUser) {
+        int requestingId = userIds.getId(requestingUser);
+        int removedId = userIds.getId(removedUser);
+        if (requestingId == -1 || removedId == -1) {
+            return;
+        }
+        removeEdge(requestingId, removedId);
+        if (mutual) {
+            removeEdge(removedId, requestingId);
+        }
+    }
+
+    /**
+     * Removes the given user from this graph, including from the friends list of every other user.
+     *
+     * @param user the username of the user to remove
+     */
+    public void removeUser(String user) {
+        int userId = userIds.getId(user);
+        IdSet userFriends = get(friends, userId);
+        if (userFriends != null) {
+            for (int i = 0; i < userFriends.size(); i++) {
+                remove(friendOf, userFriends.get(i), userId);
+            }
+            friends.set(userId, null);
+        }
+        IdSet followers = get(friendOf, userId);
+        if (followers != null) {
+            for (int i = 0; i < followers.size(); i++) {
+                remove(friends, followers.get(i), userId);
+            }
+            friendOf.set(userId, null);
+        }
+    }
+
+    /**
+     * Returns up to <code>limit</code> usernames of users that <code>user</code> may know but has not yet added to
+     * their friends list, ordered from most to least likely.
+     * <p>
+     * A candidate scores two points for every friend of <code>user</code> who has the candidate as a friend, and one
+     * point for every event in <code>sharedEventAttendees</code> that the candidate attends. At most
+     * <code>maxCandidatesVisited</code> friends-of-friends and attendees are examined in total, so that the query
+     * stays fast for users with very large friend networks or very large events. Friends-of-friends are examined
+     * first, since they score higher.
+     *
+     * @param user                 the username of the user to recommend friends to
+     * @param sharedEventAttendees the attendee lists of the events that <code>user</code> attends
+     * @param limit                the maximum number of usernames to return
+     * @param isEligible           a test that a username must pass in order to be recommended
+     * @return a list of at most <code>limit</code> recommended usernames, with the best recommendation first
+     */
+    public List<String> recommendFriends(String user, List<List<String>> sharedEventAttendees, int limit,
+                                         Predicate<String> isEligible) {
+        int userId = userIds.assignId(user);
+        IdSet userFriends = get(friends, userId);
+        int[] candidates = new int[16];
+        int visited = 0;
+        if (userFriends != null) {
+            friendsOfFriends:
+            for (int i = 0; i < userFriends.size(); i++) {
+                IdSet friendsOfFriend = get(friends, userFriends.get(i));
+                for (int j = 0; friendsOfFriend != null && j < friendsOfFriend.size(); j++) {
+                    if (visited >= maxCandidatesVisited) {
+                        break friendsOfFriends;
+                    }
+                    candidates = append(candidates, visited++, friendsOfFriend.get(j));
+                }
+            }
+        }
+        int friendsOfFriendsVisited = visited;
+        sharedEvents:
+        for (List<String> attendees : sharedEventAttendees) {
+            for (String candidate : attendees) {
+                if (visited >= maxCandidatesVisited) {
+                    break sharedEvents;
+                }
+                candidates = append(candidates, visited++, userIds.assignId(candidate));
+            }
+        }
+        int[] scores = new int[userIds.size()];
+        for (int i = 0; i < visited; i++) {
+            scores[candidates[i]] += i < friendsOfFriendsVisited ? 2 : 1;
+        }
+        return topScoringCandidates(userId, userFriends, Arrays.copyOf(candidates, visited), scores, limit,
+                isEligible);
+    }
+
+    private List<String> topScoringCandidates(int userId, IdSet userFriends, int[] candidates, int[] scores, int limit,
+                                              Predicate<String> isEligible) {
+        Comparator<Integer> byScore = Comparator.comparingInt(candidate -> scores[candidate]);
+        byScore = byScore.thenComparing(Comparator.comparing(userIds::getUsername, Comparator.reverseOrder()));
+        PriorityQueue<Integer> best = new PriorityQueue<>(byScore);
+        BitSet considered = new BitSet(scores.length);
+        for (int candidate : candidates) {
+            if (considered.get(candidate)) {
+                continue;
+            }
+            considered.set(candidate);
+            if (candidate == userId || (userFriends != null && userFriends.contains(candidate))
+                    || !isEligible.test(userIds.getUsername(candidate))) {
+                continue;
+            }
+            best.add(candidate);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        LinkedList<String> recommendations = new LinkedList<>();
+        while (!best.isEmpty()) {
+            recommendations.addFirst(userIds.getUsername(best.poll()));
+        }
+        return recommendations;
+    }
+
+    /**
+     * Stores <code>id</code> at position <code>count</code> of <code>ids</code>, and returns the array, which is
+     * replaced by a larger copy if it is full.
+     */
+    private static int[] append(int[] ids, int count, int id) {
+        int[] result = count < ids.length ? ids : Arrays.copyOf(ids, 2 * ids.length);
+        result[count] = id;
+        return result;
+    }
+
+    private void addEdge(int requestingId, int addedId) {
+        getOrCreate(friends, requestingId).add(addedId);
+        getOrCreate(friendOf, addedId).add(requestingId);
+    }
+
+    private void removeEdge(int requestingId, int removedId) {
+        remove(friends, requestingId, removedId);
+        remove(friendOf, removedId, requestingId);
+    }
+
+    private IdSet get(List<IdSet> sets, int userId) {
+        return userId == -1 || userId >= sets.size() ? null : sets.get(userId);
+    }
+
+    private IdSet getOrCreate(List<IdSet> sets, int userId) {
+        while (sets.size() <= userId) {
+            sets.add(null);
+        }
+        if (sets.get(userId) == null) {
+            sets.set(userId, new IdSet());
+        }
+        return sets.get(userId);
+    }
+
+    private void remove(List<IdSet> sets, int userId, int removedId) {
+        IdSet set = get(sets, userId);
+        if (set != null) {
+            set.remove(removedId);
+            if (set.size() == 0) {
+                sets.set(userId, null);
+            }
+        }
+    }
+
+    /**
+     * A list of user IDs in the order they were added, with a sorted copy for membership tests.
+     */
+    private static class IdSet implements Serializable {
+        private static final long serialVersionUID = -4871986404640893553L;
+
+        private int[] ordered = new int[4];
+        private int[] sorted = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return ordered[index];
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(sorted, 0, size, id) >= 0;
+        }
+
+        /**
+         * Adds <code>id</code> if it is not already in this set.
+         */
+        void add(int id) {
+            int position = Arrays.binarySearch(sorted, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            grow();
+            System.arraycopy(sorted, position, sorted, position + 1, size - position);
+            sorted[position] = id;
+            ordered[size++] = id;
+        }
+
+        void remove(int id) {
+            int position = Arrays.binarySearch(sorted, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(sorted, position + 1, sorted, position, size - position - 1);
+            int index = 0;
+            while (ordered[index] != id) {
+                index++;
+            }
+            System.arraycopy(ordered, index + 1, ordered, index, size - index - 1);
+            size--;
+        }
+
+        private void grow() {
+            if (size == ordered.length) {
+                ordered = Arrays.copyOf(ordered, 2 * size);
+                sorted = Arrays.copyOf(sorted, 2 * size);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package user.manager;
 
 import user.User;
+import user.UserType;
 
 import java.util.List;
 
@@ -83,4 +84,31 @@ public interface IUserRepository {
      * @return true if there exists a banned <code>User</code> with the specified username
      */
     boolean bannedUserExists(String username);
+
+    /**
+     * Returns a list of the usernames of the <code>User</code>s in this repository that are of the given type and are
+     * not banned.
+     *
+     * @param userType the <code>UserType</code> of the desired users
+     * @return a list of the usernames of the users of type <code>userType</code>
+     */
+    List<String> getUsernamesOfType(UserType userType);
+
+    /**
+     * Returns the number of <code>User</code>s in this repository that are of the given type and are not banned.
+     *
+     * @param userType the <code>UserType</code> of the users to count
+     * @return the number of users of type <code>userType</code>
+     */
+    int countUsersOfType(UserType userType);
+
+    /**
+     * Changes the <code>UserType</code> of the <code>User</code> with the given username.
+     * Precondition: username is the username of an existing <code>User</code>
+     *
+     * @param username the username of the user whose type is being changed
+     * @param newType  the new type of the user
+     * @throws UserNotFoundException if the given username is not the username of an existing user
+     */
+    void changeUserType(String username, UserType newType);
 }
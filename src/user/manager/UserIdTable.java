@@ -0,0 +1,77 @@
+package user.manager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>UserIdTable</code> class is responsible for assigning each username a unique integer ID.
+ * <p>
+ * IDs are dense, starting from 0 and increasing by one for every new username, so they can be used as indices into
+ * arrays or <code>BitSet</code>s. An ID is never reassigned to a different username, even after its user is deleted.
+ */
+public class UserIdTable implements Serializable {
+    private static final long serialVersionUID = -8681324974153389308L;
+
+    private final Map<String, Integer> idsByUsername;
+    private final List<String> usernamesById;
+
+    /**
+     * Constructs a table that has not yet assigned any IDs.
+     */
+    public UserIdTable() {
+        this.idsByUsername = new HashMap<>();
+        this.usernamesById = new ArrayList<>();
+    }
+
+    /**
+     * Returns the ID of the given username, assigning it the next unused ID if it does not already have one.
+     *
+     * @param username the username whose ID is returned
+     * @return the ID of <code>username</code>
+     */
+    public int assignId(String username) {
+        Integer id = idsByUsername.get(username);
+        if (id == null) {
+            id = usernamesById.size();
+            idsByUsername.put(username, id);
+            usernamesById.add(username);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the ID of the given username, or -1 if it has not been assigned an ID.
+     *
+     * @param username the username whose ID is returned
+     * @return the ID of <code>username</code>, or -1 if it has none
+     */
+    public int getId(String username) {
+        return idsByUsername.getOrDefault(username, -1);
+    }
+
+    /**
+     * Returns the username that was assigned the given ID.
+     * Precondition: <code>id</code> has been assigned to a username
+     *
+     * @param id the ID of the desired username
+     * @return the username that was assigned <code>id</code>
+     * @throws UserNotFoundException if <code>id</code> has not been assigned to a username
+     */
+    public String getUsername(int id) {
+        if (id < 0 || id >= usernamesById.size())
+            throw new UserNotFoundException(String.format("User with ID %d does not exist.", id));
+        return usernamesById.get(id);
+    }
+
+    /**
+     * Returns the number of IDs that have been assigned. Every assigned ID is less than this number.
+     *
+     * @return the number of IDs that have been assigned
+     */
+    public int size() {
+        return usernamesById.size();
+    }
+}
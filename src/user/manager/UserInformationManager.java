@@ -4,22 +4,35 @@ import user.User;
 import user.UserType;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * The <code>UserInformationManager</code> class is responsible for retrieving and providing user information.
  */
 public class UserInformationManager implements Serializable {
+    private static final long serialVersionUID = 2513251976732426901L;
+
     private final IUserRepository userRepository;
+    private final FriendGraph friendGraph;
 
     /**
      * Constructs a manager responsible for providing data about users.
      *
      * @param userRepository a <code>UserRepository</code> object containing the users in the conference
+     * @param friendGraph    a <code>FriendGraph</code> object containing the friendships between users
      */
-    public UserInformationManager(IUserRepository userRepository) {
+    public UserInformationManager(IUserRepository userRepository, FriendGraph friendGraph) {
         this.userRepository = userRepository;
+        this.friendGraph = friendGraph;
+    }
+
+    /**
+     * Returns the repository of users that this manager reads from.
+     *
+     * @return the repository of users that this manager reads from
+     */
+    IUserRepository getUserRepository() {
+        return userRepository;
     }
 
     /**
@@ -28,11 +41,7 @@ public class UserInformationManager implements Serializable {
      * @return true if there exists a <code>User</code> with type organizer, false otherwise
      */
     public boolean organizerExists() {
-        for (User user : userRepository.getUsers()) {
-            if (user.getUserType().equals(UserType.ORGANIZER))
-                return true;
-        }
-        return false;
+        return userRepository.countUsersOfType(UserType.ORGANIZER) > 0;
     }
 
 
@@ -84,7 +93,7 @@ public class UserInformationManager implements Serializable {
         if (!userExists(user) || !userExists(potentialFriend)) {
             return false;
         }
-        return userRepository.getUserWithUsername(user).getFriends().contains(potentialFriend);
+        return friendGraph.areFriends(user, potentialFriend);
     }
 
     /**
@@ -94,7 +103,41 @@ public class UserInformationManager implements Serializable {
      * @return a list of usernames corresponding to accounts in the user's friends list.
      */
     public List<String> getFriendsList(String curUser) {
-        return userRepository.getUserWithUsername(curUser).getFriends();
+        userRepository.getUserWithUsername(curUser);
+        return friendGraph.getFriends(curUser);
+    }
+
+    /**
+     * Returns up to <code>limit</code> usernames of existing users that the given user may know but has not yet
+     * added to their friends list, ordered from most to least likely. Users are recommended based on the number of
+     * friends they have in common with the given user and the number of events they both attend.
+     *
+     * @param curUser              the username of the <code>User</code> to recommend friends to
+     * @param sharedEventAttendees the attendee lists of the events that <code>curUser</code> attends
+     * @param limit                the maximum number of usernames to return
+     * @return a list of at most <code>limit</code> recommended usernames, with the best recommendation first
+     */
+    public List<String> getFriendRecommendations(String curUser, List<List<String>> sharedEventAttendees, int limit) {
+        return friendGraph.recommendFriends(curUser, sharedEventAttendees, limit, this::userExists);
+    }
+
+    /**
+     * Returns the maximum number of friends-of-friends and event attendees that are examined when recommending
+     * friends to a user.
+     *
+     * @return the maximum number of candidates examined for one recommendation
+     */
+    public int getMaxRecommendationCandidates() {
+        return friendGraph.getMaxCandidatesVisited();
+    }
+
+    /**
+     * Returns whether friendships are mutual.
+     *
+     * @return true if adding or removing a friend affects both users' friends lists
+     */
+    public boolean hasMutualFriendships() {
+        return friendGraph.isMutual();
     }
 
     /**
@@ -104,13 +147,17 @@ public class UserInformationManager implements Serializable {
      * @return a list of usernames corresponding to <code>Users</code> that are of userType
      */
     public List<String> getAllUsernamesOfType(UserType userType) {
-        List<String> usernames = new ArrayList<>();
-        for (User user : userRepository.getUsers()) {
-            if (user.getUserType() == userType) {
-                usernames.add(user.getUsername());
-            }
-        }
-        return usernames;
+        return userRepository.getUsernamesOfType(userType);
+    }
+
+    /**
+     * Returns the number of users that are of the specified <code>UserType</code>.
+     *
+     * @param userType the type of <code>User</code> to count
+     * @return the number of <code>Users</code> that are of userType
+     */
+    public int getNumberOfUsersOfType(UserType userType) {
+        return userRepository.countUsersOfType(userType);
     }
 
     /**
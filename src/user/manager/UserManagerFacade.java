@@ -12,19 +12,28 @@ import java.util.List;
  * and processes requests involving user accounts.
  */
 public class UserManagerFacade implements Serializable {
+    private static final long serialVersionUID = 1592773013509165419L;
 
     private final UserInformationManager userInformationManager;
     private final UserManipulationManager userManipulationManager;
+    private final UsernameSuggestionManager usernameSuggestionManager;
 
     /**
      * Constructs a manager responsible for user account data that is initialized storing an empty list of users.
+     * Friendships are one-directional, so adding a friend does not add the current user to the friend's list.
      */
     public UserManagerFacade() {
-        List<User> users = new ArrayList<>();
-        List<User> banned = new ArrayList<>();
-        IUserRepository userRepository = new UserRepository(users, banned);
-        userInformationManager = new UserInformationManager(userRepository);
-        userManipulationManager = new UserManipulationManager(userRepository);
+        this(new UserRepository(new ArrayList<>(), new ArrayList<>()), new FriendGraph());
+    }
+
+    /**
+     * Constructs a manager responsible for the users in <code>userRepository</code> and the friendships in
+     * <code>friendGraph</code>.
+     */
+    private UserManagerFacade(IUserRepository userRepository, FriendGraph friendGraph) {
+        userInformationManager = new UserInformationManager(userRepository, friendGraph);
+        userManipulationManager = new UserManipulationManager(userRepository, friendGraph);
+        usernameSuggestionManager = new UsernameSuggestionManager(userRepository);
     }
 
     //<editor-fold desc="Getting Information">
@@ -132,6 +141,39 @@ public class UserManagerFacade implements Serializable {
         return userInformationManager.getFriendsList(curUser);
     }
 
+    /**
+     * Returns up to <code>limit</code> usernames of existing users that the given user may know but has not yet
+     * added to their friends list, ordered from most to least likely. Users are recommended based on the number of
+     * friends they have in common with the given user and the number of events they both attend.
+     *
+     * @param curUser              the username of the <code>User</code> to recommend friends to
+     * @param sharedEventAttendees the attendee lists of the events that <code>curUser</code> attends
+     * @param limit                the maximum number of usernames to return
+     * @return a list of at most <code>limit</code> recommended usernames, with the best recommendation first
+     */
+    public List<String> getFriendRecommendations(String curUser, List<List<String>> sharedEventAttendees, int limit) {
+        return userInformationManager.getFriendRecommendations(curUser, sharedEventAttendees, limit);
+    }
+
+    /**
+     * Returns the maximum number of friends-of-friends and event attendees that are examined when recommending
+     * friends to a user. Callers can use it to avoid collecting more attendees than will be examined.
+     *
+     * @return the maximum number of candidates examined for one recommendation
+     */
+    public int getMaxRecommendationCandidates() {
+        return userInformationManager.getMaxRecommendationCandidates();
+    }
+
+    /**
+     * Returns whether friendships are mutual, so that adding or removing a friend affects both users' friends lists.
+     *
+     * @return true if friendships are mutual
+     */
+    public boolean hasMutualFriendships() {
+        return userInformationManager.hasMutualFriendships();
+    }
+
     /**
      * Returns a list of usernames corresponding to users that are of the specified <code>UserType</code> .
      *
@@ -141,6 +183,28 @@ public class UserManagerFacade implements Serializable {
     public List<String> getAllUsernamesOfType(UserType userType) {
         return userInformationManager.getAllUsernamesOfType(userType);
     }
+
+    /**
+     * Returns the number of users that are of the specified <code>UserType</code>.
+     *
+     * @param userType the type of <code>User</code> to count
+     * @return the number of <code>Users</code> that are of userType
+     */
+    public int getNumberOfUsersOfType(UserType userType) {
+        return userInformationManager.getNumberOfUsersOfType(userType);
+    }
+
+    /**
+     * Returns a list of <code>count</code> distinct usernames that are not in use, each of which is formed by
+     * appending a number to <code>username</code>. The first username in the list is the preferred suggestion.
+     *
+     * @param username the username that the user wanted
+     * @param count    the number of usernames to suggest
+     * @return a list of available usernames similar to <code>username</code>
+     */
+    public List<String> suggestUsernames(String username, int count) {
+        return usernameSuggestionManager.suggestUsernames(username, count);
+    }
     //</editor-fold>
 
     //<editor-fold desc="Manipulating Users">
@@ -224,5 +288,40 @@ public class UserManagerFacade implements Serializable {
     public void removeFriend(String requestingUser, String removedUser) {
         userManipulationManager.removeFriend(requestingUser, removedUser);
     }
+
+    /**
+     * Sets whether friendships are mutual. Turning mutual mode on makes every existing friendship mutual, and
+     * turning it off keeps the existing friendships.
+     *
+     * @param mutual whether a friendship added or removed by one user is also added or removed for the other user
+     */
+    public void setMutualFriendships(boolean mutual) {
+        userManipulationManager.setMutualFriendships(mutual);
+    }
     //</editor-fold>
+
+    /**
+     * Replaces a manager that was saved before friendships were stored in a <code>FriendGraph</code> with an
+     * equivalent manager, moving each user's saved friends list into a new graph.
+     *
+     * @return this manager, or an equivalent manager with a friend graph if it was saved without one
+     */
+    private Object readResolve() {
+        if (usernameSuggestionManager != null) {
+            return this;
+        }
+        IUserRepository userRepository = userInformationManager.getUserRepository();
+        FriendGraph friendGraph = new FriendGraph();
+        List<User> allUsers = userRepository.getUsers();
+        allUsers.addAll(userRepository.getBanned());
+        for (User user : allUsers) {
+            List<String> friends = user.takeLegacyFriends();
+            if (friends != null) {
+                for (String friend : friends) {
+                    friendGraph.addFriend(user.getUsername(), friend);
+                }
+            }
+        }
+        return new UserManagerFacade(userRepository, friendGraph);
+    }
 }
@@ -9,15 +9,20 @@ import java.io.Serializable;
  * The <code>UserManipulationController</code> class is responsible for manipulating and changing user data.
  */
 public class UserManipulationManager implements Serializable {
+    private static final long serialVersionUID = 2344672373165335440L;
+
     private final IUserRepository userRepository;
+    private final FriendGraph friendGraph;
 
     /**
      * Constructs a manager responsible for manipulating and changing user data.
      *
      * @param userRepository a <code>UserRepository</code> object that contains the users in the conference
+     * @param friendGraph    a <code>FriendGraph</code> object containing the friendships between users
      */
-    public UserManipulationManager(IUserRepository userRepository) {
+    public UserManipulationManager(IUserRepository userRepository, FriendGraph friendGraph) {
         this.userRepository = userRepository;
+        this.friendGraph = friendGraph;
     }
 
     /**
@@ -27,7 +32,7 @@ public class UserManipulationManager implements Serializable {
      * @param newType the new <code>UserType</code>> to be assigned to the given user
      */
     public void changeUserType(String user, UserType newType) {
-        userRepository.getUserWithUsername(user).setUserType(newType);
+        userRepository.changeUserType(user, newType);
     }
 
     /**
@@ -52,10 +57,10 @@ public class UserManipulationManager implements Serializable {
      */
     public void unBanUser(String username) {
         User temp = userRepository.getBannedUserWithUsername(username);
-        userRepository.getBanned().remove(temp);
+        userRepository.removeBanned(username);
         temp.setBanBy(null);
         temp.setBanReason(null);
-        userRepository.getUsers().add(temp);
+        userRepository.addUser(temp);
     }
 
 
@@ -68,10 +73,12 @@ public class UserManipulationManager implements Serializable {
         UserType userType = userRepository.getUserWithUsername(username).getUserType();
         if (userRepository.userExists(username) && userType != UserType.ADMIN && userType != UserType.ORGANIZER) {
             userRepository.removeUser(username);
+            friendGraph.removeUser(username);
             return true;
         }
         if (userRepository.bannedUserExists(username)) {
             userRepository.removeBanned(username);
+            friendGraph.removeUser(username);
             return true;
         }
         return false;
@@ -101,7 +108,7 @@ public class UserManipulationManager implements Serializable {
      * @param addedUser      the username of the user to be added to the first user's friends list
      */
     public void addFriend(String requestingUser, String addedUser) {
-        userRepository.getUserWithUsername(requestingUser).addFriend(addedUser);
+        friendGraph.addFriend(requestingUser, addedUser);
     }
 
     /**
@@ -115,6 +122,15 @@ public class UserManipulationManager implements Serializable {
      * @param removedUser    the username of the user to be added to the first user's friends list
      */
     public void removeFriend(String requestingUser, String removedUser) {
-        userRepository.getUserWithUsername(requestingUser).removeFriend(removedUser);
+        friendGraph.removeFriend(requestingUser, removedUser);
+    }
+
+    /**
+     * Sets whether friendships are mutual. Turning mutual mode on makes every existing friendship mutual.
+     *
+     * @param mutual whether a friendship added or removed by one user is also added or removed for the other user
+     */
+    public void setMutualFriendships(boolean mutual) {
+        friendGraph.setMutual(mutual);
     }
 }
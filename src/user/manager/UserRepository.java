@@ -1,16 +1,30 @@
 package user.manager;
 
 import user.User;
+import user.UserType;
 
 import java.io.Serializable;
-import java.util.List;
+import java.util.*;
 
 /**
  * The <code>UserRepository</code> class is responsible for storing the <code>User</code>s in the conference.
+ * <p>
+ * Both active and banned users are stored in a single index keyed by username, where each entry records whether
+ * its user is currently banned. Lookups, bans and unbans therefore take constant time. The usernames of active users
+ * are also indexed by <code>UserType</code>, so users of a given type can be counted and listed without a full scan.
  */
 public class UserRepository implements IUserRepository, Serializable {
-    private final List<User> users;
-    private final List<User> banned;
+    private static final long serialVersionUID = -7924404231289743290L;
+
+    private final Map<String, UserEntry> usersByUsername;
+    private final Map<UserType, Set<String>> usernamesByType;
+
+    /**
+     * The lists of active and banned users saved by versions of the program that stored users in lists. They are
+     * only set while such a repository is being loaded, and are null otherwise.
+     */
+    private List<User> users;
+    private List<User> banned;
 
     /**
      * Constructs a repository responsible for storing the <code>User</code>s in the conference.
@@ -19,8 +33,17 @@ public class UserRepository implements IUserRepository, Serializable {
      * @param banned a list of banned <code>User</code>s to be stored
      */
     public UserRepository(List<User> users, List<User> banned) {
-        this.users = users;
-        this.banned = banned;
+        this.usersByUsername = new LinkedHashMap<>();
+        this.usernamesByType = new EnumMap<>(UserType.class);
+        for (UserType userType : UserType.values()) {
+            usernamesByType.put(userType, new LinkedHashSet<>());
+        }
+        for (User user : users) {
+            addUser(user);
+        }
+        for (User user : banned) {
+            addBanned(user);
+        }
     }
 
     /**
@@ -33,11 +56,10 @@ public class UserRepository implements IUserRepository, Serializable {
      */
     @Override
     public User getUserWithUsername(String username) {
-        for (User user : users) {
-            if (user.getUsername().equals(username))
-                return user;
-        }
-        throw new UserNotFoundException(String.format("User with username %s does not exist.", username));
+        UserEntry entry = usersByUsername.get(username);
+        if (entry == null || entry.banned)
+            throw new UserNotFoundException(String.format("User with username %s does not exist.", username));
+        return entry.user;
     }
 
     /**
@@ -50,51 +72,74 @@ public class UserRepository implements IUserRepository, Serializable {
      */
     @Override
     public User getBannedUserWithUsername(String username) {
-        for (User user : banned) {
-            if (user.getUsername().equals(username))
-                return user;
-        }
-        throw new UserNotFoundException(String.format("User with username %s does not exist.", username));
+        UserEntry entry = usersByUsername.get(username);
+        if (entry == null || !entry.banned)
+            throw new UserNotFoundException(String.format("User with username %s does not exist.", username));
+        return entry.user;
     }
 
     /**
      * Returns a list of the <code>User</code>s stored in this repository.
+     * Modifying the returned list does not modify this repository.
      *
      * @return a list of the <code>User</code>s stored in this repository
      */
     @Override
     public List<User> getUsers() {
-        return users;
+        return collectUsers(false);
     }
 
     /**
      * Returns a list of the <code>User</code>s in this repository who are banned.
+     * Modifying the returned list does not modify this repository.
      *
      * @return a list of the <code>User</code>s in this repository who are banned
      */
     @Override
     public List<User> getBanned() {
-        return banned;
+        return collectUsers(true);
+    }
+
+    private List<User> collectUsers(boolean banned) {
+        List<User> users = new ArrayList<>();
+        for (UserEntry entry : usersByUsername.values()) {
+            if (entry.banned == banned)
+                users.add(entry.user);
+        }
+        return users;
     }
 
     /**
-     * Adds a <code>User</code> to this repository.
+     * Adds a <code>User</code> to this repository, replacing any stored user with the same username.
      *
      * @param user the user to add
      */
     @Override
     public void addUser(User user) {
-        users.add(user);
+        UserEntry previous = usersByUsername.put(user.getUsername(), new UserEntry(user, false));
+        removeFromTypeIndex(previous);
+        usernamesByType.get(user.getUserType()).add(user.getUsername());
     }
 
     /**
-     * Registers a <code>User</code> as banned.
+     * Registers a <code>User</code> as banned, replacing any stored user with the same username.
      *
      * @param user the user to register as banned
      */
     @Override
     public void addBanned(User user) {
-        banned.add(user);
+        UserEntry previous = usersByUsername.put(user.getUsername(), new UserEntry(user, true));
+        removeFromTypeIndex(previous);
+    }
+
+    /**
+     * Removes the username of a replaced entry from the type index, if that entry was an active user. The type is
+     * taken from the replaced <code>User</code>, since the new one may be of a different type.
+     */
+    private void removeFromTypeIndex(UserEntry previous) {
+        if (previous != null && !previous.banned) {
+            usernamesByType.get(previous.user.getUserType()).remove(previous.user.getUsername());
+        }
     }
 
     /**
@@ -105,7 +150,8 @@ public class UserRepository implements IUserRepository, Serializable {
     @Override
     public void removeUser(String username) {
         User user = getUserWithUsername(username);
-        users.remove(user);
+        usersByUsername.remove(username);
+        usernamesByType.get(user.getUserType()).remove(username);
     }
 
     /**
@@ -115,8 +161,8 @@ public class UserRepository implements IUserRepository, Serializable {
      */
     @Override
     public void removeBanned(String username) {
-        User user = getBannedUserWithUsername(username);
-        banned.remove(user);
+        getBannedUserWithUsername(username);
+        usersByUsername.remove(username);
     }
 
     /**
@@ -127,11 +173,8 @@ public class UserRepository implements IUserRepository, Serializable {
      */
     @Override
     public boolean userExists(String username) {
-        for (User user : users) {
-            if (user.getUsername().equals(username))
-                return true;
-        }
-        return false;
+        UserEntry entry = usersByUsername.get(username);
+        return entry != null && !entry.banned;
     }
 
     /**
@@ -142,10 +185,73 @@ public class UserRepository implements IUserRepository, Serializable {
      */
     @Override
     public boolean bannedUserExists(String username) {
-        for (User user : banned) {
-            if (user.getUsername().equals(username))
-                return true;
+        UserEntry entry = usersByUsername.get(username);
+        return entry != null && entry.banned;
+    }
+
+    /**
+     * Returns a list of the usernames of the <code>User</code>s in this repository that are of the given type and are
+     * not banned. Modifying the returned list does not modify this repository.
+     *
+     * @param userType the <code>UserType</code> of the desired users
+     * @return a list of the usernames of the users of type <code>userType</code>
+     */
+    @Override
+    public List<String> getUsernamesOfType(UserType userType) {
+        return new ArrayList<>(usernamesByType.get(userType));
+    }
+
+    /**
+     * Returns the number of <code>User</code>s in this repository that are of the given type and are not banned.
+     *
+     * @param userType the <code>UserType</code> of the users to count
+     * @return the number of users of type <code>userType</code>
+     */
+    @Override
+    public int countUsersOfType(UserType userType) {
+        return usernamesByType.get(userType).size();
+    }
+
+    /**
+     * Changes the <code>UserType</code> of the <code>User</code> with the given username.
+     * Precondition: username is the username of an existing <code>User</code>
+     *
+     * @param username the username of the user whose type is being changed
+     * @param newType  the new type of the user
+     * @throws UserNotFoundException if the given username is not the username of an existing user
+     */
+    @Override
+    public void changeUserType(String username, UserType newType) {
+        User user = getUserWithUsername(username);
+        usernamesByType.get(user.getUserType()).remove(username);
+        user.setUserType(newType);
+        usernamesByType.get(newType).add(username);
+    }
+
+    /**
+     * Replaces a repository that was saved as lists of users with an equivalent indexed repository.
+     *
+     * @return this repository, or an indexed copy of it if it was saved as lists of users
+     */
+    private Object readResolve() {
+        if (usersByUsername == null) {
+            return new UserRepository(users, banned);
+        }
+        return this;
+    }
+
+    /**
+     * A <code>User</code> stored in this repository together with whether they are currently banned.
+     */
+    private static class UserEntry implements Serializable {
+        private static final long serialVersionUID = -7780364094487169977L;
+
+        private final User user;
+        private final boolean banned;
+
+        private UserEntry(User user, boolean banned) {
+            this.user = user;
+            this.banned = banned;
         }
-        return false;
     }
 }
@@ -0,0 +1,75 @@
+package user.manager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>UsernameSuggestionManager</code> class is responsible for suggesting available usernames when a desired
+ * username is already in use.
+ * <p>
+ * Suggestions are formed by appending a number to the desired username. The next number to try is remembered for each
+ * desired username, so repeated requests for a popular username do not retry every number that has already been
+ * handed out.
+ * <p>
+ * This class is not thread-safe, and suggestions are not safe to make during concurrent registrations. Like the
+ * <code>UserRepository</code> it reads from, it is only used by the single thread that runs the console, and a
+ * suggested username is not reserved until an account is created with it.
+ */
+public class UsernameSuggestionManager implements Serializable {
+    private static final long serialVersionUID = 5559850317432440917L;
+
+    private final IUserRepository userRepository;
+    private final Map<String, Integer> nextSuffixes;
+
+    /**
+     * Constructs a manager responsible for suggesting available usernames.
+     *
+     * @param userRepository a <code>UserRepository</code> object containing the users in the conference
+     */
+    public UsernameSuggestionManager(IUserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.nextSuffixes = new HashMap<>();
+    }
+
+    /**
+     * Returns a list of <code>count</code> distinct usernames that are not in use, each of which is formed by
+     * appending a number to <code>username</code>. The first username in the list is the preferred suggestion.
+     *
+     * @param username the username that the user wanted
+     * @param count    the number of usernames to suggest
+     * @return a list of available usernames similar to <code>username</code>, which is empty if <code>count</code>
+     * is less than 1
+     */
+    public List<String> suggestUsernames(String username, int count) {
+        List<String> suggestions = new ArrayList<>();
+        if (count < 1) {
+            return suggestions;
+        }
+        int suffix = nextSuffixes.getOrDefault(username, 1);
+        while (suggestions.size() < count) {
+            String candidate = username + suffix;
+            if (!usernameInUse(candidate)) {
+                suggestions.add(candidate);
+            }
+            suffix++;
+        }
+        nextSuffixes.put(username, firstUnusedSuffix(username, suggestions));
+        return suggestions;
+    }
+
+    /**
+     * Returns the suffix that the next suggestion for <code>username</code> should start from. Suggestions that were
+     * not taken are still available, so the search resumes at the first of them.
+     */
+    private int firstUnusedSuffix(String username, List<String> suggestions) {
+        String first = suggestions.get(0);
+        return Integer.parseInt(first.substring(username.length()));
+    }
+
+    private boolean usernameInUse(String username) {
+        return userRepository.userExists(username) || userRepository.bannedUserExists(username);
+    }
+}
@@ -225,11 +225,11 @@ public class ViewController extends UserTypeInputController<ViewPrompts> {
 
     private void viewUserDistribution() {
         Map<UserType, Integer> typeToNumUsers = new HashMap<>();
-        typeToNumUsers.put(UserType.ATTENDEE, userManager.getAllUsernamesOfType(UserType.ATTENDEE).size());
-        typeToNumUsers.put(UserType.ORGANIZER, userManager.getAllUsernamesOfType(UserType.ORGANIZER).size());
-        typeToNumUsers.put(UserType.SPEAKER, userManager.getAllUsernamesOfType(UserType.SPEAKER).size());
-        typeToNumUsers.put(UserType.VIP, userManager.getAllUsernamesOfType(UserType.VIP).size());
-        typeToNumUsers.put(UserType.ADMIN, userManager.getAllUsernamesOfType(UserType.ADMIN).size());
+        typeToNumUsers.put(UserType.ATTENDEE, userManager.getNumberOfUsersOfType(UserType.ATTENDEE));
+        typeToNumUsers.put(UserType.ORGANIZER, userManager.getNumberOfUsersOfType(UserType.ORGANIZER));
+        typeToNumUsers.put(UserType.SPEAKER, userManager.getNumberOfUsersOfType(UserType.SPEAKER));
+        typeToNumUsers.put(UserType.VIP, userManager.getNumberOfUsersOfType(UserType.VIP));
+        typeToNumUsers.put(UserType.ADMIN, userManager.getNumberOfUsersOfType(UserType.ADMIN));
         viewPresenter.displayUserDistribution(typeToNumUsers);
     }
 